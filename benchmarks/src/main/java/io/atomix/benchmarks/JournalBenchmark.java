@@ -0,0 +1,137 @@
+/*
+ * Copyright 2018-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.benchmarks;
+
+import io.atomix.storage.StorageLevel;
+import io.atomix.storage.journal.Indexed;
+import io.atomix.storage.journal.JournalReader;
+import io.atomix.storage.journal.JournalWriter;
+import io.atomix.storage.journal.SegmentedJournal;
+import io.atomix.utils.serializer.KryoNamespace;
+import io.atomix.utils.serializer.Serializer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Segmented journal benchmark.
+ * <p>
+ * Measures appending entries to and reading entries from a {@link SegmentedJournal} for each {@link StorageLevel}.
+ * The journal is recreated for each iteration so that appends do not accumulate across iterations.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JournalBenchmark {
+  private static final int READ_ENTRIES = 100000;
+
+  private static final Serializer SERIALIZER = Serializer.using(KryoNamespace.builder()
+      .register(byte[].class)
+      .build());
+
+  @Param({"MEMORY", "MAPPED", "DISK"})
+  private StorageLevel storageLevel;
+
+  @Param({"64", "1024"})
+  private int entrySize;
+
+  private Path directory;
+  private SegmentedJournal<byte[]> journal;
+  private JournalWriter<byte[]> writer;
+  private JournalReader<byte[]> reader;
+  private byte[] entry;
+
+  @Setup(Level.Iteration)
+  public void setup() throws IOException {
+    directory = Files.createTempDirectory("journal-benchmark");
+    journal = SegmentedJournal.<byte[]>builder()
+        .withName("benchmark")
+        .withDirectory(directory.toFile())
+        .withSerializer(SERIALIZER)
+        .withStorageLevel(storageLevel)
+        .build();
+    writer = journal.writer();
+    entry = new byte[entrySize];
+    for (int i = 0; i < READ_ENTRIES; i++) {
+      writer.append(entry);
+    }
+    writer.flush();
+    reader = journal.openReader(1);
+  }
+
+  @TearDown(Level.Iteration)
+  public void teardown() throws IOException {
+    reader.close();
+    journal.close();
+    deleteDirectory(directory);
+  }
+
+  @Benchmark
+  public long append() {
+    return writer.append(entry).index();
+  }
+
+  @Benchmark
+  public long read() {
+    if (!reader.hasNext()) {
+      reader.reset();
+    }
+    Indexed<byte[]> indexed = reader.next();
+    return indexed.index();
+  }
+
+  /**
+   * Recursively deletes the given directory.
+   */
+  private static void deleteDirectory(Path directory) throws IOException {
+    if (Files.exists(directory)) {
+      Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+          Files.delete(file);
+          return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+          Files.delete(dir);
+          return FileVisitResult.CONTINUE;
+        }
+      });
+    }
+  }
+}
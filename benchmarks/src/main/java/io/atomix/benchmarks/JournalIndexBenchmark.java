@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.benchmarks;
+
+import io.atomix.storage.journal.index.DenseJournalIndex;
+import io.atomix.storage.journal.index.JournalIndex;
+import io.atomix.storage.journal.index.Position;
+import io.atomix.storage.journal.index.SparseJournalIndex;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Journal index benchmark.
+ * <p>
+ * Measures {@link JournalIndex#lookup(long)} of random indexes for a range of index densities. Segments use the
+ * {@link DenseJournalIndex}; the {@link SparseJournalIndex} is measured for comparison.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JournalIndexBenchmark {
+  private static final int ENTRIES = 1024 * 1024;
+  private static final int ENTRY_SIZE = 64;
+
+  /**
+   * Journal index implementation.
+   */
+  public enum Type {
+    DENSE {
+      @Override
+      JournalIndex newIndex(double density) {
+        return new DenseJournalIndex(density);
+      }
+    },
+    SPARSE {
+      @Override
+      JournalIndex newIndex(double density) {
+        return new SparseJournalIndex(density);
+      }
+    };
+
+    abstract JournalIndex newIndex(double density);
+  }
+
+  @Param({"DENSE", "SPARSE"})
+  private Type type;
+
+  @Param({"0.005", "0.05", "1.0"})
+  private double density;
+
+  private JournalIndex index;
+
+  @Setup
+  public void setup() {
+    index = type.newIndex(density);
+    for (int i = 1; i <= ENTRIES; i++) {
+      index.index(i, i * ENTRY_SIZE);
+    }
+  }
+
+  @Benchmark
+  public Position lookup() {
+    return index.lookup(ThreadLocalRandom.current().nextInt(1, ENTRIES + 1));
+  }
+}
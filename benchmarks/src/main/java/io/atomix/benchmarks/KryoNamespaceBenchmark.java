@@ -0,0 +1,81 @@
+/*
+ * Copyright 2018-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.benchmarks;
+
+import io.atomix.utils.serializer.KryoNamespace;
+import io.atomix.utils.serializer.KryoNamespaces;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kryo namespace benchmark.
+ * <p>
+ * Measures {@link KryoNamespace#serialize(Object)} and {@link KryoNamespace#deserialize(byte[])} for a map of
+ * string keys to byte array values, which resembles the values stored by map primitives.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class KryoNamespaceBenchmark {
+
+  @Param({"1", "16", "256"})
+  private int entries;
+
+  @Param({"16", "1024"})
+  private int valueSize;
+
+  private KryoNamespace namespace;
+  private Map<String, byte[]> value;
+  private byte[] bytes;
+
+  @Setup
+  public void setup() {
+    namespace = KryoNamespace.builder()
+        .register(KryoNamespaces.BASIC)
+        .build("benchmark");
+    value = new HashMap<>();
+    for (int i = 0; i < entries; i++) {
+      value.put("key-" + i, new byte[valueSize]);
+    }
+    bytes = namespace.serialize(value);
+  }
+
+  @Benchmark
+  public byte[] serialize() {
+    return namespace.serialize(value);
+  }
+
+  @Benchmark
+  public Map<String, byte[]> deserialize() {
+    return namespace.deserialize(bytes);
+  }
+}
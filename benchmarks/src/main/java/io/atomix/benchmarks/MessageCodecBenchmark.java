@@ -0,0 +1,113 @@
+/*
+ * Copyright 2018-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.benchmarks;
+
+import io.atomix.messaging.impl.InternalRequest;
+import io.atomix.messaging.impl.MessageDecoder;
+import io.atomix.messaging.impl.MessageEncoder;
+import io.atomix.utils.net.Address;
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Messaging codec benchmark.
+ * <p>
+ * Measures the cost of encoding and decoding a request with {@link MessageEncoder} and {@link MessageDecoder} for
+ * a range of payload sizes, with and without subject interning. Requests reuse the same subject, so once interning is
+ * enabled the encoded form carries the subject's interned ID rather than the subject itself.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MessageCodecBenchmark {
+  private static final Address ADDRESS = Address.from("localhost", 5000);
+  private static final int PREAMBLE = 1;
+  private static final String SUBJECT = "raft-partition-1-append";
+
+  @Param({"64", "1024", "16384"})
+  private int payloadSize;
+
+  @Param({"true", "false"})
+  private boolean internSubjects;
+
+  private EmbeddedChannel encoder;
+  private EmbeddedChannel decoder;
+  private InternalRequest request;
+  private ByteBuf encoded;
+
+  @Setup
+  public void setup() {
+    MessageEncoder messageEncoder = new MessageEncoder(ADDRESS, PREAMBLE);
+    if (internSubjects) {
+      messageEncoder.enableSubjectInterning();
+    }
+    encoder = new EmbeddedChannel(messageEncoder);
+    decoder = new EmbeddedChannel(new MessageDecoder());
+    request = new InternalRequest(PREAMBLE, 1, ADDRESS, SUBJECT, new byte[payloadSize]);
+
+    // Decode the first encoded request, which assigns the subject an ID on both ends, and keep the next encoded
+    // form for the decode benchmark. With interning enabled, the next form carries the subject ID.
+    decoder.writeInbound(encode());
+    ((InternalRequest) decoder.readInbound()).release();
+    encoded = encode();
+  }
+
+  @TearDown
+  public void teardown() {
+    encoded.release();
+    encoder.finishAndReleaseAll();
+    decoder.finishAndReleaseAll();
+  }
+
+  private ByteBuf encode() {
+    encoder.writeOutbound(request);
+    return encoder.readOutbound();
+  }
+
+  @Benchmark
+  public int encodeRequest() {
+    ByteBuf buffer = encode();
+    int length = buffer.readableBytes();
+    buffer.release();
+    return length;
+  }
+
+  @Benchmark
+  public long decodeRequest() {
+    decoder.writeInbound(encoded.retainedDuplicate());
+    InternalRequest message = decoder.readInbound();
+    long id = message.id();
+    message.release();
+    return id;
+  }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.benchmarks;
+
+import io.atomix.primitive.PrimitiveId;
+import io.atomix.primitive.PrimitiveType;
+import io.atomix.primitive.operation.OperationId;
+import io.atomix.primitive.operation.OperationType;
+import io.atomix.primitive.service.Commit;
+import io.atomix.primitive.service.ServiceConfig;
+import io.atomix.primitive.service.ServiceContext;
+import io.atomix.primitive.service.impl.DefaultCommit;
+import io.atomix.primitive.service.impl.DefaultServiceExecutor;
+import io.atomix.primitive.session.PrimitiveSession;
+import io.atomix.utils.serializer.KryoNamespaces;
+import io.atomix.utils.serializer.Serializer;
+import io.atomix.utils.time.LogicalClock;
+import io.atomix.utils.time.WallClock;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Service executor benchmark.
+ * <p>
+ * Measures the cost of dispatching a commit through {@link DefaultServiceExecutor#apply(Commit)}, both for raw
+ * operations that bypass the serializer and for operations that decode their input and encode their output.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ServiceExecutorBenchmark {
+  private static final OperationId RAW = OperationId.command("raw");
+  private static final OperationId ENCODED = OperationId.command("encoded");
+
+  private DefaultServiceExecutor executor;
+  private Commit<byte[]> rawCommit;
+  private Commit<byte[]> encodedCommit;
+
+  @Setup
+  public void setup() {
+    Serializer serializer = Serializer.using(KryoNamespaces.BASIC);
+    executor = new DefaultServiceExecutor(new BenchmarkServiceContext(), serializer);
+    executor.handle(RAW, commit -> commit.value());
+    executor.register(ENCODED, (Commit<String> commit) -> commit.value().length());
+    rawCommit = new DefaultCommit<>(1, RAW, new byte[64], null, System.currentTimeMillis());
+    encodedCommit = new DefaultCommit<>(1, ENCODED, serializer.encode("benchmark"), null, System.currentTimeMillis());
+  }
+
+  @Benchmark
+  public byte[] applyRaw() {
+    return executor.apply(rawCommit);
+  }
+
+  @Benchmark
+  public byte[] applyEncoded() {
+    return executor.apply(encodedCommit);
+  }
+
+  /**
+   * Service context providing only what the service executor requires.
+   */
+  private final class BenchmarkServiceContext implements ServiceContext {
+    @Override
+    public PrimitiveId serviceId() {
+      return PrimitiveId.from(1);
+    }
+
+    @Override
+    public String serviceName() {
+      return "benchmark";
+    }
+
+    @Override
+    public PrimitiveType serviceType() {
+      return null;
+    }
+
+    @Override
+    public <C extends ServiceConfig> C serviceConfig() {
+      return null;
+    }
+
+    @Override
+    public long currentIndex() {
+      return 0;
+    }
+
+    @Override
+    public PrimitiveSession currentSession() {
+      return null;
+    }
+
+    @Override
+    public OperationType currentOperation() {
+      return OperationType.COMMAND;
+    }
+
+    @Override
+    public LogicalClock logicalClock() {
+      return null;
+    }
+
+    @Override
+    public WallClock wallClock() {
+      return null;
+    }
+  }
+}
@@ -136,7 +136,7 @@ public class LeaderElectionService extends AbstractPrimitiveService {
     if (changes.isEmpty()) {
       return;
     }
-    listeners.values().forEach(session -> session.publish(CHANGE, changes));
+    publish(listeners.values(), CHANGE, changes);
   }
 
   /**
@@ -140,7 +140,7 @@ public class LeaderElectorService extends AbstractPrimitiveService {
     if (changes.isEmpty()) {
       return;
     }
-    listeners.values().forEach(session -> session.publish(CHANGE, changes));
+    publish(listeners.values(), CHANGE, changes);
   }
 
   /**
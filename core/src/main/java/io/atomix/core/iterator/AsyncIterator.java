@@ -0,0 +1,60 @@
+/*
+ * Copyright 2018-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.core.iterator;
+
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Asynchronous iterator over the contents of a distributed primitive.
+ * <p>
+ * Iterators fetch the contents of the primitive in pages rather than loading the entire primitive into memory.
+ * Iterators are not thread-safe: the future returned by each call must be completed before the next call is made.
+ * Iterators that are abandoned before being exhausted should be {@link #close() closed} to release the resources
+ * held by the primitive.
+ *
+ * @param <T> the iterator element type
+ */
+public interface AsyncIterator<T> {
+
+  /**
+   * The default number of elements to fetch in each page.
+   */
+  int DEFAULT_PAGE_SIZE = 1000;
+
+  /**
+   * Returns a boolean indicating whether the iterator has another element.
+   *
+   * @return a future to be completed with a boolean indicating whether the iterator has another element
+   */
+  CompletableFuture<Boolean> hasNext();
+
+  /**
+   * Returns the next element in the iterator.
+   * <p>
+   * If the iterator has no more elements, the returned future will be completed exceptionally with a
+   * {@link java.util.NoSuchElementException}.
+   *
+   * @return a future to be completed with the next element in the iterator
+   */
+  CompletableFuture<T> next();
+
+  /**
+   * Closes the iterator, releasing any resources held by the primitive.
+   *
+   * @return a future to be completed once the iterator has been closed
+   */
+  CompletableFuture<Void> close();
+}
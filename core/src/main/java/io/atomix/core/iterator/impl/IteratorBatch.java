@@ -0,0 +1,61 @@
+/*
+ * Copyright 2018-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.core.iterator.impl;
+
+import java.util.List;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+
+/**
+ * Page of elements returned by a primitive iterator.
+ *
+ * @param <T> the element type
+ */
+public class IteratorBatch<T> {
+  private final List<T> elements;
+  private final boolean complete;
+
+  public IteratorBatch(List<T> elements, boolean complete) {
+    this.elements = elements;
+    this.complete = complete;
+  }
+
+  /**
+   * Returns the elements in the batch.
+   *
+   * @return the elements in the batch
+   */
+  public List<T> elements() {
+    return elements;
+  }
+
+  /**
+   * Returns a boolean indicating whether this is the last batch.
+   *
+   * @return indicates whether this is the last batch
+   */
+  public boolean complete() {
+    return complete;
+  }
+
+  @Override
+  public String toString() {
+    return toStringHelper(this)
+        .add("size", elements.size())
+        .add("complete", complete)
+        .toString();
+  }
+}
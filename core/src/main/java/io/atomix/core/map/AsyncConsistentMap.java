@@ -17,6 +17,7 @@
 package io.atomix.core.map;
 
 import com.google.common.util.concurrent.MoreExecutors;
+import io.atomix.core.iterator.AsyncIterator;
 import io.atomix.core.map.impl.MapUpdate;
 import io.atomix.core.transaction.Transactional;
 import io.atomix.primitive.AsyncPrimitive;
@@ -253,6 +254,17 @@ public interface AsyncConsistentMap<K, V> extends AsyncPrimitive, Transactional<
    */
   CompletableFuture<Versioned<V>> putAndGet(K key, V value, Duration ttl);
 
+  /**
+   * Copies all of the mappings from the specified map to this map (optional operation).
+   * <p>
+   * The mappings are grouped by partition and written with a single operation per partition. The mappings
+   * for a partition are applied atomically, but mappings for different partitions may be applied independently.
+   *
+   * @param entries mappings to be stored in this map
+   * @return future that will be completed when the operation finishes
+   */
+  CompletableFuture<Void> putAll(Map<? extends K, ? extends V> entries);
+
   /**
    * Removes the mapping for a key from this map if it is present (optional operation).
    *
@@ -262,6 +274,17 @@ public interface AsyncConsistentMap<K, V> extends AsyncPrimitive, Transactional<
    */
   CompletableFuture<Versioned<V>> remove(K key);
 
+  /**
+   * Removes the mappings for the specified keys from this map if they are present (optional operation).
+   * <p>
+   * The keys are grouped by partition and removed with a single operation per partition. The keys for a
+   * partition are removed atomically, but keys for different partitions may be removed independently.
+   *
+   * @param keys keys whose mappings are to be removed from the map
+   * @return future that will be completed when the operation finishes
+   */
+  CompletableFuture<Void> removeAll(Collection<? extends K> keys);
+
   /**
    * Removes all of the mappings from this map (optional operation).
    * The map will be empty after this call returns.
@@ -303,6 +326,31 @@ public interface AsyncConsistentMap<K, V> extends AsyncPrimitive, Transactional<
    */
   CompletableFuture<Set<Entry<K, Versioned<V>>>> entrySet();
 
+  /**
+   * Returns an iterator over the entries contained in this map.
+   * <p>
+   * Unlike {@link #entrySet()}, the iterator fetches entries from the map in pages of
+   * {@link AsyncIterator#DEFAULT_PAGE_SIZE} entries rather than loading the entire map into memory.
+   *
+   * @return an iterator over the entries contained in this map
+   * @see #entryIterator(int)
+   */
+  default AsyncIterator<Entry<K, Versioned<V>>> entryIterator() {
+    return entryIterator(AsyncIterator.DEFAULT_PAGE_SIZE);
+  }
+
+  /**
+   * Returns an iterator over the entries contained in this map, fetching entries in pages of the given size.
+   * <p>
+   * Entries are read in key order within each partition as each page is fetched, so the iterator reflects updates
+   * made while iterating: keys removed before their page is fetched are skipped, and keys added after the current
+   * position are included.
+   *
+   * @param pageSize the maximum number of entries to fetch in each page
+   * @return an iterator over the entries contained in this map
+   */
+  AsyncIterator<Entry<K, Versioned<V>>> entryIterator(int pageSize);
+
   /**
    * If the specified key is not already associated with a value associates
    * it with the given value and returns null, else behaves as a get
@@ -401,6 +449,33 @@ public interface AsyncConsistentMap<K, V> extends AsyncPrimitive, Transactional<
    */
   CompletableFuture<Void> addListener(MapEventListener<K, V> listener, Executor executor);
 
+  /**
+   * Registers the specified listener to be notified whenever the map is updated with a change matching the filter.
+   * <p>
+   * The filter is evaluated by the map before events are sent to the client where possible, so only matching
+   * events are delivered to this node.
+   *
+   * @param listener listener to notify about map events
+   * @param filter   filter restricting the events delivered to the listener
+   * @return future that will be completed when the operation finishes
+   */
+  default CompletableFuture<Void> addListener(MapEventListener<K, V> listener, MapEventFilter<K> filter) {
+    return addListener(listener, filter, MoreExecutors.directExecutor());
+  }
+
+  /**
+   * Registers the specified listener to be notified whenever the map is updated with a change matching the filter.
+   * <p>
+   * The filter is evaluated by the map before events are sent to the client where possible, so only matching
+   * events are delivered to this node.
+   *
+   * @param listener listener to notify about map events
+   * @param filter   filter restricting the events delivered to the listener
+   * @param executor executor to use for handling incoming map events
+   * @return future that will be completed when the operation finishes
+   */
+  CompletableFuture<Void> addListener(MapEventListener<K, V> listener, MapEventFilter<K> filter, Executor executor);
+
   /**
    * Unregisters the specified listener such that it will no longer
    * receive map change notifications.
@@ -104,9 +104,7 @@ public final class ConsistentMapBackedJavaMap<K, V> implements Map<K, V> {
 
   @Override
   public void putAll(Map<? extends K, ? extends V> m) {
-    m.forEach((k, v) -> {
-      backingMap.put(k, v);
-    });
+    backingMap.putAll(m);
   }
 
   @Override
@@ -0,0 +1,246 @@
+/*
+ * Copyright 2018-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.core.map;
+
+import com.google.common.collect.ImmutableSet;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+import static com.google.common.base.MoreObjects.toStringHelper;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Filter restricting the {@link MapEvent}s delivered to a map event listener.
+ * <p>
+ * An event matches the filter if its key is one of the filter's keys or starts with one of the filter's key
+ * prefixes, and its type is one of the filter's event types. A filter without keys or prefixes matches events for
+ * any key, and a filter without event types matches events of any type. Key prefixes can only match {@link String}
+ * keys.
+ *
+ * @param <K> key type
+ */
+public final class MapEventFilter<K> {
+
+  private final Set<K> keys;
+  private final Set<String> keyPrefixes;
+  private final Set<MapEvent.Type> types;
+
+  /**
+   * Returns a {@code MapEventFilter} builder.
+   *
+   * @param <K> key type
+   * @return builder
+   */
+  public static <K> Builder<K> builder() {
+    return new Builder<>();
+  }
+
+  private MapEventFilter(Set<K> keys, Set<String> keyPrefixes, Set<MapEvent.Type> types) {
+    this.keys = keys;
+    this.keyPrefixes = keyPrefixes;
+    this.types = types;
+  }
+
+  /**
+   * Returns the set of keys matched by the filter.
+   *
+   * @return the set of keys matched by the filter
+   */
+  public Set<K> keys() {
+    return keys;
+  }
+
+  /**
+   * Returns the set of key prefixes matched by the filter.
+   *
+   * @return the set of key prefixes matched by the filter
+   */
+  public Set<String> keyPrefixes() {
+    return keyPrefixes;
+  }
+
+  /**
+   * Returns the set of event types matched by the filter.
+   *
+   * @return the set of event types matched by the filter
+   */
+  public Set<MapEvent.Type> types() {
+    return types;
+  }
+
+  /**
+   * Returns a boolean indicating whether the given event matches the filter.
+   *
+   * @param event the event to test
+   * @return indicates whether the event matches the filter
+   */
+  public boolean test(MapEvent<K, ?> event) {
+    return (types.isEmpty() || types.contains(event.type())) && testKey(event.key());
+  }
+
+  /**
+   * Returns a boolean indicating whether the given key matches the filter.
+   *
+   * @param key the key to test
+   * @return indicates whether the key matches the filter
+   */
+  public boolean testKey(K key) {
+    if (keys.isEmpty() && keyPrefixes.isEmpty()) {
+      return true;
+    }
+    if (keys.contains(key)) {
+      return true;
+    }
+    if (key instanceof String) {
+      for (String prefix : keyPrefixes) {
+        if (((String) key).startsWith(prefix)) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns a new filter with the keys mapped by the given function.
+   * <p>
+   * Key prefixes cannot be mapped to another key type, so the returned filter matches any key if this filter has
+   * key prefixes.
+   *
+   * @param mapper the key mapper
+   * @param <T> the mapped key type
+   * @return the mapped filter
+   */
+  public <T> MapEventFilter<T> map(Function<K, T> mapper) {
+    Builder<T> builder = MapEventFilter.<T>builder().withTypes(types);
+    if (keyPrefixes.isEmpty()) {
+      builder.withKeys(keys.stream().map(mapper).collect(ImmutableSet.toImmutableSet()));
+    }
+    return builder.build();
+  }
+
+  @Override
+  public int hashCode() {
+    return Objects.hash(keys, keyPrefixes, types);
+  }
+
+  @Override
+  public boolean equals(Object object) {
+    if (object instanceof MapEventFilter) {
+      MapEventFilter that = (MapEventFilter) object;
+      return this.keys.equals(that.keys)
+          && this.keyPrefixes.equals(that.keyPrefixes)
+          && this.types.equals(that.types);
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return toStringHelper(this)
+        .add("keys", keys)
+        .add("keyPrefixes", keyPrefixes)
+        .add("types", types)
+        .toString();
+  }
+
+  /**
+   * Map event filter builder.
+   *
+   * @param <K> key type
+   */
+  public static class Builder<K> implements io.atomix.utils.Builder<MapEventFilter<K>> {
+    private Set<K> keys = ImmutableSet.of();
+    private Set<String> keyPrefixes = ImmutableSet.of();
+    private Set<MapEvent.Type> types = ImmutableSet.of();
+
+    /**
+     * Sets the keys matched by the filter.
+     *
+     * @param keys the keys matched by the filter
+     * @return the filter builder
+     */
+    public Builder<K> withKeys(Collection<? extends K> keys) {
+      this.keys = ImmutableSet.copyOf(checkNotNull(keys, "keys cannot be null"));
+      return this;
+    }
+
+    /**
+     * Sets the keys matched by the filter.
+     *
+     * @param keys the keys matched by the filter
+     * @return the filter builder
+     */
+    @SafeVarargs
+    public final Builder<K> withKeys(K... keys) {
+      return withKeys(Arrays.asList(keys));
+    }
+
+    /**
+     * Sets the key prefixes matched by the filter.
+     *
+     * @param keyPrefixes the key prefixes matched by the filter
+     * @return the filter builder
+     */
+    public Builder<K> withKeyPrefixes(Collection<String> keyPrefixes) {
+      this.keyPrefixes = ImmutableSet.copyOf(checkNotNull(keyPrefixes, "keyPrefixes cannot be null"));
+      return this;
+    }
+
+    /**
+     * Sets the key prefixes matched by the filter.
+     *
+     * @param keyPrefixes the key prefixes matched by the filter
+     * @return the filter builder
+     */
+    public Builder<K> withKeyPrefixes(String... keyPrefixes) {
+      return withKeyPrefixes(Arrays.asList(keyPrefixes));
+    }
+
+    /**
+     * Sets the event types matched by the filter.
+     *
+     * @param types the event types matched by the filter
+     * @return the filter builder
+     */
+    public Builder<K> withTypes(Collection<MapEvent.Type> types) {
+      // ImmutableSet.copyOf returns an ImmutableEnumSet for EnumSets, which the serializer doesn't support.
+      this.types = ImmutableSet.<MapEvent.Type>builder()
+          .addAll(checkNotNull(types, "types cannot be null"))
+          .build();
+      return this;
+    }
+
+    /**
+     * Sets the event types matched by the filter.
+     *
+     * @param types the event types matched by the filter
+     * @return the filter builder
+     */
+    public Builder<K> withTypes(MapEvent.Type... types) {
+      return withTypes(Arrays.asList(types));
+    }
+
+    @Override
+    public MapEventFilter<K> build() {
+      return new MapEventFilter<>(keys, keyPrefixes, types);
+    }
+  }
+}
@@ -16,10 +16,13 @@
 package io.atomix.core.map.impl;
 
 import com.google.common.base.Throwables;
+import com.google.common.collect.Streams;
+import io.atomix.core.iterator.impl.BlockingIterator;
 import io.atomix.core.map.AsyncConsistentMap;
 import io.atomix.core.map.ConsistentMap;
 import io.atomix.core.map.ConsistentMapBackedJavaMap;
 import io.atomix.core.map.ConsistentMapException;
+import io.atomix.core.map.MapEventFilter;
 import io.atomix.core.map.MapEventListener;
 import io.atomix.primitive.Synchronous;
 import io.atomix.utils.concurrent.Retries;
@@ -39,6 +42,7 @@ import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Default implementation of {@code ConsistentMap}.
@@ -132,11 +136,21 @@ public class BlockingConsistentMap<K, V> extends Synchronous<AsyncConsistentMap<
     return complete(asyncMap.putAndGet(key, value, ttl));
   }
 
+  @Override
+  public void putAll(Map<? extends K, ? extends V> entries) {
+    complete(asyncMap.putAll(entries));
+  }
+
   @Override
   public Versioned<V> remove(K key) {
     return complete(asyncMap.remove(key));
   }
 
+  @Override
+  public void removeAll(Collection<? extends K> keys) {
+    complete(asyncMap.removeAll(keys));
+  }
+
   @Override
   public void clear() {
     complete(asyncMap.clear());
@@ -157,6 +171,13 @@ public class BlockingConsistentMap<K, V> extends Synchronous<AsyncConsistentMap<
     return complete(asyncMap.entrySet());
   }
 
+  @Override
+  public Stream<Map.Entry<K, Versioned<V>>> entryStream(int pageSize) {
+    BlockingIterator<Map.Entry<K, Versioned<V>>> iterator =
+        new BlockingIterator<>(asyncMap.entryIterator(pageSize), operationTimeoutMillis);
+    return Streams.stream(iterator).onClose(iterator::close);
+  }
+
   @Override
   public Versioned<V> putIfAbsent(K key, V value, Duration ttl) {
     return complete(asyncMap.putIfAbsent(key, value, ttl));
@@ -192,6 +213,11 @@ public class BlockingConsistentMap<K, V> extends Synchronous<AsyncConsistentMap<
     complete(asyncMap.addListener(listener, executor));
   }
 
+  @Override
+  public void addListener(MapEventListener<K, V> listener, MapEventFilter<K> filter, Executor executor) {
+    complete(asyncMap.addListener(listener, filter, executor));
+  }
+
   @Override
   public void removeListener(MapEventListener<K, V> listener) {
     complete(asyncMap.removeListener(listener));
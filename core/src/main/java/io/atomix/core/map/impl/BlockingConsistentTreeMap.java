@@ -17,10 +17,13 @@
 package io.atomix.core.map.impl;
 
 import com.google.common.base.Throwables;
+import com.google.common.collect.Streams;
+import io.atomix.core.iterator.impl.BlockingIterator;
 import io.atomix.core.map.AsyncConsistentTreeMap;
 import io.atomix.core.map.ConsistentMapBackedJavaMap;
 import io.atomix.core.map.ConsistentMapException;
 import io.atomix.core.map.ConsistentTreeMap;
+import io.atomix.core.map.MapEventFilter;
 import io.atomix.core.map.MapEventListener;
 import io.atomix.primitive.Synchronous;
 import io.atomix.utils.time.Versioned;
@@ -39,6 +42,7 @@ import java.util.concurrent.TimeoutException;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.stream.Stream;
 
 /**
  * Implementation of the {@link ConsistentTreeMap} interface.
@@ -202,11 +206,21 @@ public class BlockingConsistentTreeMap<V>
     return complete(treeMap.putAndGet(key, value, ttl));
   }
 
+  @Override
+  public void putAll(Map<? extends String, ? extends V> entries) {
+    complete(treeMap.putAll(entries));
+  }
+
   @Override
   public Versioned<V> remove(String key) {
     return complete(treeMap.remove(key));
   }
 
+  @Override
+  public void removeAll(Collection<? extends String> keys) {
+    complete(treeMap.removeAll(keys));
+  }
+
   @Override
   public void clear() {
     complete(treeMap.clear());
@@ -227,6 +241,13 @@ public class BlockingConsistentTreeMap<V>
     return complete(treeMap.entrySet());
   }
 
+  @Override
+  public Stream<Map.Entry<String, Versioned<V>>> entryStream(int pageSize) {
+    BlockingIterator<Map.Entry<String, Versioned<V>>> iterator =
+        new BlockingIterator<>(treeMap.entryIterator(pageSize), operationTimeoutMillis);
+    return Streams.stream(iterator).onClose(iterator::close);
+  }
+
   @Override
   public Versioned<V> putIfAbsent(String key, V value, Duration ttl) {
     return complete(treeMap.putIfAbsent(key, value, ttl));
@@ -262,6 +283,11 @@ public class BlockingConsistentTreeMap<V>
     complete(treeMap.addListener(listener, executor));
   }
 
+  @Override
+  public void addListener(MapEventListener<String, V> listener, MapEventFilter<String> filter, Executor executor) {
+    complete(treeMap.addListener(listener, filter, executor));
+  }
+
   @Override
   public void removeListener(MapEventListener<String, V> listener) {
     complete(treeMap.removeListener(listener));
@@ -24,6 +24,8 @@ import io.atomix.core.map.MapEventListener;
 import io.atomix.utils.time.Versioned;
 import org.slf4j.Logger;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Objects;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
@@ -156,12 +158,24 @@ public class CachingAsyncConsistentMap<K, V> extends DelegatingAsyncConsistentMa
         .whenComplete((r, e) -> cache.invalidate(key));
   }
 
+  @Override
+  public CompletableFuture<Void> putAll(Map<? extends K, ? extends V> entries) {
+    return super.putAll(entries)
+        .whenComplete((r, e) -> cache.invalidateAll(entries.keySet()));
+  }
+
   @Override
   public CompletableFuture<Versioned<V>> remove(K key) {
     return super.remove(key)
         .whenComplete((r, e) -> cache.invalidate(key));
   }
 
+  @Override
+  public CompletableFuture<Void> removeAll(Collection<? extends K> keys) {
+    return super.removeAll(keys)
+        .whenComplete((r, e) -> cache.invalidateAll(keys));
+  }
+
   @Override
   public CompletableFuture<Boolean> containsKey(K key) {
     return cache.getUnchecked(key).thenApply(Objects::nonNull)
@@ -15,6 +15,9 @@
  */
 package io.atomix.core.map.impl;
 
+import io.atomix.core.iterator.impl.IteratorBatch;
+import io.atomix.core.map.MapEvent;
+import io.atomix.core.map.MapEventFilter;
 import io.atomix.core.transaction.TransactionId;
 import io.atomix.core.transaction.TransactionLog;
 import io.atomix.primitive.operation.OperationId;
@@ -24,6 +27,9 @@ import io.atomix.utils.serializer.KryoNamespace;
 import io.atomix.utils.serializer.KryoNamespaces;
 import io.atomix.utils.time.Versioned;
 
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
@@ -46,12 +52,15 @@ public enum ConsistentMapOperations implements OperationId {
   KEY_SET(OperationType.QUERY),
   VALUES(OperationType.QUERY),
   ENTRY_SET(OperationType.QUERY),
+  ITERATOR_NEXT(OperationType.QUERY),
   PUT(OperationType.COMMAND),
   PUT_IF_ABSENT(OperationType.COMMAND),
   PUT_AND_GET(OperationType.COMMAND),
+  PUT_ALL(OperationType.COMMAND),
   REMOVE(OperationType.COMMAND),
   REMOVE_VALUE(OperationType.COMMAND),
   REMOVE_VERSION(OperationType.COMMAND),
+  REMOVE_ALL(OperationType.COMMAND),
   REPLACE(OperationType.COMMAND),
   REPLACE_VALUE(OperationType.COMMAND),
   REPLACE_VERSION(OperationType.COMMAND),
@@ -111,6 +120,13 @@ public enum ConsistentMapOperations implements OperationId {
       .register(MapEntryUpdateResult.Status.class)
       .register(Versioned.class)
       .register(byte[].class)
+      .register(AddListener.class)
+      .register(MapEventFilter.class)
+      .register(MapEvent.Type.class)
+      .register(PutAll.class)
+      .register(RemoveAll.class)
+      .register(IteratorNext.class)
+      .register(IteratorBatch.class)
       .build(ConsistentMapOperations.class.getSimpleName());
 
   /**
@@ -279,6 +295,48 @@ public enum ConsistentMapOperations implements OperationId {
     }
   }
 
+  /**
+   * Iterator next query.
+   */
+  public static class IteratorNext extends MapOperation {
+    private String lastKey;
+    private int pageSize;
+
+    public IteratorNext() {
+    }
+
+    public IteratorNext(String lastKey, int pageSize) {
+      this.lastKey = lastKey;
+      this.pageSize = pageSize;
+    }
+
+    /**
+     * Returns the last key of the previous page.
+     *
+     * @return the last key of the previous page, or {@code null} to read the first page
+     */
+    public String lastKey() {
+      return lastKey;
+    }
+
+    /**
+     * Returns the maximum number of entries to return.
+     *
+     * @return the maximum number of entries to return
+     */
+    public int pageSize() {
+      return pageSize;
+    }
+
+    @Override
+    public String toString() {
+      return toStringHelper(this)
+          .add("lastKey", lastKey)
+          .add("pageSize", pageSize)
+          .toString();
+    }
+  }
+
   /**
    * Map put operation.
    */
@@ -298,6 +356,36 @@ public enum ConsistentMapOperations implements OperationId {
     }
   }
 
+  /**
+   * Map put all operation.
+   */
+  public static class PutAll extends MapOperation {
+    private Map<String, byte[]> entries;
+
+    public PutAll() {
+    }
+
+    public PutAll(Map<String, byte[]> entries) {
+      this.entries = checkNotNull(entries, "entries cannot be null");
+    }
+
+    /**
+     * Returns the entries to put.
+     *
+     * @return the entries to put
+     */
+    public Map<String, byte[]> entries() {
+      return entries;
+    }
+
+    @Override
+    public String toString() {
+      return toStringHelper(this)
+          .add("keys", entries.keySet())
+          .toString();
+    }
+  }
+
   /**
    * Remove operation.
    */
@@ -334,6 +422,36 @@ public enum ConsistentMapOperations implements OperationId {
     }
   }
 
+  /**
+   * Remove all operation.
+   */
+  public static class RemoveAll extends MapOperation {
+    private Set<String> keys;
+
+    public RemoveAll() {
+    }
+
+    public RemoveAll(Set<String> keys) {
+      this.keys = checkNotNull(keys, "keys cannot be null");
+    }
+
+    /**
+     * Returns the keys to remove.
+     *
+     * @return the keys to remove
+     */
+    public Set<String> keys() {
+      return keys;
+    }
+
+    @Override
+    public String toString() {
+      return toStringHelper(this)
+          .add("keys", keys)
+          .toString();
+    }
+  }
+
   /**
    * Replace operation.
    */
@@ -414,6 +532,49 @@ public enum ConsistentMapOperations implements OperationId {
     }
   }
 
+  /**
+   * Add listener command.
+   */
+  @SuppressWarnings("serial")
+  public static class AddListener extends MapOperation {
+    private List<MapEventFilter<String>> filters;
+
+    public AddListener() {
+    }
+
+    public AddListener(List<MapEventFilter<String>> filters) {
+      this.filters = checkNotNull(filters, "filters cannot be null");
+    }
+
+    /**
+     * Returns the filters restricting the events published to the listener.
+     * <p>
+     * An event is published to the listener if it matches any of the filters.
+     *
+     * @return the listener filters
+     */
+    public List<MapEventFilter<String>> filters() {
+      return filters;
+    }
+
+    @Override
+    public int hashCode() {
+      return Objects.hash(filters);
+    }
+
+    @Override
+    public boolean equals(Object object) {
+      return object instanceof AddListener && Objects.equals(((AddListener) object).filters, filters);
+    }
+
+    @Override
+    public String toString() {
+      return toStringHelper(this)
+          .add("filters", filters)
+          .toString();
+    }
+  }
+
   /**
    * Transaction begin command.
    */
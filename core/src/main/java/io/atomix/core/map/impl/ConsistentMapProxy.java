@@ -21,18 +21,25 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import io.atomix.core.iterator.AsyncIterator;
+import io.atomix.core.iterator.impl.IteratorBatch;
 import io.atomix.core.map.AsyncConsistentMap;
 import io.atomix.core.map.ConsistentMap;
 import io.atomix.core.map.ConsistentMapException;
 import io.atomix.core.map.MapEvent;
+import io.atomix.core.map.MapEventFilter;
 import io.atomix.core.map.MapEventListener;
+import io.atomix.core.map.impl.ConsistentMapOperations.AddListener;
 import io.atomix.core.map.impl.ConsistentMapOperations.ContainsKey;
 import io.atomix.core.map.impl.ConsistentMapOperations.ContainsValue;
 import io.atomix.core.map.impl.ConsistentMapOperations.Get;
 import io.atomix.core.map.impl.ConsistentMapOperations.GetAllPresent;
 import io.atomix.core.map.impl.ConsistentMapOperations.GetOrDefault;
+import io.atomix.core.map.impl.ConsistentMapOperations.IteratorNext;
 import io.atomix.core.map.impl.ConsistentMapOperations.Put;
+import io.atomix.core.map.impl.ConsistentMapOperations.PutAll;
 import io.atomix.core.map.impl.ConsistentMapOperations.Remove;
+import io.atomix.core.map.impl.ConsistentMapOperations.RemoveAll;
 import io.atomix.core.map.impl.ConsistentMapOperations.RemoveValue;
 import io.atomix.core.map.impl.ConsistentMapOperations.RemoveVersion;
 import io.atomix.core.map.impl.ConsistentMapOperations.Replace;
@@ -55,13 +62,18 @@ import io.atomix.utils.serializer.Serializer;
 import io.atomix.utils.time.Versioned;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.ConcurrentModificationException;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.NoSuchElementException;
+import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
@@ -70,6 +82,7 @@ import java.util.function.BiFunction;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static io.atomix.core.map.impl.ConsistentMapEvents.CHANGE;
 import static io.atomix.core.map.impl.ConsistentMapOperations.ADD_LISTENER;
 import static io.atomix.core.map.impl.ConsistentMapOperations.CLEAR;
@@ -80,12 +93,15 @@ import static io.atomix.core.map.impl.ConsistentMapOperations.ENTRY_SET;
 import static io.atomix.core.map.impl.ConsistentMapOperations.GET;
 import static io.atomix.core.map.impl.ConsistentMapOperations.GET_ALL_PRESENT;
 import static io.atomix.core.map.impl.ConsistentMapOperations.GET_OR_DEFAULT;
+import static io.atomix.core.map.impl.ConsistentMapOperations.ITERATOR_NEXT;
 import static io.atomix.core.map.impl.ConsistentMapOperations.KEY_SET;
 import static io.atomix.core.map.impl.ConsistentMapOperations.PREPARE;
 import static io.atomix.core.map.impl.ConsistentMapOperations.PUT;
+import static io.atomix.core.map.impl.ConsistentMapOperations.PUT_ALL;
 import static io.atomix.core.map.impl.ConsistentMapOperations.PUT_AND_GET;
 import static io.atomix.core.map.impl.ConsistentMapOperations.PUT_IF_ABSENT;
 import static io.atomix.core.map.impl.ConsistentMapOperations.REMOVE;
+import static io.atomix.core.map.impl.ConsistentMapOperations.REMOVE_ALL;
 import static io.atomix.core.map.impl.ConsistentMapOperations.REMOVE_LISTENER;
 import static io.atomix.core.map.impl.ConsistentMapOperations.REMOVE_VALUE;
 import static io.atomix.core.map.impl.ConsistentMapOperations.REMOVE_VERSION;
@@ -107,7 +123,8 @@ public class ConsistentMapProxy extends AbstractAsyncPrimitive<AsyncConsistentMa
       .nextId(KryoNamespaces.BEGIN_USER_CUSTOM_ID + 100)
       .build());
 
-  private final Map<MapEventListener<String, byte[]>, Executor> mapEventListeners = new ConcurrentHashMap<>();
+  private final Map<MapEventListener<String, byte[]>, ListenerContext> mapEventListeners = new ConcurrentHashMap<>();
+  private final Map<PartitionId, AddListener> listenerRegistrations = new ConcurrentHashMap<>();
 
   public ConsistentMapProxy(PrimitiveProxy proxy, PrimitiveRegistry registry) {
     super(proxy, registry);
@@ -119,8 +136,11 @@ public class ConsistentMapProxy extends AbstractAsyncPrimitive<AsyncConsistentMa
 
   private void handleEvent(List<MapEvent<String, byte[]>> events) {
     events.forEach(event ->
-        mapEventListeners.forEach((listener, executor) ->
-            executor.execute(() -> listener.event(event))));
+        mapEventListeners.forEach((listener, context) -> {
+          if (context.filter == null || context.filter.test(event)) {
+            context.executor.execute(() -> listener.event(event));
+          }
+        }));
   }
 
   @Override
@@ -202,6 +222,12 @@ public class ConsistentMapProxy extends AbstractAsyncPrimitive<AsyncConsistentMa
         .thenApply(results -> results.reduce((s1, s2) -> ImmutableSet.copyOf(Iterables.concat(s1, s2))).orElse(ImmutableSet.of()));
   }
 
+  @Override
+  public AsyncIterator<Entry<String, Versioned<byte[]>>> entryIterator(int pageSize) {
+    checkArgument(pageSize > 0, "pageSize must be positive");
+    return new ProxyIterator(pageSize);
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public CompletableFuture<Versioned<byte[]>> put(String key, byte[] value, Duration ttl) {
@@ -224,6 +250,19 @@ public class ConsistentMapProxy extends AbstractAsyncPrimitive<AsyncConsistentMa
         .thenApply(v -> v.result());
   }
 
+  @Override
+  public CompletableFuture<Void> putAll(Map<? extends String, ? extends byte[]> entries) {
+    Map<PartitionId, Map<String, byte[]>> entriesByPartition = Maps.newHashMap();
+    entries.forEach((key, value) -> entriesByPartition
+        .computeIfAbsent(getPartition(key).partitionId(), k -> Maps.newHashMap())
+        .put(key, value));
+    return CompletableFuture.allOf(entriesByPartition.entrySet()
+        .stream()
+        .map(e -> this.<PutAll, MapEntryUpdateResult.Status>invokeOn(e.getKey(), PUT_ALL, new PutAll(e.getValue()))
+            .whenComplete((r, error) -> throwIfLocked(r)))
+        .toArray(CompletableFuture[]::new));
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public CompletableFuture<Versioned<byte[]>> putIfAbsent(String key, byte[] value, Duration ttl) {
@@ -246,6 +285,19 @@ public class ConsistentMapProxy extends AbstractAsyncPrimitive<AsyncConsistentMa
         .thenApply(v -> v.result());
   }
 
+  @Override
+  public CompletableFuture<Void> removeAll(Collection<? extends String> keys) {
+    Map<PartitionId, Set<String>> keysByPartition = Maps.newHashMap();
+    keys.forEach(key -> keysByPartition
+        .computeIfAbsent(getPartition(key).partitionId(), k -> new HashSet<>())
+        .add(key));
+    return CompletableFuture.allOf(keysByPartition.entrySet()
+        .stream()
+        .map(e -> this.<RemoveAll, MapEntryUpdateResult.Status>invokeOn(e.getKey(), REMOVE_ALL, new RemoveAll(e.getValue()))
+            .whenComplete((r, error) -> throwIfLocked(r)))
+        .toArray(CompletableFuture[]::new));
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public CompletableFuture<Boolean> remove(String key, byte[] value) {
@@ -374,23 +426,99 @@ public class ConsistentMapProxy extends AbstractAsyncPrimitive<AsyncConsistentMa
 
   @Override
   public synchronized CompletableFuture<Void> addListener(MapEventListener<String, byte[]> listener, Executor executor) {
-    if (mapEventListeners.isEmpty()) {
-      mapEventListeners.put(listener, executor);
-      return invokeAll(ADD_LISTENER).thenApply(v -> null);
-    } else {
-      mapEventListeners.put(listener, executor);
-      return CompletableFuture.completedFuture(null);
-    }
+    mapEventListeners.put(listener, new ListenerContext(executor, null));
+    return updateListeners();
+  }
+
+  @Override
+  public synchronized CompletableFuture<Void> addListener(
+      MapEventListener<String, byte[]> listener, MapEventFilter<String> filter, Executor executor) {
+    mapEventListeners.put(listener, new ListenerContext(executor, filter));
+    return updateListeners();
   }
 
   @Override
   public synchronized CompletableFuture<Void> removeListener(MapEventListener<String, byte[]> listener) {
-    if (mapEventListeners.remove(listener) != null && mapEventListeners.isEmpty()) {
-      return invokeAll(REMOVE_LISTENER).thenApply(v -> null);
+    if (mapEventListeners.remove(listener) != null) {
+      return updateListeners();
     }
     return CompletableFuture.completedFuture(null);
   }
 
+  /**
+   * Updates the listener registrations on each partition to reflect the registered listeners.
+   * <p>
+   * A partition is only sent a command when its registration changes, and partitions that own none of the keys
+   * the filtered listeners are interested in are not registered at all.
+   *
+   * @return a future to be completed once the partitions have been updated
+   */
+  private CompletableFuture<Void> updateListeners() {
+    List<CompletableFuture<Void>> futures = new ArrayList<>();
+    for (PartitionId partitionId : getPartitionIds()) {
+      AddListener registration = getListenerRegistration(partitionId);
+      if (!Objects.equals(registration, listenerRegistrations.get(partitionId))) {
+        if (registration == null) {
+          listenerRegistrations.remove(partitionId);
+          futures.add(invokeOn(partitionId, REMOVE_LISTENER));
+        } else {
+          listenerRegistrations.put(partitionId, registration);
+          futures.add(registerListener(partitionId, registration));
+        }
+      }
+    }
+    return Futures.allOf(futures).thenApply(v -> null);
+  }
+
+  /**
+   * Computes the listener registration for the given partition.
+   *
+   * @param partitionId the partition for which to compute the registration
+   * @return the listener registration or {@code null} if no events are required from the partition
+   */
+  private AddListener getListenerRegistration(PartitionId partitionId) {
+    if (mapEventListeners.isEmpty()) {
+      return null;
+    }
+
+    List<MapEventFilter<String>> filters = new ArrayList<>();
+    for (ListenerContext context : mapEventListeners.values()) {
+      MapEventFilter<String> filter = context.filter;
+      if (filter == null) {
+        return new AddListener();
+      }
+
+      // Filters that match only specific keys are registered only with the partitions that own those keys.
+      if (!filter.keys().isEmpty() && filter.keyPrefixes().isEmpty()) {
+        Set<String> keys = filter.keys().stream()
+            .filter(key -> getPartition(key).partitionId().equals(partitionId))
+            .collect(Collectors.toSet());
+        if (keys.isEmpty()) {
+          continue;
+        }
+        filter = MapEventFilter.<String>builder()
+            .withKeys(keys)
+            .withTypes(filter.types())
+            .build();
+      }
+
+      if (!filters.contains(filter)) {
+        filters.add(filter);
+      }
+    }
+    return filters.isEmpty() ? null : new AddListener(filters);
+  }
+
+  /**
+   * Sends the given listener registration to the given partition.
+   */
+  private CompletableFuture<Void> registerListener(PartitionId partitionId, AddListener registration) {
+    if (registration.filters() == null) {
+      return invokeOn(partitionId, ADD_LISTENER);
+    }
+    return invokeOn(partitionId, ADD_LISTENER, registration);
+  }
+
   private void throwIfLocked(MapEntryUpdateResult<String, byte[]> result) {
     if (result != null) {
       throwIfLocked(result.status());
@@ -443,20 +571,137 @@ public class ConsistentMapProxy extends AbstractAsyncPrimitive<AsyncConsistentMa
         .thenRun(() -> getPartitionIds().forEach(partition -> {
           listenOn(partition, CHANGE, this::handleEvent);
           addStateChangeListenerOn(partition, state -> {
-            if (state == PartitionProxy.State.CONNECTED && isListening()) {
-              invokeOn(partition, ADD_LISTENER);
+            AddListener registration = listenerRegistrations.get(partition);
+            if (state == PartitionProxy.State.CONNECTED && registration != null) {
+              registerListener(partition, registration);
             }
           });
         }))
         .thenApply(v -> this);
   }
 
-  private boolean isListening() {
-    return !mapEventListeners.isEmpty();
-  }
-
   @Override
   public ConsistentMap<String, byte[]> sync(Duration operationTimeout) {
     return new BlockingConsistentMap<>(this, operationTimeout.toMillis());
   }
-}
\ No newline at end of file
+
+  /**
+   * Map event listener context.
+   */
+  private static class ListenerContext {
+    private final Executor executor;
+    private final MapEventFilter<String> filter;
+
+    ListenerContext(Executor executor, MapEventFilter<String> filter) {
+      this.executor = executor;
+      this.filter = filter;
+    }
+  }
+
+  /**
+   * Iterator over the entries in all partitions.
+   * <p>
+   * The first page is requested from all partitions when the iterator is created, and partitions are then
+   * consumed one at a time.
+   */
+  private class ProxyIterator implements AsyncIterator<Entry<String, Versioned<byte[]>>> {
+    private final List<PartitionIterator> partitions;
+    private final Iterator<PartitionIterator> partitionIterator;
+    private PartitionIterator partition;
+
+    ProxyIterator(int pageSize) {
+      this.partitions = getPartitionIds().stream()
+          .map(partitionId -> new PartitionIterator(partitionId, pageSize))
+          .collect(Collectors.toList());
+      this.partitionIterator = partitions.iterator();
+      this.partition = partitionIterator.hasNext() ? partitionIterator.next() : null;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> hasNext() {
+      if (partition == null) {
+        return CompletableFuture.completedFuture(false);
+      }
+      return partition.hasNext().thenCompose(hasNext -> {
+        if (hasNext) {
+          return CompletableFuture.completedFuture(true);
+        }
+        partition = partitionIterator.hasNext() ? partitionIterator.next() : null;
+        return hasNext();
+      });
+    }
+
+    @Override
+    public CompletableFuture<Entry<String, Versioned<byte[]>>> next() {
+      return hasNext().thenCompose(hasNext -> {
+        if (!hasNext) {
+          return Futures.exceptionalFuture(new NoSuchElementException());
+        }
+        return CompletableFuture.completedFuture(partition.next());
+      });
+    }
+
+    @Override
+    public CompletableFuture<Void> close() {
+      partition = null;
+      return CompletableFuture.allOf(partitions.stream()
+          .map(PartitionIterator::close)
+          .toArray(CompletableFuture[]::new));
+    }
+  }
+
+  /**
+   * Iterator over the entries in a single partition.
+   * <p>
+   * Partitions hold no iterator state. Each page is requested with the last key of the previous page, and the
+   * next page is requested as soon as the current page is received.
+   */
+  private class PartitionIterator {
+    private final PartitionId partitionId;
+    private final int pageSize;
+    private CompletableFuture<IteratorBatch<Entry<String, Versioned<byte[]>>>> batchFuture;
+    private Iterator<Entry<String, Versioned<byte[]>>> entries = Collections.emptyIterator();
+
+    PartitionIterator(PartitionId partitionId, int pageSize) {
+      this.partitionId = partitionId;
+      this.pageSize = pageSize;
+      this.batchFuture = nextBatch(null);
+    }
+
+    /**
+     * Requests the page following the given key.
+     */
+    private CompletableFuture<IteratorBatch<Entry<String, Versioned<byte[]>>>> nextBatch(String lastKey) {
+      return invokeOn(partitionId, ITERATOR_NEXT, new IteratorNext(lastKey, pageSize));
+    }
+
+    CompletableFuture<Boolean> hasNext() {
+      if (entries.hasNext()) {
+        return CompletableFuture.completedFuture(true);
+      }
+      if (batchFuture == null) {
+        return CompletableFuture.completedFuture(false);
+      }
+      return batchFuture.thenCompose(batch -> {
+        List<Entry<String, Versioned<byte[]>>> elements = batch.elements();
+        entries = elements.iterator();
+        if (batch.complete() || elements.isEmpty()) {
+          batchFuture = null;
+        } else {
+          batchFuture = nextBatch(elements.get(elements.size() - 1).getKey());
+        }
+        return hasNext();
+      });
+    }
+
+    Entry<String, Versioned<byte[]>> next() {
+      return entries.next();
+    }
+
+    CompletableFuture<Void> close() {
+      batchFuture = null;
+      entries = Collections.emptyIterator();
+      return CompletableFuture.completedFuture(null);
+    }
+  }
+}
@@ -19,14 +19,20 @@ import com.google.common.base.Throwables;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Sets;
+import io.atomix.core.iterator.impl.IteratorBatch;
 import io.atomix.core.map.MapEvent;
+import io.atomix.core.map.MapEventFilter;
+import io.atomix.core.map.impl.ConsistentMapOperations.AddListener;
 import io.atomix.core.map.impl.ConsistentMapOperations.ContainsKey;
 import io.atomix.core.map.impl.ConsistentMapOperations.ContainsValue;
 import io.atomix.core.map.impl.ConsistentMapOperations.Get;
 import io.atomix.core.map.impl.ConsistentMapOperations.GetAllPresent;
 import io.atomix.core.map.impl.ConsistentMapOperations.GetOrDefault;
+import io.atomix.core.map.impl.ConsistentMapOperations.IteratorNext;
 import io.atomix.core.map.impl.ConsistentMapOperations.Put;
+import io.atomix.core.map.impl.ConsistentMapOperations.PutAll;
 import io.atomix.core.map.impl.ConsistentMapOperations.Remove;
+import io.atomix.core.map.impl.ConsistentMapOperations.RemoveAll;
 import io.atomix.core.map.impl.ConsistentMapOperations.RemoveValue;
 import io.atomix.core.map.impl.ConsistentMapOperations.RemoveVersion;
 import io.atomix.core.map.impl.ConsistentMapOperations.Replace;
@@ -54,6 +60,7 @@ import io.atomix.utils.serializer.Serializer;
 import io.atomix.utils.time.Versioned;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
@@ -61,7 +68,9 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -78,13 +87,16 @@ import static io.atomix.core.map.impl.ConsistentMapOperations.GET;
 import static io.atomix.core.map.impl.ConsistentMapOperations.GET_ALL_PRESENT;
 import static io.atomix.core.map.impl.ConsistentMapOperations.GET_OR_DEFAULT;
 import static io.atomix.core.map.impl.ConsistentMapOperations.IS_EMPTY;
+import static io.atomix.core.map.impl.ConsistentMapOperations.ITERATOR_NEXT;
 import static io.atomix.core.map.impl.ConsistentMapOperations.KEY_SET;
 import static io.atomix.core.map.impl.ConsistentMapOperations.PREPARE;
 import static io.atomix.core.map.impl.ConsistentMapOperations.PREPARE_AND_COMMIT;
 import static io.atomix.core.map.impl.ConsistentMapOperations.PUT;
+import static io.atomix.core.map.impl.ConsistentMapOperations.PUT_ALL;
 import static io.atomix.core.map.impl.ConsistentMapOperations.PUT_AND_GET;
 import static io.atomix.core.map.impl.ConsistentMapOperations.PUT_IF_ABSENT;
 import static io.atomix.core.map.impl.ConsistentMapOperations.REMOVE;
+import static io.atomix.core.map.impl.ConsistentMapOperations.REMOVE_ALL;
 import static io.atomix.core.map.impl.ConsistentMapOperations.REMOVE_LISTENER;
 import static io.atomix.core.map.impl.ConsistentMapOperations.REMOVE_VALUE;
 import static io.atomix.core.map.impl.ConsistentMapOperations.REMOVE_VERSION;
@@ -111,10 +123,12 @@ public class ConsistentMapService extends AbstractPrimitiveService {
       .register(MapEntryValue.class)
       .register(MapEntryValue.Type.class)
       .register(new HashMap().keySet().getClass())
+      .register(TreeMap.class)
       .build());
 
   protected Map<Long, PrimitiveSession> listeners = new LinkedHashMap<>();
-  private Map<String, MapEntryValue> map;
+  protected Map<Long, List<MapEventFilter<String>>> listenerFilters = new HashMap<>();
+  private NavigableMap<String, MapEntryValue> map;
   protected Set<String> preparedKeys = Sets.newHashSet();
   protected Map<TransactionId, TransactionScope> activeTransactions = Maps.newHashMap();
   protected long currentVersion;
@@ -124,11 +138,19 @@ public class ConsistentMapService extends AbstractPrimitiveService {
     map = createMap();
   }
 
-  protected Map<String, MapEntryValue> createMap() {
-    return Maps.newHashMap();
+  /**
+   * Creates the map in which entries are stored.
+   * <p>
+   * Entries are stored in a sorted map so that iterators can resume from the last key of the previous page
+   * without scanning the map.
+   *
+   * @return the map in which entries are stored
+   */
+  protected NavigableMap<String, MapEntryValue> createMap() {
+    return Maps.newTreeMap();
   }
 
-  protected Map<String, MapEntryValue> entries() {
+  protected NavigableMap<String, MapEntryValue> entries() {
     return map;
   }
 
@@ -140,6 +162,7 @@ public class ConsistentMapService extends AbstractPrimitiveService {
   @Override
   public void backup(BackupOutput writer) {
     writer.writeObject(Sets.newHashSet(listeners.keySet()));
+    writer.writeObject(listenerFilters);
     writer.writeObject(preparedKeys);
     writer.writeObject(entries());
     writer.writeObject(activeTransactions);
@@ -152,8 +175,10 @@ public class ConsistentMapService extends AbstractPrimitiveService {
     for (Long sessionId : reader.<Set<Long>>readObject(serializer()::decode)) {
       listeners.put(sessionId, getSession(sessionId));
     }
+    listenerFilters = reader.readObject(serializer()::decode);
     preparedKeys = reader.readObject(serializer()::decode);
-    map = reader.readObject(serializer()::decode);
+    Map<String, MapEntryValue> entries = reader.readObject(serializer()::decode);
+    map = entries instanceof NavigableMap ? (NavigableMap<String, MapEntryValue>) entries : new TreeMap<>(entries);
     activeTransactions = reader.readObject(serializer()::decode);
     currentVersion = reader.readLong();
     map.forEach((key, value) -> {
@@ -169,7 +194,7 @@ public class ConsistentMapService extends AbstractPrimitiveService {
   @Override
   protected void configure(ServiceExecutor executor) {
     // Listeners
-    executor.register(ADD_LISTENER, (Commit<Void> c) -> listen(c.session()));
+    executor.register(ADD_LISTENER, (Commit<AddListener> c) -> listen(c));
     executor.register(REMOVE_LISTENER, (Commit<Void> c) -> unlisten(c.session()));
     // Queries
     executor.register(CONTAINS_KEY, this::containsKey);
@@ -182,13 +207,16 @@ public class ConsistentMapService extends AbstractPrimitiveService {
     executor.register(KEY_SET, (Commit<Void> c) -> keySet());
     executor.register(SIZE, (Commit<Void> c) -> size());
     executor.register(VALUES, (Commit<Void> c) -> values());
+    executor.register(ITERATOR_NEXT, this::iteratorNext);
     // Commands
     executor.register(PUT, this::put);
     executor.register(PUT_IF_ABSENT, this::putIfAbsent);
     executor.register(PUT_AND_GET, this::putAndGet);
+    executor.register(PUT_ALL, this::putAll);
     executor.register(REMOVE, this::remove);
     executor.register(REMOVE_VALUE, this::removeValue);
     executor.register(REMOVE_VERSION, this::removeVersion);
+    executor.register(REMOVE_ALL, this::removeAll);
     executor.register(REPLACE, this::replace);
     executor.register(REPLACE_VALUE, this::replaceValue);
     executor.register(REPLACE_VERSION, this::replaceVersion);
@@ -320,6 +348,32 @@ public class ConsistentMapService extends AbstractPrimitiveService {
         .collect(Collectors.toSet());
   }
 
+  /**
+   * Handles an iterator next query.
+   * <p>
+   * Iterators hold no state in the service. Entries are returned in key order, and each page starts after the last
+   * key of the previous page, so entries added or removed during iteration are included or skipped according to
+   * their keys. Since the map is sorted, each page is read by seeking to the key following the last key of the
+   * previous page rather than scanning the map.
+   *
+   * @param commit the iterator next commit
+   * @return the next batch of entries
+   */
+  protected IteratorBatch<Map.Entry<String, Versioned<byte[]>>> iteratorNext(Commit<? extends IteratorNext> commit) {
+    String lastKey = commit.value().lastKey();
+    int pageSize = commit.value().pageSize();
+    NavigableMap<String, MapEntryValue> tailMap = lastKey == null ? entries() : entries().tailMap(lastKey, false);
+    Iterator<Map.Entry<String, MapEntryValue>> iterator = tailMap.entrySet().iterator();
+    List<Map.Entry<String, Versioned<byte[]>>> page = new ArrayList<>();
+    while (iterator.hasNext() && page.size() < pageSize) {
+      Map.Entry<String, MapEntryValue> entry = iterator.next();
+      if (entry.getValue().type() != MapEntryValue.Type.TOMBSTONE) {
+        page.add(Maps.immutableEntry(entry.getKey(), toVersioned(entry.getValue())));
+      }
+    }
+    return new IteratorBatch<>(page, !iterator.hasNext());
+  }
+
   /**
    * Returns a boolean indicating whether the given MapEntryValues are equal.
    *
@@ -521,6 +575,48 @@ public class ConsistentMapService extends AbstractPrimitiveService {
     return new MapEntryUpdateResult<>(MapEntryUpdateResult.Status.NOOP, commit.index(), key, toVersioned(oldValue));
   }
 
+  /**
+   * Handles a putAll commit.
+   * <p>
+   * The entries are applied atomically: if any of the keys has been locked by a transaction, none of the entries
+   * are updated.
+   *
+   * @param commit putAll commit
+   * @return put all result
+   */
+  protected MapEntryUpdateResult.Status putAll(Commit<? extends PutAll> commit) {
+    Map<String, byte[]> entries = commit.value().entries();
+    if (entries.keySet().stream().anyMatch(preparedKeys::contains)) {
+      return MapEntryUpdateResult.Status.WRITE_LOCK;
+    }
+
+    List<MapEvent<String, byte[]>> events = new ArrayList<>(entries.size());
+    for (Map.Entry<String, byte[]> entry : entries.entrySet()) {
+      String key = entry.getKey();
+      MapEntryValue oldValue = entries().get(key);
+      MapEntryValue newValue = new MapEntryValue(
+          MapEntryValue.Type.VALUE,
+          commit.index(),
+          entry.getValue(),
+          commit.wallClockTime().unixTimestamp(),
+          0);
+
+      // Only update values that have changed to reduce the number of events.
+      if (valueIsNull(oldValue)) {
+        putValue(key, newValue);
+        events.add(new MapEvent<>(MapEvent.Type.INSERT, "", key, toVersioned(newValue), toVersioned(oldValue)));
+      } else if (!valuesEqual(oldValue, newValue)) {
+        putValue(key, newValue);
+        events.add(new MapEvent<>(MapEvent.Type.UPDATE, "", key, toVersioned(newValue), toVersioned(oldValue)));
+      }
+    }
+
+    if (!events.isEmpty()) {
+      publish(events);
+    }
+    return MapEntryUpdateResult.Status.OK;
+  }
+
   /**
    * Handles a remove commit.
    *
@@ -588,6 +684,44 @@ public class ConsistentMapService extends AbstractPrimitiveService {
     return removeIf(commit.index(), commit.value().key(), v -> v.version() == commit.value().version());
   }
 
+  /**
+   * Handles a removeAll commit.
+   * <p>
+   * The keys are removed atomically: if any of the keys has been locked by a transaction, none of the keys are
+   * removed.
+   *
+   * @param commit removeAll commit
+   * @return remove all result
+   */
+  protected MapEntryUpdateResult.Status removeAll(Commit<? extends RemoveAll> commit) {
+    Set<String> keys = commit.value().keys();
+    if (keys.stream().anyMatch(preparedKeys::contains)) {
+      return MapEntryUpdateResult.Status.WRITE_LOCK;
+    }
+
+    List<MapEvent<String, byte[]>> events = new ArrayList<>(keys.size());
+    for (String key : keys) {
+      MapEntryValue value = entries().get(key);
+      if (valueIsNull(value)) {
+        continue;
+      }
+
+      // If no transactions are active, remove the key. Otherwise, replace it with a tombstone.
+      if (activeTransactions.isEmpty()) {
+        entries().remove(key);
+      } else {
+        entries().put(key, new MapEntryValue(MapEntryValue.Type.TOMBSTONE, commit.index(), null, 0, 0));
+      }
+      cancelTtl(value);
+      events.add(new MapEvent<>(MapEvent.Type.REMOVE, "", key, null, toVersioned(value)));
+    }
+
+    if (!events.isEmpty()) {
+      publish(events);
+    }
+    return MapEntryUpdateResult.Status.OK;
+  }
+
   /**
    * Handles a replace commit.
    *
@@ -700,11 +834,39 @@ public class ConsistentMapService extends AbstractPrimitiveService {
 
   /**
    * Handles a listen commit.
+   * <p>
+   * A commit without a value registers the session for all events, replacing any filters previously registered
+   * by the session.
+   *
+   * @param commit listen commit
+   */
+  protected void listen(Commit<AddListener> commit) {
+    if (commit.value() == null) {
+      listen(commit.session());
+    } else {
+      listen(commit.session(), commit.value().filters());
+    }
+  }
+
+  /**
+   * Registers a session for all events.
    *
    * @param session listen session
    */
   protected void listen(PrimitiveSession session) {
     listeners.put(session.sessionId().id(), session);
+    listenerFilters.remove(session.sessionId().id());
+  }
+
+  /**
+   * Registers a session for events matching any of the given filters.
+   *
+   * @param session listen session
+   * @param filters the filters restricting the events published to the session
+   */
+  protected void listen(PrimitiveSession session, List<MapEventFilter<String>> filters) {
+    listeners.put(session.sessionId().id(), session);
+    listenerFilters.put(session.sessionId().id(), filters);
   }
 
   /**
@@ -714,6 +876,7 @@ public class ConsistentMapService extends AbstractPrimitiveService {
    */
   protected void unlisten(PrimitiveSession session) {
     listeners.remove(session.sessionId().id());
+    listenerFilters.remove(session.sessionId().id());
   }
 
   /**
@@ -1005,9 +1168,30 @@ public class ConsistentMapService extends AbstractPrimitiveService {
    * @param events list of map event to publish
    */
   private void publish(List<MapEvent<String, byte[]>> events) {
-    listeners.values().forEach(session -> {
-      session.publish(CHANGE, events);
-    });
+    if (listenerFilters.isEmpty()) {
+      publish(listeners.values(), CHANGE, events);
+      return;
+    }
+
+    // Sessions receiving every event share a single encoded event, while filtered sessions are sent only the
+    // events matching their filters.
+    List<PrimitiveSession> sessions = new ArrayList<>(listeners.size());
+    for (Map.Entry<Long, PrimitiveSession> entry : listeners.entrySet()) {
+      List<MapEventFilter<String>> filters = listenerFilters.get(entry.getKey());
+      if (filters == null) {
+        sessions.add(entry.getValue());
+      } else {
+        List<MapEvent<String, byte[]>> filteredEvents = events.stream()
+            .filter(event -> filters.stream().anyMatch(filter -> filter.test(event)))
+            .collect(Collectors.toList());
+        if (filteredEvents.size() == events.size()) {
+          sessions.add(entry.getValue());
+        } else if (!filteredEvents.isEmpty()) {
+          entry.getValue().publish(CHANGE, filteredEvents);
+        }
+      }
+    }
+    publish(sessions, CHANGE, events);
   }
 
   @Override
@@ -1022,6 +1206,7 @@ public class ConsistentMapService extends AbstractPrimitiveService {
 
   private void closeListener(Long sessionId) {
     listeners.remove(sessionId);
+    listenerFilters.remove(sessionId);
   }
 
   /**
@@ -190,5 +190,6 @@ public class ConsistentTreeMapService extends ConsistentMapService {
 
   private void closeListener(Long sessionId) {
     listeners.remove(sessionId);
+    listenerFilters.remove(sessionId);
   }
 }
\ No newline at end of file
@@ -18,8 +18,10 @@ package io.atomix.core.map.impl;
 
 import com.google.common.base.MoreObjects;
 
+import io.atomix.core.iterator.AsyncIterator;
 import io.atomix.core.map.AsyncConsistentMap;
 import io.atomix.core.map.ConsistentMap;
+import io.atomix.core.map.MapEventFilter;
 import io.atomix.core.map.MapEventListener;
 import io.atomix.core.transaction.TransactionId;
 import io.atomix.core.transaction.TransactionLog;
@@ -101,11 +103,21 @@ public class DelegatingAsyncConsistentMap<K, V>
     return delegateMap.putAndGet(key, value, ttl);
   }
 
+  @Override
+  public CompletableFuture<Void> putAll(Map<? extends K, ? extends V> entries) {
+    return delegateMap.putAll(entries);
+  }
+
   @Override
   public CompletableFuture<Versioned<V>> remove(K key) {
     return delegateMap.remove(key);
   }
 
+  @Override
+  public CompletableFuture<Void> removeAll(Collection<? extends K> keys) {
+    return delegateMap.removeAll(keys);
+  }
+
   @Override
   public CompletableFuture<Void> clear() {
     return delegateMap.clear();
@@ -126,6 +138,11 @@ public class DelegatingAsyncConsistentMap<K, V>
     return delegateMap.entrySet();
   }
 
+  @Override
+  public AsyncIterator<Entry<K, Versioned<V>>> entryIterator(int pageSize) {
+    return delegateMap.entryIterator(pageSize);
+  }
+
   @Override
   public CompletableFuture<Versioned<V>> putIfAbsent(K key, V value, Duration ttl) {
     return delegateMap.putIfAbsent(key, value, ttl);
@@ -161,6 +178,11 @@ public class DelegatingAsyncConsistentMap<K, V>
     return delegateMap.addListener(listener, executor);
   }
 
+  @Override
+  public CompletableFuture<Void> addListener(MapEventListener<K, V> listener, MapEventFilter<K> filter, Executor executor) {
+    return delegateMap.addListener(listener, filter, executor);
+  }
+
   @Override
   public CompletableFuture<Void> removeListener(MapEventListener<K, V> listener) {
     return delegateMap.removeListener(listener);
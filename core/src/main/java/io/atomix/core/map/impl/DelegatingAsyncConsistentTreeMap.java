@@ -16,8 +16,10 @@
 
 package io.atomix.core.map.impl;
 
+import io.atomix.core.iterator.AsyncIterator;
 import io.atomix.core.map.AsyncConsistentTreeMap;
 import io.atomix.core.map.ConsistentTreeMap;
+import io.atomix.core.map.MapEventFilter;
 import io.atomix.core.map.MapEventListener;
 import io.atomix.core.transaction.TransactionId;
 import io.atomix.core.transaction.TransactionLog;
@@ -177,11 +179,21 @@ public class DelegatingAsyncConsistentTreeMap<V>
     return delegateMap.putAndGet(key, value, ttl);
   }
 
+  @Override
+  public CompletableFuture<Void> putAll(Map<? extends String, ? extends V> entries) {
+    return delegateMap.putAll(entries);
+  }
+
   @Override
   public CompletableFuture<Versioned<V>> remove(String key) {
     return delegateMap.remove(key);
   }
 
+  @Override
+  public CompletableFuture<Void> removeAll(Collection<? extends String> keys) {
+    return delegateMap.removeAll(keys);
+  }
+
   @Override
   public CompletableFuture<Void> clear() {
     return delegateMap.clear();
@@ -202,6 +214,11 @@ public class DelegatingAsyncConsistentTreeMap<V>
     return delegateMap.entrySet();
   }
 
+  @Override
+  public AsyncIterator<Map.Entry<String, Versioned<V>>> entryIterator(int pageSize) {
+    return delegateMap.entryIterator(pageSize);
+  }
+
   @Override
   public CompletableFuture<Versioned<V>> putIfAbsent(String key, V value, Duration ttl) {
     return delegateMap.putIfAbsent(key, value, ttl);
@@ -240,6 +257,12 @@ public class DelegatingAsyncConsistentTreeMap<V>
     return delegateMap.addListener(listener, executor);
   }
 
+  @Override
+  public CompletableFuture<Void> addListener(
+      MapEventListener<String, V> listener, MapEventFilter<String> filter, Executor executor) {
+    return delegateMap.addListener(listener, filter, executor);
+  }
+
   @Override
   public CompletableFuture<Void> removeListener(
       MapEventListener<String, V> listener) {
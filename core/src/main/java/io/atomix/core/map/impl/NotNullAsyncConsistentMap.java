@@ -16,11 +16,14 @@
 package io.atomix.core.map.impl;
 
 import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
 
 import io.atomix.core.map.AsyncConsistentMap;
 import io.atomix.utils.time.Versioned;
 
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
@@ -69,6 +72,25 @@ public class NotNullAsyncConsistentMap<K, V> extends DelegatingAsyncConsistentMa
     return super.put(key, value);
   }
 
+  @Override
+  public CompletableFuture<Void> putAll(Map<? extends K, ? extends V> entries) {
+    if (!entries.containsValue(null)) {
+      return super.putAll(entries);
+    }
+
+    // Entries with null values are removed from the map.
+    Map<K, V> puts = Maps.newHashMap();
+    List<K> removes = Lists.newArrayList();
+    entries.forEach((key, value) -> {
+      if (value == null) {
+        removes.add(key);
+      } else {
+        puts.put(key, value);
+      }
+    });
+    return CompletableFuture.allOf(super.putAll(puts), super.removeAll(removes));
+  }
+
   @Override
   public CompletableFuture<Versioned<V>> putAndGet(K key, V value) {
     if (value == null) {
@@ -19,9 +19,12 @@ package io.atomix.core.map.impl;
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Maps;
 
+import io.atomix.core.iterator.AsyncIterator;
+import io.atomix.core.iterator.impl.TranscodingIterator;
 import io.atomix.core.map.AsyncConsistentMap;
 import io.atomix.core.map.ConsistentMap;
 import io.atomix.core.map.MapEvent;
+import io.atomix.core.map.MapEventFilter;
 import io.atomix.core.map.MapEventListener;
 import io.atomix.core.transaction.TransactionId;
 import io.atomix.core.transaction.TransactionLog;
@@ -173,6 +176,17 @@ public class TranscodingAsyncConsistentMap<K1, V1, K2, V2> implements AsyncConsi
     }
   }
 
+  @Override
+  public CompletableFuture<Void> putAll(Map<? extends K1, ? extends V1> entries) {
+    try {
+      Map<K2, V2> backingEntries = Maps.newHashMapWithExpectedSize(entries.size());
+      entries.forEach((key, value) -> backingEntries.put(keyEncoder.apply(key), valueEncoder.apply(value)));
+      return backingMap.putAll(backingEntries);
+    } catch (Exception e) {
+      return Futures.exceptionalFuture(e);
+    }
+  }
+
   @Override
   public CompletableFuture<Versioned<V1>> remove(K1 key) {
     try {
@@ -182,6 +196,15 @@ public class TranscodingAsyncConsistentMap<K1, V1, K2, V2> implements AsyncConsi
     }
   }
 
+  @Override
+  public CompletableFuture<Void> removeAll(Collection<? extends K1> keys) {
+    try {
+      return backingMap.removeAll(keys.stream().map(keyEncoder).collect(Collectors.toList()));
+    } catch (Exception e) {
+      return Futures.exceptionalFuture(e);
+    }
+  }
+
   @Override
   public CompletableFuture<Void> clear() {
     return backingMap.clear();
@@ -208,6 +231,12 @@ public class TranscodingAsyncConsistentMap<K1, V1, K2, V2> implements AsyncConsi
             .collect(Collectors.toSet()));
   }
 
+  @Override
+  public AsyncIterator<Entry<K1, Versioned<V1>>> entryIterator(int pageSize) {
+    return new TranscodingIterator<>(backingMap.entryIterator(pageSize),
+        e -> Maps.immutableEntry(keyDecoder.apply(e.getKey()), versionedValueTransform.apply(e.getValue())));
+  }
+
   @Override
   public CompletableFuture<Versioned<V1>> putIfAbsent(K1 key, V1 value, Duration ttl) {
     try {
@@ -275,6 +304,20 @@ public class TranscodingAsyncConsistentMap<K1, V1, K2, V2> implements AsyncConsi
     }
   }
 
+  @Override
+  public CompletableFuture<Void> addListener(MapEventListener<K1, V1> listener, MapEventFilter<K1> filter, Executor executor) {
+    try {
+      MapEventFilter<K2> backingFilter = filter.map(keyEncoder);
+      synchronized (listeners) {
+        InternalBackingMapEventListener backingMapListener =
+            listeners.computeIfAbsent(listener, k -> new InternalBackingMapEventListener(listener, filter));
+        return backingMap.addListener(backingMapListener, backingFilter, executor);
+      }
+    } catch (Exception e) {
+      return Futures.exceptionalFuture(e);
+    }
+  }
+
   @Override
   public CompletableFuture<Void> removeListener(MapEventListener<K1, V1> listener) {
     synchronized (listeners) {
@@ -342,19 +385,29 @@ public class TranscodingAsyncConsistentMap<K1, V1, K2, V2> implements AsyncConsi
   private class InternalBackingMapEventListener implements MapEventListener<K2, V2> {
 
     private final MapEventListener<K1, V1> listener;
+    private final MapEventFilter<K1> filter;
 
     InternalBackingMapEventListener(MapEventListener<K1, V1> listener) {
+      this(listener, null);
+    }
+
+    InternalBackingMapEventListener(MapEventListener<K1, V1> listener, MapEventFilter<K1> filter) {
       this.listener = listener;
+      this.filter = filter;
     }
 
     @Override
     public void event(MapEvent<K2, V2> event) {
-      listener.event(new MapEvent<K1, V1>(
+      MapEvent<K1, V1> decodedEvent = new MapEvent<K1, V1>(
           event.type(),
           event.name(),
           keyDecoder.apply(event.key()),
           event.newValue() != null ? event.newValue().map(valueDecoder) : null,
-          event.oldValue() != null ? event.oldValue().map(valueDecoder) : null));
+          event.oldValue() != null ? event.oldValue().map(valueDecoder) : null);
+      // Key prefixes cannot be evaluated on encoded keys, so the filter is reapplied to the decoded event.
+      if (filter == null || filter.test(decodedEvent)) {
+        listener.event(decodedEvent);
+      }
     }
   }
 }
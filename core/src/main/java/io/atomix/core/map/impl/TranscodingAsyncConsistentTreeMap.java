@@ -17,9 +17,12 @@
 package io.atomix.core.map.impl;
 
 import com.google.common.collect.Maps;
+import io.atomix.core.iterator.AsyncIterator;
+import io.atomix.core.iterator.impl.TranscodingIterator;
 import io.atomix.core.map.AsyncConsistentTreeMap;
 import io.atomix.core.map.ConsistentTreeMap;
 import io.atomix.core.map.MapEvent;
+import io.atomix.core.map.MapEventFilter;
 import io.atomix.core.map.MapEventListener;
 import io.atomix.core.transaction.TransactionId;
 import io.atomix.core.transaction.TransactionLog;
@@ -205,11 +208,23 @@ public class TranscodingAsyncConsistentTreeMap<V1, V2> implements AsyncConsisten
         .thenApply(versionedValueTransform);
   }
 
+  @Override
+  public CompletableFuture<Void> putAll(Map<? extends String, ? extends V1> entries) {
+    Map<String, V2> backingEntries = Maps.newHashMapWithExpectedSize(entries.size());
+    entries.forEach((key, value) -> backingEntries.put(key, valueEncoder.apply(value)));
+    return backingMap.putAll(backingEntries);
+  }
+
   @Override
   public CompletableFuture<Versioned<V1>> remove(String key) {
     return backingMap.remove(key).thenApply(versionedValueTransform);
   }
 
+  @Override
+  public CompletableFuture<Void> removeAll(Collection<? extends String> keys) {
+    return backingMap.removeAll(keys);
+  }
+
   @Override
   public CompletableFuture<Void> clear() {
     return backingMap.clear();
@@ -236,6 +251,12 @@ public class TranscodingAsyncConsistentTreeMap<V1, V2> implements AsyncConsisten
             .collect(Collectors.toSet()));
   }
 
+  @Override
+  public AsyncIterator<Map.Entry<String, Versioned<V1>>> entryIterator(int pageSize) {
+    return new TranscodingIterator<>(backingMap.entryIterator(pageSize),
+        entry -> Maps.immutableEntry(entry.getKey(), versionedValueTransform.apply(entry.getValue())));
+  }
+
   @Override
   public CompletableFuture<Versioned<V1>> putIfAbsent(String key, V1 value, Duration ttl) {
     return backingMap.putIfAbsent(key, valueEncoder.apply(value), ttl)
@@ -277,6 +298,13 @@ public class TranscodingAsyncConsistentTreeMap<V1, V2> implements AsyncConsisten
     return backingMap.addListener(backingMapEventListener, executor);
   }
 
+  @Override
+  public CompletableFuture<Void> addListener(MapEventListener<String, V1> listener, MapEventFilter<String> filter, Executor executor) {
+    InternalBackingMapEventListener backingMapEventListener = listeners.computeIfAbsent(listener,
+        k -> new InternalBackingMapEventListener(listener));
+    return backingMap.addListener(backingMapEventListener, filter, executor);
+  }
+
   @Override
   public CompletableFuture<Void> removeListener(MapEventListener<String, V1> listener) {
     InternalBackingMapEventListener backingMapEventListener = listeners.remove(listener);
@@ -20,6 +20,8 @@ import io.atomix.core.map.AsyncConsistentMap;
 import io.atomix.utils.concurrent.Futures;
 import io.atomix.utils.time.Versioned;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.BiFunction;
 import java.util.function.Predicate;
@@ -58,11 +60,21 @@ public class UnmodifiableAsyncConsistentMap<K, V> extends DelegatingAsyncConsist
     return Futures.exceptionalFuture(new UnsupportedOperationException(ERROR_MSG));
   }
 
+  @Override
+  public CompletableFuture<Void> putAll(Map<? extends K, ? extends V> entries) {
+    return Futures.exceptionalFuture(new UnsupportedOperationException(ERROR_MSG));
+  }
+
   @Override
   public CompletableFuture<Versioned<V>> remove(K key) {
     return Futures.exceptionalFuture(new UnsupportedOperationException(ERROR_MSG));
   }
 
+  @Override
+  public CompletableFuture<Void> removeAll(Collection<? extends K> keys) {
+    return Futures.exceptionalFuture(new UnsupportedOperationException(ERROR_MSG));
+  }
+
   @Override
   public CompletableFuture<Void> clear() {
     return Futures.exceptionalFuture(new UnsupportedOperationException(ERROR_MSG));
@@ -18,6 +18,7 @@ package io.atomix.core.multimap;
 
 import com.google.common.collect.Multiset;
 import com.google.common.util.concurrent.MoreExecutors;
+import io.atomix.core.iterator.AsyncIterator;
 import io.atomix.primitive.AsyncPrimitive;
 import io.atomix.primitive.DistributedPrimitive;
 import io.atomix.primitive.PrimitiveType;
@@ -229,6 +230,31 @@ public interface AsyncConsistentMultimap<K, V> extends AsyncPrimitive {
    */
   CompletableFuture<Collection<Map.Entry<K, V>>> entries();
 
+  /**
+   * Returns an iterator over the key-value pairs contained in this map.
+   * <p>
+   * Unlike {@link #entries()}, the iterator fetches entries from the map in pages of
+   * {@link AsyncIterator#DEFAULT_PAGE_SIZE} entries rather than loading the entire map into memory.
+   *
+   * @return an iterator over the key-value pairs contained in this map
+   * @see #entryIterator(int)
+   */
+  default AsyncIterator<Map.Entry<K, V>> entryIterator() {
+    return entryIterator(AsyncIterator.DEFAULT_PAGE_SIZE);
+  }
+
+  /**
+   * Returns an iterator over the key-value pairs contained in this map, fetching entries in pages of the given size.
+   * <p>
+   * Entries are read in key order within each partition as each page is fetched, so the iterator reflects updates
+   * made while iterating: entries removed before their page is fetched are skipped, and entries added after the
+   * current position are included.
+   *
+   * @param pageSize the maximum number of entries to fetch in each page
+   * @return an iterator over the key-value pairs contained in this map
+   */
+  AsyncIterator<Map.Entry<K, V>> entryIterator(int pageSize);
+
   /**
    * Registers the specified listener to be notified whenever the map is updated.
    *
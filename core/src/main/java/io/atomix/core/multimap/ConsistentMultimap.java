@@ -18,6 +18,7 @@ package io.atomix.core.multimap;
 
 import com.google.common.collect.Multiset;
 import com.google.common.util.concurrent.MoreExecutors;
+import io.atomix.core.iterator.AsyncIterator;
 import io.atomix.primitive.PrimitiveType;
 import io.atomix.primitive.SyncPrimitive;
 import io.atomix.utils.time.Versioned;
@@ -26,6 +27,7 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.Executor;
+import java.util.stream.Stream;
 
 /**
  * This provides a synchronous version of the functionality provided by
@@ -205,6 +207,30 @@ public interface ConsistentMultimap<K, V> extends SyncPrimitive {
    */
   Collection<Map.Entry<K, V>> entries();
 
+  /**
+   * Returns a stream of the key-value pairs contained in this map.
+   * <p>
+   * Unlike {@link #entries()}, the stream fetches entries from the map in pages of
+   * {@link AsyncIterator#DEFAULT_PAGE_SIZE} entries rather than loading the entire map into memory.
+   *
+   * @return a stream of the key-value pairs contained in this map
+   * @see #entryStream(int)
+   */
+  default Stream<Map.Entry<K, V>> entryStream() {
+    return entryStream(AsyncIterator.DEFAULT_PAGE_SIZE);
+  }
+
+  /**
+   * Returns a stream of the key-value pairs contained in this map, fetching entries in pages of the given size.
+   * <p>
+   * Entries are read in key order within each partition as each page is fetched, so entries removed before their
+   * page is fetched are skipped, and entries added after the current position are included.
+   *
+   * @param pageSize the maximum number of entries to fetch in each page
+   * @return a stream of the key-value pairs contained in this map
+   */
+  Stream<Map.Entry<K, V>> entryStream(int pageSize);
+
   /**
    * Returns a map of keys to collections of values that reflect the set of
    * key-value pairs contained in the multimap, where the key value pairs
@@ -18,7 +18,9 @@ package io.atomix.core.multimap.impl;
 
 import com.google.common.base.Throwables;
 import com.google.common.collect.Multiset;
+import com.google.common.collect.Streams;
 
+import io.atomix.core.iterator.impl.BlockingIterator;
 import io.atomix.core.map.ConsistentMapException;
 import io.atomix.core.multimap.AsyncConsistentMultimap;
 import io.atomix.core.multimap.ConsistentMultimap;
@@ -34,6 +36,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
+import java.util.stream.Stream;
 
 /**
  * Implementation of {@link ConsistentMultimap} providing synchronous access to
@@ -140,6 +143,13 @@ public class BlockingConsistentMultimap<K, V>
     return complete(asyncMultimap.entries());
   }
 
+  @Override
+  public Stream<Map.Entry<K, V>> entryStream(int pageSize) {
+    BlockingIterator<Map.Entry<K, V>> iterator =
+        new BlockingIterator<>(asyncMultimap.entryIterator(pageSize), operationTimeoutMillis);
+    return Streams.stream(iterator).onClose(iterator::close);
+  }
+
   @Override
   public Map<K, Collection<V>> asMap() {
     throw new UnsupportedOperationException("This operation is not yet " +
@@ -18,6 +18,7 @@ package io.atomix.core.multimap.impl;
 
 import com.google.common.base.MoreObjects;
 import com.google.common.collect.Maps;
+import io.atomix.core.iterator.impl.IteratorBatch;
 import io.atomix.primitive.operation.OperationId;
 import io.atomix.primitive.operation.OperationType;
 import io.atomix.utils.misc.Match;
@@ -53,7 +54,8 @@ public enum ConsistentSetMultimapOperations implements OperationId {
   REPLACE(OperationType.COMMAND),
   CLEAR(OperationType.COMMAND),
   ADD_LISTENER(OperationType.COMMAND),
-  REMOVE_LISTENER(OperationType.COMMAND);
+  REMOVE_LISTENER(OperationType.COMMAND),
+  ITERATOR_NEXT(OperationType.QUERY);
 
   private final OperationType type;
 
@@ -86,6 +88,8 @@ public enum ConsistentSetMultimapOperations implements OperationId {
       .register(Versioned.class)
       .register(ArrayList.class)
       .register(Maps.immutableEntry("", "").getClass())
+      .register(IteratorNext.class)
+      .register(IteratorBatch.class)
       .build(ConsistentSetMultimapProxy.class.getSimpleName());
 
   /**
@@ -382,4 +386,58 @@ public enum ConsistentSetMultimapOperations implements OperationId {
       super(key);
     }
   }
+
+  /**
+   * Iterator next query.
+   */
+  public static class IteratorNext extends MultimapOperation {
+    private String lastKey;
+    private byte[] lastValue;
+    private int pageSize;
+
+    public IteratorNext() {
+    }
+
+    public IteratorNext(String lastKey, byte[] lastValue, int pageSize) {
+      this.lastKey = lastKey;
+      this.lastValue = lastValue;
+      this.pageSize = pageSize;
+    }
+
+    /**
+     * Returns the key of the last entry of the previous page.
+     *
+     * @return the key of the last entry of the previous page, or {@code null} to read the first page
+     */
+    public String lastKey() {
+      return lastKey;
+    }
+
+    /**
+     * Returns the value of the last entry of the previous page.
+     *
+     * @return the value of the last entry of the previous page, or {@code null} to read the first page
+     */
+    public byte[] lastValue() {
+      return lastValue;
+    }
+
+    /**
+     * Returns the maximum number of entries to return.
+     *
+     * @return the maximum number of entries to return
+     */
+    public int pageSize() {
+      return pageSize;
+    }
+
+    @Override
+    public String toString() {
+      return MoreObjects.toStringHelper(getClass())
+          .add("lastKey", lastKey)
+          .add("lastValue", lastValue)
+          .add("pageSize", pageSize)
+          .toString();
+    }
+  }
 }
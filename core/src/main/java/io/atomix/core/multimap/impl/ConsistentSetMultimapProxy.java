@@ -22,6 +22,8 @@ import com.google.common.collect.ImmutableSet;
 import com.google.common.collect.Iterables;
 import com.google.common.collect.Multiset;
 import com.google.common.collect.Multisets;
+import io.atomix.core.iterator.AsyncIterator;
+import io.atomix.core.iterator.impl.IteratorBatch;
 import io.atomix.core.multimap.AsyncConsistentMultimap;
 import io.atomix.core.multimap.ConsistentMultimap;
 import io.atomix.core.multimap.MultimapEvent;
@@ -30,14 +32,17 @@ import io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.ContainsEntr
 import io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.ContainsKey;
 import io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.ContainsValue;
 import io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.Get;
+import io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.IteratorNext;
 import io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.MultiRemove;
 import io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.Put;
 import io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.RemoveAll;
 import io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.Replace;
 import io.atomix.primitive.PrimitiveRegistry;
 import io.atomix.primitive.AbstractAsyncPrimitive;
+import io.atomix.primitive.partition.PartitionId;
 import io.atomix.primitive.proxy.PartitionProxy;
 import io.atomix.primitive.proxy.PrimitiveProxy;
+import io.atomix.utils.concurrent.Futures;
 import io.atomix.utils.serializer.KryoNamespace;
 import io.atomix.utils.serializer.KryoNamespaces;
 import io.atomix.utils.serializer.Serializer;
@@ -46,14 +51,18 @@ import io.atomix.utils.time.Versioned;
 import java.time.Duration;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.Executor;
 import java.util.function.Predicate;
+import java.util.stream.Collectors;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static io.atomix.core.multimap.impl.ConsistentSetMultimapEvents.CHANGE;
 import static io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.ADD_LISTENER;
 import static io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.CLEAR;
@@ -62,6 +71,7 @@ import static io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.CONTA
 import static io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.CONTAINS_VALUE;
 import static io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.ENTRIES;
 import static io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.GET;
+import static io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.ITERATOR_NEXT;
 import static io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.KEYS;
 import static io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.KEY_SET;
 import static io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.PUT;
@@ -196,6 +206,12 @@ public class ConsistentSetMultimapProxy
         .thenApply(results -> results.reduce((s1, s2) -> ImmutableList.copyOf(Iterables.concat(s1, s2))).orElse(ImmutableList.of()));
   }
 
+  @Override
+  public AsyncIterator<Map.Entry<String, byte[]>> entryIterator(int pageSize) {
+    checkArgument(pageSize > 0, "pageSize must be positive");
+    return new ProxyIterator(pageSize);
+  }
+
   @Override
   public CompletableFuture<Void> addListener(MultimapEventListener<String, byte[]> listener, Executor executor) {
     if (mapEventListeners.isEmpty()) {
@@ -241,4 +257,113 @@ public class ConsistentSetMultimapProxy
   public ConsistentMultimap<String, byte[]> sync(Duration operationTimeout) {
     return new BlockingConsistentMultimap<>(this, operationTimeout.toMillis());
   }
-}
\ No newline at end of file
+
+  /**
+   * Iterator over the entries in all partitions.
+   * <p>
+   * The first page is requested from all partitions when the iterator is created, and partitions are then
+   * consumed one at a time.
+   */
+  private class ProxyIterator implements AsyncIterator<Map.Entry<String, byte[]>> {
+    private final List<PartitionIterator> partitions;
+    private final Iterator<PartitionIterator> partitionIterator;
+    private PartitionIterator partition;
+
+    ProxyIterator(int pageSize) {
+      this.partitions = getPartitionIds().stream()
+          .map(partitionId -> new PartitionIterator(partitionId, pageSize))
+          .collect(Collectors.toList());
+      this.partitionIterator = partitions.iterator();
+      this.partition = partitionIterator.hasNext() ? partitionIterator.next() : null;
+    }
+
+    @Override
+    public CompletableFuture<Boolean> hasNext() {
+      if (partition == null) {
+        return CompletableFuture.completedFuture(false);
+      }
+      return partition.hasNext().thenCompose(hasNext -> {
+        if (hasNext) {
+          return CompletableFuture.completedFuture(true);
+        }
+        partition = partitionIterator.hasNext() ? partitionIterator.next() : null;
+        return hasNext();
+      });
+    }
+
+    @Override
+    public CompletableFuture<Map.Entry<String, byte[]>> next() {
+      return hasNext().thenCompose(hasNext -> {
+        if (!hasNext) {
+          return Futures.exceptionalFuture(new NoSuchElementException());
+        }
+        return CompletableFuture.completedFuture(partition.next());
+      });
+    }
+
+    @Override
+    public CompletableFuture<Void> close() {
+      partition = null;
+      return CompletableFuture.allOf(partitions.stream()
+          .map(PartitionIterator::close)
+          .toArray(CompletableFuture[]::new));
+    }
+  }
+
+  /**
+   * Iterator over the entries in a single partition.
+   * <p>
+   * Partitions hold no iterator state. Each page is requested with the last entry of the previous page, and the
+   * next page is requested as soon as the current page is received.
+   */
+  private class PartitionIterator {
+    private final PartitionId partitionId;
+    private final int pageSize;
+    private CompletableFuture<IteratorBatch<Map.Entry<String, byte[]>>> batchFuture;
+    private Iterator<Map.Entry<String, byte[]>> entries = Collections.emptyIterator();
+
+    PartitionIterator(PartitionId partitionId, int pageSize) {
+      this.partitionId = partitionId;
+      this.pageSize = pageSize;
+      this.batchFuture = nextBatch(null);
+    }
+
+    /**
+     * Requests the page following the given entry.
+     */
+    private CompletableFuture<IteratorBatch<Map.Entry<String, byte[]>>> nextBatch(Map.Entry<String, byte[]> lastEntry) {
+      return invokeOn(partitionId, ITERATOR_NEXT, lastEntry == null
+          ? new IteratorNext(null, null, pageSize)
+          : new IteratorNext(lastEntry.getKey(), lastEntry.getValue(), pageSize));
+    }
+
+    CompletableFuture<Boolean> hasNext() {
+      if (entries.hasNext()) {
+        return CompletableFuture.completedFuture(true);
+      }
+      if (batchFuture == null) {
+        return CompletableFuture.completedFuture(false);
+      }
+      return batchFuture.thenCompose(batch -> {
+        List<Map.Entry<String, byte[]>> elements = batch.elements();
+        entries = elements.iterator();
+        if (batch.complete() || elements.isEmpty()) {
+          batchFuture = null;
+        } else {
+          batchFuture = nextBatch(elements.get(elements.size() - 1));
+        }
+        return hasNext();
+      });
+    }
+
+    Map.Entry<String, byte[]> next() {
+      return entries.next();
+    }
+
+    CompletableFuture<Void> close() {
+      batchFuture = null;
+      entries = Collections.emptyIterator();
+      return CompletableFuture.completedFuture(null);
+    }
+  }
+}
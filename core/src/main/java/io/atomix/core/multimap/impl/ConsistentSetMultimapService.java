@@ -26,11 +26,13 @@ import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Multiset;
 import com.google.common.collect.Sets;
+import io.atomix.core.iterator.impl.IteratorBatch;
 import io.atomix.core.multimap.MultimapEvent;
 import io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.ContainsEntry;
 import io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.ContainsKey;
 import io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.ContainsValue;
 import io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.Get;
+import io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.IteratorNext;
 import io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.MultiRemove;
 import io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.MultimapOperation;
 import io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.Put;
@@ -50,15 +52,20 @@ import io.atomix.utils.serializer.Serializer;
 import io.atomix.utils.time.Versioned;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NavigableMap;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.TreeSet;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
@@ -77,6 +84,7 @@ import static io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.CONTA
 import static io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.ENTRIES;
 import static io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.GET;
 import static io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.IS_EMPTY;
+import static io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.ITERATOR_NEXT;
 import static io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.KEYS;
 import static io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.KEY_SET;
 import static io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.PUT;
@@ -113,11 +121,12 @@ public class ConsistentSetMultimapService extends AbstractPrimitiveService {
           return commit;
         }
       }, NonTransactionalCommit.class)
+      .register(TreeMap.class)
       .build());
 
   private AtomicLong globalVersion = new AtomicLong(1);
   private Map<Long, PrimitiveSession> listeners = new LinkedHashMap<>();
-  private Map<String, MapEntryValue> backingMap = Maps.newHashMap();
+  private NavigableMap<String, MapEntryValue> backingMap = Maps.newTreeMap();
 
   public ConsistentSetMultimapService(ServiceConfig config) {
     super(config);
@@ -144,7 +153,10 @@ public class ConsistentSetMultimapService extends AbstractPrimitiveService {
       listeners.put(sessionId, getSession(sessionId));
     }
 
-    backingMap = reader.readObject(serializer::decode);
+    Map<String, MapEntryValue> entries = reader.readObject(serializer::decode);
+    backingMap = entries instanceof NavigableMap
+        ? (NavigableMap<String, MapEntryValue>) entries
+        : new TreeMap<>(entries);
   }
 
   @Override
@@ -166,6 +178,7 @@ public class ConsistentSetMultimapService extends AbstractPrimitiveService {
     executor.register(REPLACE, this::replace);
     executor.register(ADD_LISTENER, this::listen);
     executor.register(REMOVE_LISTENER, this::unlisten);
+    executor.register(ITERATOR_NEXT, this::iteratorNext);
   }
 
   @Override
@@ -313,6 +326,55 @@ public class ConsistentSetMultimapService extends AbstractPrimitiveService {
         .collect(new EntrySetCollector());
   }
 
+  /**
+   * Handles an iterator next query.
+   * <p>
+   * Iterators hold no state in the service. Entries are returned in key order and then in value order, and each
+   * page starts after the last entry of the previous page. Since both keys and values are sorted, each page is read
+   * by seeking to the entry following the last entry of the previous page rather than scanning the multimap.
+   *
+   * @param commit the iterator next commit
+   * @return the next batch of entries
+   */
+  protected IteratorBatch<Map.Entry<String, byte[]>> iteratorNext(Commit<? extends IteratorNext> commit) {
+    String lastKey = commit.value().lastKey();
+    int pageSize = commit.value().pageSize();
+    List<Map.Entry<String, byte[]>> page = new ArrayList<>();
+
+    NavigableMap<String, MapEntryValue> tailMap = backingMap;
+    if (lastKey != null) {
+      // Read the remaining values of the last key before moving on to the following keys.
+      MapEntryValue entryValue = backingMap.get(lastKey);
+      byte[] lastValue = commit.value().lastValue();
+      if (entryValue != null && addValues(lastKey, entryValue.valuesAfter(lastValue), page, pageSize)) {
+        return new IteratorBatch<>(page, false);
+      }
+      tailMap = backingMap.tailMap(lastKey, false);
+    }
+
+    Iterator<Map.Entry<String, MapEntryValue>> iterator = tailMap.entrySet().iterator();
+    while (iterator.hasNext() && page.size() < pageSize) {
+      Map.Entry<String, MapEntryValue> entry = iterator.next();
+      if (addValues(entry.getKey(), entry.getValue().valuesAfter(null), page, pageSize)) {
+        return new IteratorBatch<>(page, false);
+      }
+    }
+    return new IteratorBatch<>(page, !iterator.hasNext());
+  }
+
+  /**
+   * Adds the given values to the page until the page is full.
+   *
+   * @return indicates whether values remain that did not fit in the page
+   */
+  private boolean addValues(String key, Collection<byte[]> values, List<Map.Entry<String, byte[]>> page, int pageSize) {
+    Iterator<byte[]> iterator = values.iterator();
+    while (iterator.hasNext() && page.size() < pageSize) {
+      page.add(Maps.immutableEntry(key, iterator.next()));
+    }
+    return iterator.hasNext();
+  }
+
   /**
    * Handles a Get commit.
    *
@@ -443,7 +505,7 @@ public class ConsistentSetMultimapService extends AbstractPrimitiveService {
    * @param events list of map event to publish
    */
   private void publish(List<MultimapEvent<String, byte[]>> events) {
-    listeners.values().forEach(session -> session.publish(CHANGE, events));
+    publish(listeners.values(), CHANGE, events);
   }
 
   private interface MapEntryValue {
@@ -455,6 +517,14 @@ public class ConsistentSetMultimapService extends AbstractPrimitiveService {
      */
     Collection<? extends byte[]> values();
 
+    /**
+     * Returns a view of the values following the given value in sorted order.
+     *
+     * @param value the value after which to return values, or {@code null} to return all values
+     * @return a view of the values following the given value
+     */
+    Collection<byte[]> valuesAfter(byte[] value);
+
     /**
      * Returns the version of the value.
      *
@@ -490,6 +560,11 @@ public class ConsistentSetMultimapService extends AbstractPrimitiveService {
       return ImmutableSet.copyOf(valueSet);
     }
 
+    @Override
+    public Collection<byte[]> valuesAfter(byte[] value) {
+      return Collections.unmodifiableSet(value == null ? valueSet : valueSet.tailSet(value, false));
+    }
+
     @Override
     public long version() {
       return version;
@@ -18,6 +18,7 @@ package io.atomix.core.multimap.impl;
 
 import com.google.common.collect.Multiset;
 
+import io.atomix.core.iterator.AsyncIterator;
 import io.atomix.core.multimap.AsyncConsistentMultimap;
 import io.atomix.core.multimap.ConsistentMultimap;
 import io.atomix.core.multimap.MultimapEventListener;
@@ -138,6 +139,11 @@ public class DelegatingAsyncConsistentMultimap<K, V>
     return delegateMap.entries();
   }
 
+  @Override
+  public AsyncIterator<Map.Entry<K, V>> entryIterator(int pageSize) {
+    return delegateMap.entryIterator(pageSize);
+  }
+
   @Override
   public CompletableFuture<Void> addListener(MultimapEventListener<K, V> listener, Executor executor) {
     return delegateMap.addListener(listener, executor);
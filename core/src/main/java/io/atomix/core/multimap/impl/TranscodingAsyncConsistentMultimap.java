@@ -20,6 +20,8 @@ import com.google.common.collect.ImmutableMultiset;
 import com.google.common.collect.Maps;
 import com.google.common.collect.Multiset;
 
+import io.atomix.core.iterator.AsyncIterator;
+import io.atomix.core.iterator.impl.TranscodingIterator;
 import io.atomix.core.multimap.AsyncConsistentMultimap;
 import io.atomix.core.multimap.ConsistentMultimap;
 import io.atomix.core.multimap.MultimapEvent;
@@ -240,6 +242,12 @@ public class TranscodingAsyncConsistentMultimap<K1, V1, K2, V2> implements Async
         .collect(Collectors.toSet()));
   }
 
+  @Override
+  public AsyncIterator<Map.Entry<K1, V1>> entryIterator(int pageSize) {
+    return new TranscodingIterator<>(backingMap.entryIterator(pageSize),
+        e -> Maps.immutableEntry(keyDecoder.apply(e.getKey()), valueDecoder.apply(e.getValue())));
+  }
+
   @Override
   public CompletableFuture<Map<K1, Collection<V1>>> asMap() {
     throw new UnsupportedOperationException("Unsupported operation.");
@@ -36,7 +36,6 @@ import io.atomix.core.tree.impl.DocumentTreeOperations.Unlisten;
 import io.atomix.core.tree.impl.DocumentTreeOperations.Update;
 import io.atomix.core.tree.impl.DocumentTreeResult.Status;
 import io.atomix.primitive.Ordering;
-import io.atomix.primitive.event.EventType;
 import io.atomix.primitive.service.AbstractPrimitiveService;
 import io.atomix.primitive.service.BackupInput;
 import io.atomix.primitive.service.BackupOutput;
@@ -56,6 +55,7 @@ import java.util.Iterator;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Optional;
 import java.util.Queue;
 import java.util.Set;
@@ -279,16 +279,20 @@ public class DocumentTreeService extends AbstractPrimitiveService {
   }
 
   private void publish(List<DocumentTreeEvent<byte[]>> events) {
-    listeners.values().forEach(session -> {
-      session.publish(CHANGE, events);
-    });
+    publish(listeners.values()
+        .stream()
+        .map(SessionListenCommits::session)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList()), CHANGE, events);
   }
 
   private void notifyListeners(DocumentTreeEvent<byte[]> event) {
-    listeners.values()
+    publish(listeners.values()
         .stream()
         .filter(l -> event.path().isDescendentOf(l.leastCommonAncestorPath()))
-        .forEach(listener -> listener.publish(CHANGE, Arrays.asList(event)));
+        .map(SessionListenCommits::session)
+        .filter(Objects::nonNull)
+        .collect(Collectors.toList()), CHANGE, Arrays.asList(event));
   }
 
   @Override
@@ -330,9 +334,8 @@ public class DocumentTreeService extends AbstractPrimitiveService {
       return leastCommonAncestorPath;
     }
 
-    public <M> void publish(EventType topic, M message) {
-      listeners.stream().findAny().ifPresent(listener ->
-          listener.session().publish(topic, message));
+    public PrimitiveSession session() {
+      return listeners.isEmpty() ? null : listeners.get(0).session();
     }
 
     private void recomputeLeastCommonAncestor() {
@@ -97,7 +97,7 @@ public class AtomicValueService extends AbstractPrimitiveService {
     byte[] oldValue = this.value;
     this.value = value;
     AtomicValueEvent<byte[]> event = new AtomicValueEvent<>(oldValue, value);
-    listeners.forEach(s -> s.publish(CHANGE, event));
+    publish(listeners, CHANGE, event);
     return oldValue;
   }
 
@@ -15,13 +15,25 @@
  */
 package io.atomix.core.map.impl;
 
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+import io.atomix.core.iterator.impl.IteratorBatch;
+import io.atomix.core.map.MapEvent;
+import io.atomix.core.map.MapEventFilter;
 import io.atomix.core.map.impl.ConsistentMapOperations.Get;
+import io.atomix.core.map.impl.ConsistentMapOperations.IteratorNext;
 import io.atomix.core.map.impl.ConsistentMapOperations.Put;
+import io.atomix.core.map.impl.ConsistentMapOperations.PutAll;
+import io.atomix.core.map.impl.ConsistentMapOperations.Remove;
+import io.atomix.core.map.impl.ConsistentMapOperations.RemoveAll;
+import io.atomix.primitive.event.EventType;
+import io.atomix.primitive.event.PrimitiveEvent;
 import io.atomix.primitive.service.ServiceConfig;
 import io.atomix.primitive.service.impl.DefaultBackupInput;
 import io.atomix.primitive.service.impl.DefaultBackupOutput;
 import io.atomix.primitive.service.impl.DefaultCommit;
 import io.atomix.primitive.session.PrimitiveSession;
+import io.atomix.primitive.session.SessionId;
 import io.atomix.storage.buffer.Buffer;
 import io.atomix.storage.buffer.HeapBuffer;
 import io.atomix.utils.concurrent.Scheduled;
@@ -29,14 +41,39 @@ import io.atomix.utils.concurrent.Scheduler;
 import io.atomix.utils.time.Versioned;
 import io.atomix.utils.time.WallClock;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 
 import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
 
 import static io.atomix.core.map.impl.ConsistentMapOperations.GET;
+import static io.atomix.core.map.impl.ConsistentMapOperations.ITERATOR_NEXT;
 import static io.atomix.core.map.impl.ConsistentMapOperations.PUT;
+import static io.atomix.core.map.impl.ConsistentMapOperations.PUT_ALL;
+import static io.atomix.core.map.impl.ConsistentMapOperations.REMOVE;
+import static io.atomix.core.map.impl.ConsistentMapOperations.REMOVE_ALL;
 import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 /**
  * Consistent map service test.
@@ -73,6 +110,225 @@ public class ConsistentMapServiceTest {
     assertNotNull(service.entries().get("foo").timer);
   }
 
+  @Test
+  public void testPublishEncodesEventOnce() throws Exception {
+    ConsistentMapService service = new TestConsistentMapService(new ServiceConfig());
+
+    PrimitiveSession session1 = mock(PrimitiveSession.class);
+    when(session1.sessionId()).thenReturn(SessionId.from(1));
+    PrimitiveSession session2 = mock(PrimitiveSession.class);
+    when(session2.sessionId()).thenReturn(SessionId.from(2));
+    service.listen(session1);
+    service.listen(session2);
+
+    service.put(new DefaultCommit<>(
+        2,
+        PUT,
+        new Put("foo", "Hello world!".getBytes(), 0),
+        mock(PrimitiveSession.class),
+        System.currentTimeMillis()));
+
+    ArgumentCaptor<PrimitiveEvent> event1 = ArgumentCaptor.forClass(PrimitiveEvent.class);
+    ArgumentCaptor<PrimitiveEvent> event2 = ArgumentCaptor.forClass(PrimitiveEvent.class);
+    verify(session1).publish(event1.capture());
+    verify(session2).publish(event2.capture());
+    verify(session1, never()).publish(any(EventType.class), any());
+    verify(session2, never()).publish(any(EventType.class), any());
+    assertSame(event1.getValue(), event2.getValue());
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void testFilteredPublish() throws Exception {
+    ConsistentMapService service = new TestConsistentMapService(new ServiceConfig());
+
+    PrimitiveSession session1 = mock(PrimitiveSession.class);
+    when(session1.sessionId()).thenReturn(SessionId.from(1));
+    service.listen(session1, Collections.singletonList(MapEventFilter.<String>builder()
+        .withKeyPrefixes("foo")
+        .withTypes(EnumSet.of(MapEvent.Type.INSERT))
+        .build()));
+
+    // Filters should be retained in the service backup, including filters built from an EnumSet.
+    Buffer buffer = HeapBuffer.allocate();
+    service.backup(new DefaultBackupOutput(buffer, service.serializer()));
+    service = new TestConsistentMapService(new ServiceConfig()) {
+      @Override
+      protected PrimitiveSession getSession(long sessionId) {
+        return session1;
+      }
+    };
+    service.restore(new DefaultBackupInput(buffer.flip(), service.serializer()));
+
+    PrimitiveSession session2 = mock(PrimitiveSession.class);
+    when(session2.sessionId()).thenReturn(SessionId.from(2));
+    service.listen(session2);
+
+    service.put(new DefaultCommit<>(
+        2,
+        PUT,
+        new Put("bar", "Hello world!".getBytes(), 0),
+        mock(PrimitiveSession.class),
+        System.currentTimeMillis()));
+    service.put(new DefaultCommit<>(
+        3,
+        PUT,
+        new Put("foobar", "Hello world!".getBytes(), 0),
+        mock(PrimitiveSession.class),
+        System.currentTimeMillis()));
+    service.remove(new DefaultCommit<>(
+        4,
+        REMOVE,
+        new Remove("foobar"),
+        mock(PrimitiveSession.class),
+        System.currentTimeMillis()));
+
+    verify(session1).publish(any(PrimitiveEvent.class));
+    verify(session1, never()).publish(any(EventType.class), any());
+    verify(session2, times(3)).publish(any(PrimitiveEvent.class));
+
+    ArgumentCaptor<PrimitiveEvent> event = ArgumentCaptor.forClass(PrimitiveEvent.class);
+    verify(session1).publish(event.capture());
+    List<MapEvent<String, byte[]>> events = service.serializer().decode(event.getValue().value());
+    assertEquals(1, events.size());
+    assertEquals("foobar", events.get(0).key());
+    assertEquals(MapEvent.Type.INSERT, events.get(0).type());
+  }
+
+  @Test
+  public void testIterator() throws Exception {
+    ConsistentMapService service = new TestConsistentMapService(new ServiceConfig());
+    service.putAll(new DefaultCommit<>(
+        2,
+        PUT_ALL,
+        new PutAll(ImmutableMap.of("e", "e".getBytes(), "d", "d".getBytes(), "c", "c".getBytes(), "b", "b".getBytes(), "a", "a".getBytes())),
+        mock(PrimitiveSession.class),
+        System.currentTimeMillis()));
+
+    IteratorBatch<Map.Entry<String, Versioned<byte[]>>> batch = service.iteratorNext(new DefaultCommit<>(
+        3,
+        ITERATOR_NEXT,
+        new IteratorNext(null, 2),
+        mock(PrimitiveSession.class),
+        System.currentTimeMillis()));
+    assertEquals(Arrays.asList("a", "b"), batch.elements().stream().map(Map.Entry::getKey).collect(Collectors.toList()));
+    assertFalse(batch.complete());
+
+    // Keys removed between pages should be skipped.
+    service.remove(new DefaultCommit<>(
+        4,
+        REMOVE,
+        new Remove("c"),
+        mock(PrimitiveSession.class),
+        System.currentTimeMillis()));
+
+    Buffer buffer = HeapBuffer.allocate();
+    service.backup(new DefaultBackupOutput(buffer, service.serializer()));
+    service = new TestConsistentMapService(new ServiceConfig());
+    service.restore(new DefaultBackupInput(buffer.flip(), service.serializer()));
+
+    batch = service.iteratorNext(new DefaultCommit<>(
+        4,
+        ITERATOR_NEXT,
+        new IteratorNext("b", 2),
+        mock(PrimitiveSession.class),
+        System.currentTimeMillis()));
+    assertEquals(Arrays.asList("d", "e"), batch.elements().stream().map(Map.Entry::getKey).collect(Collectors.toList()));
+    assertArrayEquals("d".getBytes(), batch.elements().get(0).getValue().value());
+    assertTrue(batch.complete());
+  }
+
+  @Test
+  public void testIteratorPageCost() throws Exception {
+    AtomicLong comparisons = new AtomicLong();
+    ConsistentMapService service = new TestConsistentMapService(new ServiceConfig()) {
+      @Override
+      protected NavigableMap<String, MapEntryValue> createMap() {
+        return new TreeMap<>((a, b) -> {
+          comparisons.incrementAndGet();
+          return a.compareTo(b);
+        });
+      }
+    };
+
+    int entries = 100000;
+    int pageSize = 100;
+    Map<String, byte[]> values = new HashMap<>();
+    for (int i = 0; i < entries; i++) {
+      values.put(String.format("%08d", i), new byte[0]);
+    }
+    service.putAll(new DefaultCommit<>(
+        2,
+        PUT_ALL,
+        new PutAll(values),
+        mock(PrimitiveSession.class),
+        System.currentTimeMillis()));
+
+    // Each page should seek to the last key of the previous page rather than scanning the map.
+    comparisons.set(0);
+    String lastKey = null;
+    int pages = 0;
+    int count = 0;
+    IteratorBatch<Map.Entry<String, Versioned<byte[]>>> batch;
+    do {
+      batch = service.iteratorNext(new DefaultCommit<>(
+          3,
+          ITERATOR_NEXT,
+          new IteratorNext(lastKey, pageSize),
+          mock(PrimitiveSession.class),
+          System.currentTimeMillis()));
+      for (Map.Entry<String, Versioned<byte[]>> entry : batch.elements()) {
+        assertEquals(String.format("%08d", count++), entry.getKey());
+        lastKey = entry.getKey();
+      }
+      pages++;
+    } while (!batch.complete());
+
+    assertEquals(entries, count);
+    assertEquals(entries / pageSize, pages);
+    assertTrue(comparisons.get() / pages <= 4 * 32);
+  }
+
+  @Test
+  public void testBulkOperationsAreAtomic() throws Exception {
+    ConsistentMapService service = new TestConsistentMapService(new ServiceConfig());
+    service.preparedKeys.add("bar");
+
+    // A batch containing a locked key should not be applied at all.
+    assertEquals(MapEntryUpdateResult.Status.WRITE_LOCK, service.putAll(new DefaultCommit<>(
+        2,
+        PUT_ALL,
+        new PutAll(ImmutableMap.of("foo", "foo".getBytes(), "bar", "bar".getBytes())),
+        mock(PrimitiveSession.class),
+        System.currentTimeMillis())));
+    assertNull(service.entries().get("foo"));
+
+    assertEquals(MapEntryUpdateResult.Status.OK, service.putAll(new DefaultCommit<>(
+        3,
+        PUT_ALL,
+        new PutAll(ImmutableMap.of("foo", "foo".getBytes(), "baz", "baz".getBytes())),
+        mock(PrimitiveSession.class),
+        System.currentTimeMillis())));
+    assertArrayEquals("foo".getBytes(), service.entries().get("foo").value());
+    assertEquals(3, service.entries().get("baz").version());
+
+    assertEquals(MapEntryUpdateResult.Status.WRITE_LOCK, service.removeAll(new DefaultCommit<>(
+        4,
+        REMOVE_ALL,
+        new RemoveAll(ImmutableSet.of("foo", "bar")),
+        mock(PrimitiveSession.class),
+        System.currentTimeMillis())));
+    assertNotNull(service.entries().get("foo"));
+
+    assertEquals(MapEntryUpdateResult.Status.OK, service.removeAll(new DefaultCommit<>(
+        5,
+        REMOVE_ALL,
+        new RemoveAll(ImmutableSet.of("foo", "baz")),
+        mock(PrimitiveSession.class),
+        System.currentTimeMillis())));
+    assertTrue(service.entries().isEmpty());
+  }
+
   private static class TestConsistentMapService extends ConsistentMapService {
     TestConsistentMapService(ServiceConfig config) {
       super(config);
@@ -15,11 +15,14 @@
  */
 package io.atomix.core.map.impl;
 
+import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.Sets;
 import io.atomix.core.AbstractPrimitiveTest;
+import io.atomix.core.iterator.AsyncIterator;
 import io.atomix.core.map.AsyncConsistentMap;
 import io.atomix.core.map.ConsistentMap;
 import io.atomix.core.map.MapEvent;
+import io.atomix.core.map.MapEventFilter;
 import io.atomix.core.map.MapEventListener;
 import io.atomix.core.transaction.CommitStatus;
 import io.atomix.core.transaction.Isolation;
@@ -29,19 +32,25 @@ import io.atomix.utils.time.Versioned;
 import org.junit.Test;
 
 import java.time.Duration;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.LinkedBlockingQueue;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
 
 /**
  * Unit tests for {@link io.atomix.core.map.ConsistentMap}.
@@ -272,6 +281,77 @@ public abstract class ConsistentMapTest extends AbstractPrimitiveTest {
     }).join();
   }
 
+  @Test
+  public void testBulkMapOperations() throws Throwable {
+    AsyncConsistentMap<String, String> map = atomix().<String, String>consistentMapBuilder("testBulkMapOperationsMap", protocol()).build().async();
+    TestMapEventListener listener = new TestMapEventListener();
+    map.addListener(listener).join();
+
+    Map<String, String> entries = new HashMap<>();
+    for (int i = 0; i < 100; i++) {
+      entries.put("key" + i, "value" + i);
+    }
+    map.putAll(entries).join();
+    assertEquals(100, map.size().join().intValue());
+    assertEquals("value50", map.get("key50").join().value());
+    for (int i = 0; i < 100; i++) {
+      assertEquals(MapEvent.Type.INSERT, listener.event().type());
+    }
+
+    // verify only changed values generate events.
+    map.putAll(ImmutableMap.of("key1", "value1", "key2", "foo")).join();
+    MapEvent<String, String> event = listener.event();
+    assertEquals(MapEvent.Type.UPDATE, event.type());
+    assertEquals("key2", event.key());
+    assertEquals("foo", event.newValue().value());
+    assertEquals("value2", event.oldValue().value());
+    assertFalse(listener.eventReceived());
+
+    map.removeAll(Arrays.asList("key1", "key2", "key3", "missing")).join();
+    assertEquals(97, map.size().join().intValue());
+    assertFalse(map.containsKey("key2").join());
+    for (int i = 0; i < 3; i++) {
+      assertEquals(MapEvent.Type.REMOVE, listener.event().type());
+    }
+    assertFalse(listener.eventReceived());
+
+    map.removeAll(entries.keySet()).join();
+    assertTrue(map.isEmpty().join());
+    map.removeListener(listener).join();
+  }
+
+  @Test
+  public void testMapIterators() throws Throwable {
+    AsyncConsistentMap<String, String> map = atomix().<String, String>consistentMapBuilder("testMapIteratorsMap", protocol()).build().async();
+
+    Map<String, String> entries = new HashMap<>();
+    for (int i = 0; i < 100; i++) {
+      entries.put("key" + i, "value" + i);
+    }
+    map.putAll(entries).join();
+
+    Map<String, String> iterated = new HashMap<>();
+    AsyncIterator<Map.Entry<String, Versioned<String>>> iterator = map.entryIterator(7);
+    while (iterator.hasNext().join()) {
+      Map.Entry<String, Versioned<String>> entry = iterator.next().join();
+      iterated.put(entry.getKey(), entry.getValue().value());
+    }
+    assertEquals(entries, iterated);
+
+    try {
+      iterator.next().join();
+      fail();
+    } catch (CompletionException e) {
+      assertTrue(e.getCause() instanceof NoSuchElementException);
+    }
+
+    ConsistentMap<String, String> syncMap = map.sync();
+    try (Stream<Map.Entry<String, Versioned<String>>> stream = syncMap.entryStream(10)) {
+      assertEquals(5, stream.limit(5).count());
+    }
+    assertEquals(entries.keySet(), syncMap.entryStream().map(Map.Entry::getKey).collect(Collectors.toSet()));
+  }
+
   @Test
   public void testMapComputeOperations() throws Throwable {
     final String value1 = "value1";
@@ -380,6 +460,51 @@ public abstract class ConsistentMapTest extends AbstractPrimitiveTest {
     map.removeListener(listener).join();
   }
 
+  @Test
+  public void testFilteredMapListeners() throws Throwable {
+    AsyncConsistentMap<String, String> map = atomix().<String, String>consistentMapBuilder("testFilteredMapListenerMap", protocol()).build().async();
+    TestMapEventListener keyListener = new TestMapEventListener();
+    TestMapEventListener typeListener = new TestMapEventListener();
+
+    map.addListener(keyListener, MapEventFilter.<String>builder()
+        .withKeys("foo", "bar")
+        .build()).join();
+    map.addListener(typeListener, MapEventFilter.<String>builder()
+        .withTypes(MapEvent.Type.REMOVE)
+        .build()).join();
+
+    // verify only the key listener is notified of inserts of its keys.
+    map.put("baz", "value1").thenCompose(v -> map.put("foo", "value2")).join();
+    MapEvent<String, String> event = keyListener.event();
+    assertEquals("foo", event.key());
+    assertEquals(MapEvent.Type.INSERT, event.type());
+    assertFalse(keyListener.eventReceived());
+    assertFalse(typeListener.eventReceived());
+
+    // verify only the type listener is notified of the removal of other keys.
+    map.remove("baz").join();
+    event = typeListener.event();
+    assertEquals("baz", event.key());
+    assertEquals(MapEvent.Type.REMOVE, event.type());
+    assertFalse(keyListener.eventReceived());
+
+    // verify both listeners are notified of events matching both filters.
+    map.remove("foo").join();
+    assertEquals("foo", keyListener.event().key());
+    assertEquals("foo", typeListener.event().key());
+
+    // verify the remaining listener's filter still applies once the other listener is removed.
+    map.removeListener(typeListener).join();
+    map.put("baz", "value3").thenCompose(v -> map.remove("baz")).thenCompose(v -> map.put("bar", "value4")).join();
+    event = keyListener.event();
+    assertEquals("bar", event.key());
+    assertEquals(MapEvent.Type.INSERT, event.type());
+    assertFalse(keyListener.eventReceived());
+    assertFalse(typeListener.eventReceived());
+
+    map.removeListener(keyListener).join();
+  }
+
   @Test
   public void testTransaction() throws Throwable {
     Transaction transaction1 = atomix().transactionBuilder()
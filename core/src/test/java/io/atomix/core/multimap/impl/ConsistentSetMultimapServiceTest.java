@@ -15,7 +15,9 @@
  */
 package io.atomix.core.multimap.impl;
 
+import io.atomix.core.iterator.impl.IteratorBatch;
 import io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.Get;
+import io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.IteratorNext;
 import io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.Put;
 import io.atomix.primitive.service.ServiceConfig;
 import io.atomix.primitive.service.impl.DefaultBackupInput;
@@ -30,12 +32,18 @@ import org.junit.Test;
 
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 
 import static io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.GET;
+import static io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.ITERATOR_NEXT;
 import static io.atomix.core.multimap.impl.ConsistentSetMultimapOperations.PUT;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
 
 /**
@@ -70,4 +78,55 @@ public class ConsistentSetMultimapServiceTest {
     assertEquals(1, value.value().size());
     assertArrayEquals("Hello world!".getBytes(), value.value().iterator().next());
   }
+
+  @Test
+  public void testIterator() throws Exception {
+    ConsistentSetMultimapService service = new ConsistentSetMultimapService(new ServiceConfig());
+    put(service, "c", "5", "6");
+    put(service, "a", "3", "1", "2");
+    put(service, "b", "4");
+
+    IteratorBatch<Map.Entry<String, byte[]>> batch = iteratorNext(service, null, null, 2);
+    assertEquals(Arrays.asList("a1", "a2"), toStrings(batch));
+    assertFalse(batch.complete());
+
+    // Pages resume within the values of the last key of the previous page.
+    batch = iteratorNext(service, "a", "2", 2);
+    assertEquals(Arrays.asList("a3", "b4"), toStrings(batch));
+    assertFalse(batch.complete());
+
+    Buffer buffer = HeapBuffer.allocate();
+    service.backup(new DefaultBackupOutput(buffer, service.serializer()));
+    service = new ConsistentSetMultimapService(new ServiceConfig());
+    service.restore(new DefaultBackupInput(buffer.flip(), service.serializer()));
+
+    batch = iteratorNext(service, "b", "4", 2);
+    assertEquals(Arrays.asList("c5", "c6"), toStrings(batch));
+    assertTrue(batch.complete());
+  }
+
+  private void put(ConsistentSetMultimapService service, String key, String... values) {
+    service.put(new DefaultCommit<>(
+        2,
+        PUT,
+        new Put(key, Arrays.stream(values).map(String::getBytes).collect(Collectors.toList()), Match.ANY),
+        mock(PrimitiveSession.class),
+        System.currentTimeMillis()));
+  }
+
+  private IteratorBatch<Map.Entry<String, byte[]>> iteratorNext(
+      ConsistentSetMultimapService service, String lastKey, String lastValue, int pageSize) {
+    return service.iteratorNext(new DefaultCommit<>(
+        3,
+        ITERATOR_NEXT,
+        new IteratorNext(lastKey, lastValue != null ? lastValue.getBytes() : null, pageSize),
+        mock(PrimitiveSession.class),
+        System.currentTimeMillis()));
+  }
+
+  private static List<String> toStrings(IteratorBatch<Map.Entry<String, byte[]>> batch) {
+    return batch.elements().stream()
+        .map(entry -> entry.getKey() + new String(entry.getValue()))
+        .collect(Collectors.toList());
+  }
 }
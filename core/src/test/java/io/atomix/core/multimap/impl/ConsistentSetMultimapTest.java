@@ -22,14 +22,20 @@ import com.google.common.collect.Multiset;
 import com.google.common.collect.TreeMultiset;
 
 import io.atomix.core.AbstractPrimitiveTest;
+import io.atomix.core.iterator.AsyncIterator;
 import io.atomix.core.multimap.AsyncConsistentMultimap;
+import io.atomix.core.multimap.ConsistentMultimap;
 
 import org.junit.Test;
 
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
@@ -367,6 +373,37 @@ public abstract class ConsistentSetMultimapTest extends AbstractPrimitiveTest {
     map.delete().join();
   }
 
+  @Test
+  public void testMultimapIterators() throws Throwable {
+    AsyncConsistentMultimap<String, String> map = createMultimap("testMultimapIterators");
+
+    Set<Map.Entry<String, String>> entries = new HashSet<>();
+    for (int i = 0; i < 20; i++) {
+      List<String> values = new ArrayList<>();
+      for (int j = 0; j < i % 4 + 1; j++) {
+        values.add("value" + j);
+        entries.add(Maps.immutableEntry("key" + i, "value" + j));
+      }
+      map.putAll("key" + i, values).join();
+    }
+
+    Set<Map.Entry<String, String>> iterated = new HashSet<>();
+    AsyncIterator<Map.Entry<String, String>> iterator = map.entryIterator(3);
+    while (iterator.hasNext().join()) {
+      Map.Entry<String, String> entry = iterator.next().join();
+      assertTrue(iterated.add(Maps.immutableEntry(entry.getKey(), entry.getValue())));
+    }
+    assertEquals(entries, iterated);
+
+    ConsistentMultimap<String, String> syncMap = map.sync();
+    try (Stream<Map.Entry<String, String>> stream = syncMap.entryStream(5)) {
+      assertEquals(5, stream.limit(5).count());
+    }
+    assertEquals(entries.size(), syncMap.entryStream().count());
+
+    map.delete().join();
+  }
+
   private AsyncConsistentMultimap<String, String> createMultimap(String mapName) {
     try {
       return atomix().<String, String>consistentMultimapBuilder(mapName, protocol()).withCacheEnabled().build().async();
@@ -17,6 +17,7 @@ package io.atomix.messaging;
 
 import io.atomix.utils.net.Address;
 
+import java.nio.ByteBuffer;
 import java.time.Duration;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
@@ -46,6 +47,23 @@ public interface MessagingService {
    */
   CompletableFuture<Void> sendAsync(Address address, String type, byte[] payload);
 
+  /**
+   * Sends a message asynchronously to the specified communication address.
+   * <p>
+   * The remaining bytes of the payload buffer are sent without copying them into an intermediate array where the
+   * implementation allows it. The buffer must not be modified until the returned future is completed.
+   *
+   * @param address address to send the message to.
+   * @param type    type of message.
+   * @param payload message payload buffer.
+   * @return future that is completed when the message is sent
+   */
+  default CompletableFuture<Void> sendAsync(Address address, String type, ByteBuffer payload) {
+    byte[] bytes = new byte[payload.remaining()];
+    payload.duplicate().get(bytes);
+    return sendAsync(address, type, bytes);
+  }
+
   /**
    * Sends a message asynchronously and expects a response.
    *
@@ -90,6 +108,39 @@ public interface MessagingService {
    */
   CompletableFuture<byte[]> sendAndReceive(Address address, String type, byte[] payload, Duration timeout, Executor executor);
 
+  /**
+   * Sends a message asynchronously and expects a response.
+   * <p>
+   * The remaining bytes of the payload buffer are sent without copying them into an intermediate array where the
+   * implementation allows it. The buffer must not be modified until the returned future is completed.
+   *
+   * @param address address to send the message to.
+   * @param type    type of message.
+   * @param payload message payload buffer.
+   * @return a response future
+   */
+  default CompletableFuture<byte[]> sendAndReceive(Address address, String type, ByteBuffer payload) {
+    return sendAndReceive(address, type, payload, null);
+  }
+
+  /**
+   * Sends a message asynchronously and expects a response.
+   * <p>
+   * The remaining bytes of the payload buffer are sent without copying them into an intermediate array where the
+   * implementation allows it. The buffer must not be modified until the returned future is completed.
+   *
+   * @param address address to send the message to.
+   * @param type    type of message.
+   * @param payload message payload buffer.
+   * @param timeout response timeout
+   * @return a response future
+   */
+  default CompletableFuture<byte[]> sendAndReceive(Address address, String type, ByteBuffer payload, Duration timeout) {
+    byte[] bytes = new byte[payload.remaining()];
+    payload.duplicate().get(bytes);
+    return sendAndReceive(address, type, bytes, timeout);
+  }
+
   /**
    * Registers a new message handler for message type.
    *
@@ -116,6 +167,36 @@ public interface MessagingService {
    */
   void registerHandler(String type, BiFunction<Address, byte[], CompletableFuture<byte[]>> handler);
 
+  /**
+   * Registers a new message handler for message type that reads the message payload from a buffer.
+   * <p>
+   * The payload buffer may be backed by pooled memory and is only valid until the handler returns. Handlers
+   * must copy any bytes they need to retain beyond the handler call.
+   *
+   * @param type     message type.
+   * @param handler  message handler
+   * @param executor executor to use for running message handler logic.
+   */
+  default void registerBufferHandler(String type, BiConsumer<Address, ByteBuffer> handler, Executor executor) {
+    BiConsumer<Address, byte[]> consumer = (address, payload) -> handler.accept(address, ByteBuffer.wrap(payload));
+    registerHandler(type, consumer, executor);
+  }
+
+  /**
+   * Registers a new message handler for message type that reads the message payload from a buffer.
+   * <p>
+   * The payload buffer may be backed by pooled memory and is only valid until the handler returns. Handlers
+   * must copy any bytes they need to retain beyond the handler call.
+   *
+   * @param type     message type.
+   * @param handler  message handler
+   * @param executor executor to use for running message handler logic.
+   */
+  default void registerBufferHandler(String type, BiFunction<Address, ByteBuffer, byte[]> handler, Executor executor) {
+    BiFunction<Address, byte[], byte[]> function = (address, payload) -> handler.apply(address, ByteBuffer.wrap(payload));
+    registerHandler(type, function, executor);
+  }
+
   /**
    * Unregister current handler, if one exists for message type.
    *
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2018-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.messaging.impl;
+
+/**
+ * Strategy for selecting a connection from the pool of connections to a remote node.
+ * <p>
+ * Messages sent over the same connection are delivered in the order in which they were sent. Only
+ * {@link #SUBJECT_AFFINITY} guarantees that all messages for a subject use the same connection; subjects that require
+ * ordering can be pinned to a connection regardless of the strategy when the messaging service is built.
+ */
+public enum ChannelSelectionStrategy {
+
+  /**
+   * Selects a connection by hashing the message subject, preserving the order of messages for each subject.
+   */
+  SUBJECT_AFFINITY,
+
+  /**
+   * Selects connections in turn for each message.
+   */
+  ROUND_ROBIN,
+
+  /**
+   * Selects the connection with the fewest bytes waiting to be written to the socket.
+   */
+  LEAST_OUTSTANDING_BYTES
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2018-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.messaging.impl;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelDuplexHandler;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelPromise;
+
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Outbound handler that coalesces flushes of encoded messages.
+ * <p>
+ * Rather than flushing the channel for each message, a flush request is deferred until the configured maximum delay
+ * has elapsed, so that all messages written in the meantime are written to the socket together. The channel is flushed
+ * immediately once the bytes written since the last flush reach the configured maximum. The handler must be placed
+ * between the message encoder and the head of the pipeline, and is only installed when a positive delay is configured.
+ */
+class FlushBatchingHandler extends ChannelDuplexHandler {
+  private final long maxDelayNanos;
+  private final int maxBytes;
+  private ChannelHandlerContext context;
+  private long pendingBytes;
+  private boolean flushPending;
+  private Future<?> flushFuture;
+  private final Runnable flushTask = () -> {
+    flushFuture = null;
+    if (flushPending) {
+      flushNow(context);
+    }
+  };
+
+  FlushBatchingHandler(long maxDelayNanos, int maxBytes) {
+    this.maxDelayNanos = maxDelayNanos;
+    this.maxBytes = maxBytes;
+  }
+
+  @Override
+  public void handlerAdded(ChannelHandlerContext context) throws Exception {
+    this.context = context;
+  }
+
+  @Override
+  public void write(ChannelHandlerContext context, Object message, ChannelPromise promise) throws Exception {
+    if (message instanceof ByteBuf) {
+      pendingBytes += ((ByteBuf) message).readableBytes();
+    }
+    context.write(message, promise);
+  }
+
+  @Override
+  public void flush(ChannelHandlerContext context) throws Exception {
+    if (pendingBytes >= maxBytes) {
+      flushNow(context);
+    } else {
+      flushPending = true;
+      if (flushFuture == null) {
+        flushFuture = context.executor().schedule(flushTask, maxDelayNanos, TimeUnit.NANOSECONDS);
+      }
+    }
+  }
+
+  @Override
+  public void channelWritabilityChanged(ChannelHandlerContext context) throws Exception {
+    // If the outbound buffer filled up, flush pending writes immediately to drain it.
+    if (!context.channel().isWritable() && flushPending) {
+      flushNow(context);
+    }
+    context.fireChannelWritabilityChanged();
+  }
+
+  @Override
+  public void disconnect(ChannelHandlerContext context, ChannelPromise promise) throws Exception {
+    flushIfPending(context);
+    context.disconnect(promise);
+  }
+
+  @Override
+  public void close(ChannelHandlerContext context, ChannelPromise promise) throws Exception {
+    flushIfPending(context);
+    context.close(promise);
+  }
+
+  @Override
+  public void handlerRemoved(ChannelHandlerContext context) throws Exception {
+    flushIfPending(context);
+  }
+
+  /**
+   * Flushes the channel if a flush has been deferred.
+   */
+  private void flushIfPending(ChannelHandlerContext context) {
+    if (flushPending) {
+      flushNow(context);
+    }
+  }
+
+  /**
+   * Flushes the channel immediately, cancelling any scheduled flush.
+   */
+  private void flushNow(ChannelHandlerContext context) {
+    if (flushFuture != null) {
+      flushFuture.cancel(false);
+      flushFuture = null;
+    }
+    flushPending = false;
+    pendingBytes = 0;
+    context.flush();
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.messaging.impl;
+
+import io.atomix.utils.net.Address;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Registry of the messaging services running in this JVM with the in-JVM transport enabled.
+ * <p>
+ * Messages between two registered services are handed directly to the receiving service's handlers rather than
+ * being encoded and written to a socket.
+ */
+final class InJvmTransportRegistry {
+  private static final Map<Address, NettyMessagingService> SERVICES = new ConcurrentHashMap<>();
+
+  /**
+   * Registers a messaging service.
+   *
+   * @param address the address at which the service is listening
+   * @param service the messaging service
+   */
+  static void register(Address address, NettyMessagingService service) {
+    SERVICES.put(address, service);
+  }
+
+  /**
+   * Unregisters a messaging service.
+   *
+   * @param address the address at which the service is listening
+   * @param service the messaging service
+   */
+  static void unregister(Address address, NettyMessagingService service) {
+    SERVICES.remove(address, service);
+  }
+
+  /**
+   * Returns the messaging service registered at the given address.
+   *
+   * @param address the address for which to return the messaging service
+   * @return the messaging service registered at the given address or {@code null} if no service is registered
+   */
+  static NettyMessagingService get(Address address) {
+    return SERVICES.get(address);
+  }
+
+  private InJvmTransportRegistry() {
+  }
+}
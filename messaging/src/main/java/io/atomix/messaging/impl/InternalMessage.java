@@ -15,8 +15,17 @@
  */
 package io.atomix.messaging.impl;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
+import io.netty.buffer.Unpooled;
+
+import java.nio.ByteBuffer;
+
 /**
  * Base class for internal messages.
+ * <p>
+ * The message payload is held in a {@link ByteBuf}. Messages decoded from the network hold a retained slice of the
+ * inbound buffer, which must be {@link #release() released} once the message has been handled.
  */
 public abstract class InternalMessage {
 
@@ -62,14 +71,25 @@ public abstract class InternalMessage {
 
   private final int preamble;
   private final long id;
-  private final byte[] payload;
+  private final ByteBuf payload;
+  private final byte[] array;
 
   protected InternalMessage(int preamble,
                             long id,
                             byte[] payload) {
     this.preamble = preamble;
     this.id = id;
+    this.payload = Unpooled.wrappedBuffer(payload);
+    this.array = payload;
+  }
+
+  protected InternalMessage(int preamble,
+                            long id,
+                            ByteBuf payload) {
+    this.preamble = preamble;
+    this.id = id;
     this.payload = payload;
+    this.array = null;
   }
 
   public abstract Type type();
@@ -90,7 +110,50 @@ public abstract class InternalMessage {
     return id;
   }
 
+  /**
+   * Returns the message payload as a byte array.
+   * <p>
+   * If the message was constructed from a byte array, the array is returned. Otherwise, the payload is copied.
+   *
+   * @return the message payload
+   */
   public byte[] payload() {
+    return array != null ? array : ByteBufUtil.getBytes(payload);
+  }
+
+  /**
+   * Returns the message payload as a {@link ByteBuffer} without copying it where possible.
+   * <p>
+   * The returned buffer is only valid until the message is released.
+   *
+   * @return the message payload buffer
+   */
+  public ByteBuffer payloadBuffer() {
+    return payload.nioBuffer();
+  }
+
+  /**
+   * Returns the number of bytes in the message payload.
+   *
+   * @return the number of bytes in the message payload
+   */
+  public int payloadLength() {
+    return payload.readableBytes();
+  }
+
+  /**
+   * Returns the underlying payload buffer.
+   *
+   * @return the underlying payload buffer
+   */
+  ByteBuf payloadBuf() {
     return payload;
   }
+
+  /**
+   * Releases the message payload.
+   */
+  public void release() {
+    payload.release();
+  }
 }
\ No newline at end of file
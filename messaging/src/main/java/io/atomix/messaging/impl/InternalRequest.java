@@ -17,7 +17,7 @@ package io.atomix.messaging.impl;
 
 import com.google.common.base.MoreObjects;
 import io.atomix.utils.net.Address;
-import io.atomix.utils.misc.ArraySizeHashPrinter;
+import io.netty.buffer.ByteBuf;
 
 /**
  * Internal request message.
@@ -37,6 +37,17 @@ public final class InternalRequest extends InternalMessage {
         this.subject = subject;
     }
 
+    public InternalRequest(
+        int preamble,
+        long id,
+        Address sender,
+        String subject,
+        ByteBuf payload) {
+        super(preamble, id, payload);
+        this.sender = sender;
+        this.subject = subject;
+    }
+
     @Override
     public Type type() {
         return Type.REQUEST;
@@ -56,7 +67,7 @@ public final class InternalRequest extends InternalMessage {
                 .add("id", id())
                 .add("subject", subject)
                 .add("sender", sender)
-                .add("payload", ArraySizeHashPrinter.of(payload()))
+                .add("payload", payloadLength())
                 .toString();
     }
 }
\ No newline at end of file
@@ -17,6 +17,7 @@ package io.atomix.messaging.impl;
 
 import io.atomix.utils.net.Address;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.ByteToMessageDecoder;
 import org.slf4j.Logger;
@@ -24,7 +25,10 @@ import org.slf4j.LoggerFactory;
 
 import java.net.InetAddress;
 import java.nio.charset.Charset;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 import static com.google.common.base.Preconditions.checkState;
 import static java.nio.charset.StandardCharsets.UTF_8;
@@ -36,8 +40,6 @@ public class MessageDecoder extends ByteToMessageDecoder {
 
   private final Logger log = LoggerFactory.getLogger(getClass());
 
-  private static final byte[] EMPTY_PAYLOAD = new byte[0];
-
   private static final int BYTE_SIZE = 1;
   private static final int SHORT_SIZE = 2;
   private static final int INT_SIZE = 4;
@@ -53,8 +55,10 @@ public class MessageDecoder extends ByteToMessageDecoder {
   private int preamble;
   private long messageId;
   private int contentLength;
-  private byte[] content;
+  private ByteBuf content;
   private int subjectLength;
+  private final List<String> subjects = new ArrayList<>();
+  private final Set<String> registeredSubjects = new HashSet<>();
 
   @Override
   @SuppressWarnings("squid:S128") // suppress switch fall through warning
@@ -115,11 +119,11 @@ public class MessageDecoder extends ByteToMessageDecoder {
           return;
         }
         if (contentLength > 0) {
-          // TODO: Perform a sanity check on the size before allocating
-          content = new byte[contentLength];
-          buffer.readBytes(content);
+          // Retain a slice of the inbound buffer rather than copying the content. The slice is released once
+          // the message has been handled.
+          content = buffer.readRetainedSlice(contentLength);
         } else {
-          content = EMPTY_PAYLOAD;
+          content = Unpooled.EMPTY_BUFFER;
         }
 
         switch (type) {
@@ -145,12 +149,25 @@ public class MessageDecoder extends ByteToMessageDecoder {
               return;
             }
             subjectLength = buffer.readShort();
+
+            // A negative length indicates the subject is identified by a previously registered subject ID.
+            if (subjectLength < 0) {
+              final int subjectId = -subjectLength - 1;
+              checkState(subjectId < subjects.size(), "Unknown subject ID %s", subjectId);
+              out.add(new InternalRequest(preamble, messageId, address, subjects.get(subjectId), content));
+              content = null;
+              currentState = DecoderState.READ_TYPE;
+              break;
+            }
             currentState = DecoderState.READ_SUBJECT;
           case READ_SUBJECT:
             if (buffer.readableBytes() < subjectLength) {
               return;
             }
             final String subject = readString(buffer, subjectLength, UTF_8);
+            if (subjects.size() < MessageEncoder.MAX_SUBJECTS && registeredSubjects.add(subject)) {
+              subjects.add(subject);
+            }
             InternalRequest message = new InternalRequest(
                 preamble,
                 messageId,
@@ -158,6 +175,7 @@ public class MessageDecoder extends ByteToMessageDecoder {
                 subject,
                 content);
             out.add(message);
+            content = null;
             currentState = DecoderState.READ_TYPE;
             break;
           default:
@@ -176,6 +194,7 @@ public class MessageDecoder extends ByteToMessageDecoder {
                 content,
                 status);
             out.add(message);
+            content = null;
             currentState = DecoderState.READ_TYPE;
             break;
           default:
@@ -203,6 +222,15 @@ public class MessageDecoder extends ByteToMessageDecoder {
     }
   }
 
+  @Override
+  protected void handlerRemoved0(ChannelHandlerContext context) throws Exception {
+    // Release the content of a partially decoded message.
+    if (content != null) {
+      content.release();
+      content = null;
+    }
+  }
+
   @Override
   public void exceptionCaught(ChannelHandlerContext context, Throwable cause) {
     try {
@@ -15,29 +15,52 @@
  */
 package io.atomix.messaging.impl;
 
+import io.atomix.messaging.MessagingException;
 import io.atomix.utils.net.Address;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.ByteBufUtil;
 import io.netty.channel.ChannelHandlerContext;
-import io.netty.handler.codec.MessageToByteEncoder;
+import io.netty.handler.codec.MessageToMessageEncoder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.net.InetAddress;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
 
 /**
  * Encode InternalMessage out into a byte buffer.
+ * <p>
+ * Heap payloads are copied into the encoded buffer, since the transport would otherwise copy them into direct memory
+ * for the socket write anyway. Direct payloads of at least {@link #MIN_UNCOPIED_PAYLOAD_SIZE} bytes are instead
+ * written as a retained slice in a composite buffer, so they are written to the socket without being copied.
+ * <p>
+ * Request subjects may be interned per connection. Each request with a subject that has not yet been assigned an ID
+ * writes the subject's length and UTF-8 bytes, and both the encoder and the decoder on the other end of the connection
+ * assign the subject the next subject ID. Once {@link #enableSubjectInterning() enabled}, subsequent requests with the
+ * same subject write only the negated ID in place of the subject length. Interning must only be enabled once the
+ * remote peer has reported a protocol version that supports it, since older decoders can't read subject IDs.
  */
-public class MessageEncoder extends MessageToByteEncoder<Object> {
-// Effectively MessageToByteEncoder<InternalMessage>,
+public class MessageEncoder extends MessageToMessageEncoder<Object> {
+// Effectively MessageToMessageEncoder<InternalMessage>,
 // had to specify <Object> to avoid Class Loader not being able to find some classes.
 
+  static final int MAX_SUBJECTS = 1024;
+  static final int MAX_SUBJECT_LENGTH = Short.MAX_VALUE;
+  static final int MIN_UNCOPIED_PAYLOAD_SIZE = 1024;
+  private static final int MAX_HEADER_LENGTH = 1 + 16 + Integer.BYTES + 1 + Integer.BYTES + Long.BYTES + Integer.BYTES;
+
   private final Logger log = LoggerFactory.getLogger(getClass());
 
   private final Address address;
   private final int preamble;
   private boolean addressWritten;
+  private final Map<String, Integer> subjects = new HashMap<>();
+  private volatile boolean internSubjects;
 
   public MessageEncoder(Address address, int preamble) {
     super();
@@ -45,19 +68,74 @@ public class MessageEncoder extends MessageToByteEncoder<Object> {
     this.preamble = preamble;
   }
 
+  /**
+   * Enables writing subject IDs in place of previously written subjects.
+   * <p>
+   * This must only be called once the remote peer is known to support subject interning.
+   */
+  public void enableSubjectInterning() {
+    internSubjects = true;
+  }
+
   @Override
   protected void encode(
       ChannelHandlerContext context,
       Object rawMessage,
-      ByteBuf out) throws Exception {
-    if (rawMessage instanceof InternalRequest) {
-      encodeRequest((InternalRequest) rawMessage, out);
-    } else if (rawMessage instanceof InternalReply) {
-      encodeReply((InternalReply) rawMessage, out);
+      List<Object> out) throws Exception {
+    final InternalMessage message = (InternalMessage) rawMessage;
+
+    // Reject subjects whose length can't be represented before writing anything to the channel.
+    if (message instanceof InternalRequest) {
+      checkSubject(((InternalRequest) message).subject());
+    }
+
+    final ByteBuf payload = message.payloadBuf();
+    final int payloadLength = payload.readableBytes();
+    final int trailerLength = trailerLength(message);
+
+    // Socket writes require direct memory, so heap payloads are copied into the outbound buffer, which is the only
+    // copy made of them. Large direct payloads are written between the header and trailer without being copied.
+    if (!payload.isDirect() || payloadLength < MIN_UNCOPIED_PAYLOAD_SIZE) {
+      final ByteBuf buffer = context.alloc().ioBuffer(MAX_HEADER_LENGTH + payloadLength + trailerLength);
+      encodeHeader(message, buffer);
+      buffer.writeBytes(payload, payload.readerIndex(), payloadLength);
+      encodeTrailer(message, buffer);
+      out.add(buffer);
+    } else {
+      final ByteBuf header = context.alloc().ioBuffer(MAX_HEADER_LENGTH);
+      encodeHeader(message, header);
+      final ByteBuf trailer = context.alloc().ioBuffer(trailerLength);
+      encodeTrailer(message, trailer);
+      out.add(context.alloc().compositeDirectBuffer(3)
+          .addComponents(true, header, payload.retainedSlice(payload.readerIndex(), payloadLength), trailer));
+    }
+  }
+
+  /**
+   * Checks that the given subject can be written to the channel.
+   *
+   * @param subject the subject to check
+   * @throws MessagingException if the subject is too long
+   */
+  private void checkSubject(String subject) throws MessagingException {
+    if (!subjects.containsKey(subject)
+        && ByteBufUtil.utf8MaxBytes(subject) > MAX_SUBJECT_LENGTH
+        && subject.getBytes(UTF_8).length > MAX_SUBJECT_LENGTH) {
+      throw new MessagingException("Subject exceeds the maximum length of " + MAX_SUBJECT_LENGTH + " bytes");
     }
   }
 
-  private void encodeMessage(InternalMessage message, ByteBuf out) {
+  /**
+   * Returns the maximum number of bytes written after the payload of the given message.
+   */
+  private int trailerLength(InternalMessage message) {
+    if (message instanceof InternalRequest) {
+      return Short.BYTES + ByteBufUtil.utf8MaxBytes(((InternalRequest) message).subject());
+    }
+    return Byte.BYTES;
+  }
+
+  private void encodeHeader(InternalMessage message, ByteBuf out) {
     // If the address hasn't been written to the channel, write it.
     if (!addressWritten) {
       final InetAddress senderIp = address.address();
@@ -77,35 +155,39 @@ public class MessageEncoder extends MessageToByteEncoder<Object> {
     // write message id
     out.writeLong(message.id());
 
-    final byte[] payload = message.payload();
-
     // write payload length
-    out.writeInt(payload.length);
+    out.writeInt(message.payloadLength());
+  }
 
-    // write payload.
-    out.writeBytes(payload);
+  private void encodeTrailer(InternalMessage message, ByteBuf out) {
+    if (message instanceof InternalRequest) {
+      encodeSubject((InternalRequest) message, out);
+    } else {
+      // write message status value
+      out.writeByte(((InternalReply) message).status().id());
+    }
   }
 
-  private void encodeRequest(InternalRequest request, ByteBuf out) {
-    encodeMessage(request, out);
+  private void encodeSubject(InternalRequest request, ByteBuf out) {
+    final String subject = request.subject();
+    final Integer subjectId = subjects.get(subject);
 
-    final ByteBuf buf = out.alloc().buffer(ByteBufUtil.utf8MaxBytes(request.subject()));
-    try {
-      final int length = ByteBufUtil.writeUtf8(buf, request.subject());
-      // write length of message type
-      out.writeShort(length);
-      // write message type bytes
-      out.writeBytes(buf);
-    } finally {
-      buf.release();
+    // If the subject has already been written to the channel and interning is enabled, write the subject ID.
+    if (subjectId != null && internSubjects) {
+      out.writeShort(-(subjectId + 1));
+      return;
     }
-  }
 
-  private void encodeReply(InternalReply reply, ByteBuf out) {
-    encodeMessage(reply, out);
+    // Reserve the length of the message type, write the message type bytes, and then write the length.
+    final int lengthIndex = out.writerIndex();
+    out.writeShort(0);
+    final int length = ByteBufUtil.writeUtf8(out, subject);
+    out.setShort(lengthIndex, length);
 
-    // write message status value
-    out.writeByte(reply.status().id());
+    // Register the subject. The decoder registers subjects in the same order, up to the same limit.
+    if (subjectId == null && subjects.size() < MAX_SUBJECTS) {
+      subjects.put(subject, subjects.size());
+    }
   }
 
   @Override
@@ -121,7 +203,7 @@ public class MessageEncoder extends MessageToByteEncoder<Object> {
     }
   }
 
-  // Effectively same result as one generated by MessageToByteEncoder<InternalMessage>
+  // Effectively same result as one generated by MessageToMessageEncoder<InternalMessage>
   @Override
   public final boolean acceptOutboundMessage(Object msg) throws Exception {
     return msg instanceof InternalMessage;
@@ -15,11 +15,13 @@
  */
 package io.atomix.messaging.impl;
 
+import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Throwables;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Maps;
+import com.google.common.primitives.Ints;
 import com.google.common.util.concurrent.MoreExecutors;
 import io.atomix.messaging.ManagedMessagingService;
 import io.atomix.messaging.MessagingException;
@@ -28,6 +30,7 @@ import io.atomix.utils.net.Address;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.bootstrap.ServerBootstrap;
 import io.netty.buffer.PooledByteBufAllocator;
+import io.netty.buffer.Unpooled;
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
@@ -35,6 +38,7 @@ import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.channel.ChannelInitializer;
 import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
 import io.netty.channel.EventLoopGroup;
 import io.netty.channel.ServerChannel;
 import io.netty.channel.SimpleChannelInboundHandler;
@@ -46,6 +50,8 @@ import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioServerSocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.util.HashedWheelTimer;
+import io.netty.util.Timeout;
 import org.apache.commons.math3.stat.descriptive.DescriptiveStatistics;
 import org.apache.commons.math3.stat.descriptive.SynchronizedDescriptiveStatistics;
 import org.slf4j.Logger;
@@ -59,6 +65,7 @@ import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
 import java.net.ConnectException;
+import java.nio.ByteBuffer;
 import java.security.Key;
 import java.security.KeyStore;
 import java.security.MessageDigest;
@@ -66,7 +73,6 @@ import java.security.cert.Certificate;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.Enumeration;
-import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -75,18 +81,18 @@ import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.Executor;
-import java.util.concurrent.Executors;
 import java.util.concurrent.RejectedExecutionException;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
+import java.util.function.Predicate;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static io.atomix.utils.concurrent.Threads.namedThreads;
 
@@ -111,6 +117,12 @@ public class NettyMessagingService implements ManagedMessagingService {
   public static class Builder extends MessagingService.Builder {
     private String name = DEFAULT_NAME;
     private Address address;
+    private Duration maxFlushDelay = DEFAULT_MAX_FLUSH_DELAY;
+    private int maxFlushBytes = DEFAULT_MAX_FLUSH_BYTES;
+    private int channelPoolSize = DEFAULT_CHANNEL_POOL_SIZE;
+    private ChannelSelectionStrategy channelSelectionStrategy = ChannelSelectionStrategy.SUBJECT_AFFINITY;
+    private Predicate<String> orderedSubjects = subject -> false;
+    private boolean inJvmTransport;
 
     /**
      * Sets the cluster name.
@@ -136,12 +148,110 @@ public class NettyMessagingService implements ManagedMessagingService {
       return this;
     }
 
+    /**
+     * Sets the maximum time for which a flush of outbound messages may be deferred.
+     * <p>
+     * Outbound messages written to a connection within the delay are flushed to the socket together. If the delay
+     * is zero, flush batching is disabled and each message is flushed as it's written.
+     *
+     * @param maxFlushDelay the maximum flush delay
+     * @return the Netty messaging service builder
+     * @throws NullPointerException if the delay is null
+     * @throws IllegalArgumentException if the delay is negative
+     */
+    public Builder withMaxFlushDelay(Duration maxFlushDelay) {
+      checkNotNull(maxFlushDelay, "maxFlushDelay cannot be null");
+      checkArgument(!maxFlushDelay.isNegative(), "maxFlushDelay cannot be negative");
+      this.maxFlushDelay = maxFlushDelay;
+      return this;
+    }
+
+    /**
+     * Sets the number of outbound bytes after which a deferred flush is performed immediately.
+     * <p>
+     * This option only applies when a positive {@link #withMaxFlushDelay(Duration) flush delay} is configured. If the
+     * number of bytes is zero, outbound messages are flushed individually.
+     *
+     * @param maxFlushBytes the maximum number of bytes to write between flushes
+     * @return the Netty messaging service builder
+     * @throws IllegalArgumentException if the number of bytes is negative
+     */
+    public Builder withMaxFlushBytes(int maxFlushBytes) {
+      checkArgument(maxFlushBytes >= 0, "maxFlushBytes cannot be negative");
+      this.maxFlushBytes = maxFlushBytes;
+      return this;
+    }
+
+    /**
+     * Sets the number of connections to open to each remote node.
+     *
+     * @param channelPoolSize the number of connections per remote node
+     * @return the Netty messaging service builder
+     * @throws IllegalArgumentException if the pool size is not positive
+     */
+    public Builder withChannelPoolSize(int channelPoolSize) {
+      checkArgument(channelPoolSize > 0, "channelPoolSize must be positive");
+      this.channelPoolSize = channelPoolSize;
+      return this;
+    }
+
+    /**
+     * Sets the strategy with which a connection is selected for each message sent to a remote node.
+     *
+     * @param channelSelectionStrategy the connection selection strategy
+     * @return the Netty messaging service builder
+     * @throws NullPointerException if the strategy is null
+     */
+    public Builder withChannelSelectionStrategy(ChannelSelectionStrategy channelSelectionStrategy) {
+      this.channelSelectionStrategy = checkNotNull(channelSelectionStrategy, "channelSelectionStrategy cannot be null");
+      return this;
+    }
+
+    /**
+     * Sets the subjects for which messages must be delivered in the order in which they were sent.
+     * <p>
+     * Messages for matching subjects are always sent over the connection selected by
+     * {@link ChannelSelectionStrategy#SUBJECT_AFFINITY} regardless of the configured strategy.
+     *
+     * @param orderedSubjects a predicate matching subjects that require ordering
+     * @return the Netty messaging service builder
+     * @throws NullPointerException if the predicate is null
+     */
+    public Builder withOrderedSubjects(Predicate<String> orderedSubjects) {
+      this.orderedSubjects = checkNotNull(orderedSubjects, "orderedSubjects cannot be null");
+      return this;
+    }
+
+    /**
+     * Sets whether to deliver messages to other messaging services in this JVM without going through a socket.
+     * <p>
+     * When enabled, the service registers itself with the in-JVM transport registry once started. Messages sent
+     * to the address of another started service that has also enabled the in-JVM transport and shares the same
+     * cluster name are handed directly to that service's handlers. Payloads are not copied, so senders must not
+     * modify a payload once it has been sent.
+     *
+     * @param inJvmTransport whether to enable the in-JVM transport
+     * @return the Netty messaging service builder
+     */
+    public Builder withInJvmTransport(boolean inJvmTransport) {
+      this.inJvmTransport = inJvmTransport;
+      return this;
+    }
+
     @Override
     public ManagedMessagingService build() {
       if (address == null) {
         address = Address.all();
       }
-      return new NettyMessagingService(name.hashCode(), address);
+      return new NettyMessagingService(
+          name.hashCode(),
+          address,
+          maxFlushDelay,
+          maxFlushBytes,
+          channelPoolSize,
+          channelSelectionStrategy,
+          orderedSubjects,
+          inJvmTransport);
     }
   }
 
@@ -155,13 +265,21 @@ public class NettyMessagingService implements ManagedMessagingService {
   private static final int MIN_SAMPLES = 25;
   private static final double PHI_FACTOR = 1.0 / Math.log(10.0);
   private static final int PHI_FAILURE_THRESHOLD = 12;
-  private static final int CHANNEL_POOL_SIZE = 8;
+  private static final int DEFAULT_CHANNEL_POOL_SIZE = 8;
+  private static final Duration DEFAULT_MAX_FLUSH_DELAY = Duration.ZERO;
+  private static final int DEFAULT_MAX_FLUSH_BYTES = 1024 * 64;
+
+  // The messaging protocol version. Version 2 added subject interning.
+  private static final int PROTOCOL_VERSION = 2;
+  private static final int SUBJECT_INTERNING_VERSION = 2;
+  private static final String PROTOCOL_VERSION_SUBJECT = "atomix-messaging-protocol-version";
+  private static final Duration PROTOCOL_VERSION_TIMEOUT = Duration.ofSeconds(5);
 
   private static final byte[] EMPTY_PAYLOAD = new byte[0];
 
   private final Logger log = LoggerFactory.getLogger(getClass());
 
-  private final LocalClientConnection localClientConnection = new LocalClientConnection();
+  private final LocalClientConnection localClientConnection = new LocalClientConnection(this);
   private final LocalServerConnection localServerConnection = new LocalServerConnection(null);
 
   //TODO CONFIG_DIR is duplicated from ConfigFileBasedClusterMetadataProvider
@@ -172,21 +290,28 @@ public class NettyMessagingService implements ManagedMessagingService {
 
   private final Address localAddress;
   private final int preamble;
+  private final long maxFlushDelayNanos;
+  private final int maxFlushBytes;
+  private final int channelPoolSize;
+  private final ChannelSelectionStrategy channelSelectionStrategy;
+  private final Predicate<String> orderedSubjects;
+  private final boolean inJvmTransport;
+  private final AtomicInteger channelIndex = new AtomicInteger();
   private final AtomicBoolean started = new AtomicBoolean(false);
   private final Map<String, BiConsumer<InternalRequest, ServerConnection>> handlers = new ConcurrentHashMap<>();
   private final Map<Channel, RemoteClientConnection> clientConnections = Maps.newConcurrentMap();
   private final Map<Channel, RemoteServerConnection> serverConnections = Maps.newConcurrentMap();
+  private final Map<Address, LocalClientConnection> inJvmConnections = Maps.newConcurrentMap();
   private final AtomicLong messageIdGenerator = new AtomicLong(0);
 
-  private ScheduledFuture<?> timeoutFuture;
-
   private final Map<Address, List<CompletableFuture<Channel>>> channels = Maps.newConcurrentMap();
 
   private EventLoopGroup serverGroup;
   private EventLoopGroup clientGroup;
   private Class<? extends ServerChannel> serverChannelClass;
   private Class<? extends Channel> clientChannelClass;
-  private ScheduledExecutorService timeoutExecutor;
+  @VisibleForTesting
+  HashedWheelTimer timeoutTimer;
   private Channel serverChannel;
 
   protected static final boolean TLS_ENABLED = true;
@@ -197,8 +322,35 @@ public class NettyMessagingService implements ManagedMessagingService {
   protected KeyManagerFactory keyManager;
 
   protected NettyMessagingService(int preamble, Address address) {
+    this(
+        preamble,
+        address,
+        DEFAULT_MAX_FLUSH_DELAY,
+        DEFAULT_MAX_FLUSH_BYTES,
+        DEFAULT_CHANNEL_POOL_SIZE,
+        ChannelSelectionStrategy.SUBJECT_AFFINITY,
+        subject -> false,
+        false);
+  }
+
+  protected NettyMessagingService(
+      int preamble,
+      Address address,
+      Duration maxFlushDelay,
+      int maxFlushBytes,
+      int channelPoolSize,
+      ChannelSelectionStrategy channelSelectionStrategy,
+      Predicate<String> orderedSubjects,
+      boolean inJvmTransport) {
     this.preamble = preamble;
     this.localAddress = address;
+    this.maxFlushDelayNanos = maxFlushDelay.toNanos();
+    this.maxFlushBytes = maxFlushBytes;
+    this.channelPoolSize = channelPoolSize;
+    this.channelSelectionStrategy = channelSelectionStrategy;
+    this.orderedSubjects = orderedSubjects;
+    this.inJvmTransport = inJvmTransport;
+    handlers.put(PROTOCOL_VERSION_SUBJECT, this::replyProtocolVersion);
   }
 
   @Override
@@ -216,11 +368,12 @@ public class NettyMessagingService implements ManagedMessagingService {
 
     initEventLoopGroup();
     return startAcceptingConnections().thenRun(() -> {
-      timeoutExecutor = Executors.newSingleThreadScheduledExecutor(
-          namedThreads("netty-messaging-timeout-%d", log));
-      timeoutFuture = timeoutExecutor.scheduleAtFixedRate(
-          this::timeoutAllCallbacks, TIMEOUT_INTERVAL, TIMEOUT_INTERVAL, TimeUnit.MILLISECONDS);
+      timeoutTimer = new HashedWheelTimer(
+          namedThreads("netty-messaging-timeout-%d", log), TIMEOUT_INTERVAL, TimeUnit.MILLISECONDS);
       started.set(true);
+      if (inJvmTransport) {
+        InJvmTransportRegistry.register(localAddress, this);
+      }
       log.info("Started");
     }).thenApply(v -> this);
   }
@@ -327,17 +480,6 @@ public class NettyMessagingService implements ManagedMessagingService {
     clientChannelClass = NioSocketChannel.class;
   }
 
-  /**
-   * Times out response callbacks.
-   */
-  private void timeoutAllCallbacks() {
-    // Iterate through all connections and time out callbacks.
-    localClientConnection.timeoutCallbacks();
-    for (RemoteClientConnection connection : clientConnections.values()) {
-      connection.timeoutCallbacks();
-    }
-  }
-
   @Override
   public CompletableFuture<Void> sendAsync(Address address, String type, byte[] payload) {
     InternalRequest message = new InternalRequest(preamble,
@@ -348,6 +490,16 @@ public class NettyMessagingService implements ManagedMessagingService {
     return executeOnPooledConnection(address, type, c -> c.sendAsync(message), MoreExecutors.directExecutor());
   }
 
+  @Override
+  public CompletableFuture<Void> sendAsync(Address address, String type, ByteBuffer payload) {
+    InternalRequest message = new InternalRequest(preamble,
+        messageIdGenerator.incrementAndGet(),
+        localAddress,
+        type,
+        Unpooled.wrappedBuffer(payload));
+    return executeOnPooledConnection(address, type, c -> c.sendAsync(message), MoreExecutors.directExecutor());
+  }
+
   @Override
   public CompletableFuture<byte[]> sendAndReceive(Address address, String type, byte[] payload) {
     return sendAndReceive(address, type, payload, null, MoreExecutors.directExecutor());
@@ -374,27 +526,90 @@ public class NettyMessagingService implements ManagedMessagingService {
     return executeOnPooledConnection(address, type, c -> c.sendAndReceive(message, timeout), executor);
   }
 
+  @Override
+  public CompletableFuture<byte[]> sendAndReceive(Address address, String type, ByteBuffer payload, Duration timeout) {
+    InternalRequest message = new InternalRequest(preamble,
+        messageIdGenerator.incrementAndGet(),
+        localAddress,
+        type,
+        Unpooled.wrappedBuffer(payload));
+    return executeOnPooledConnection(
+        address, type, c -> c.sendAndReceive(message, timeout), MoreExecutors.directExecutor());
+  }
+
   private List<CompletableFuture<Channel>> getChannelPool(Address address) {
     List<CompletableFuture<Channel>> channelPool = channels.get(address);
     if (channelPool != null) {
       return channelPool;
     }
     return channels.computeIfAbsent(address, e -> {
-      List<CompletableFuture<Channel>> defaultList = new ArrayList<>(CHANNEL_POOL_SIZE);
-      for (int i = 0; i < CHANNEL_POOL_SIZE; i++) {
+      List<CompletableFuture<Channel>> defaultList = new ArrayList<>(channelPoolSize);
+      for (int i = 0; i < channelPoolSize; i++) {
         defaultList.add(null);
       }
       return Lists.newCopyOnWriteArrayList(defaultList);
     });
   }
 
-  private int getChannelOffset(String messageType) {
-    return Math.abs(messageType.hashCode() % CHANNEL_POOL_SIZE);
+  private int getChannelOffset(List<CompletableFuture<Channel>> channelPool, String messageType) {
+    if (channelSelectionStrategy == ChannelSelectionStrategy.SUBJECT_AFFINITY || orderedSubjects.test(messageType)) {
+      return Math.abs(messageType.hashCode() % channelPoolSize);
+    }
+
+    int start = Math.floorMod(channelIndex.getAndIncrement(), channelPoolSize);
+    if (channelSelectionStrategy == ChannelSelectionStrategy.ROUND_ROBIN) {
+      return start;
+    }
+
+    // Select the channel that can accept the most bytes before becoming unwritable, i.e. the channel with the fewest
+    // bytes pending in its outbound buffer, starting from the next channel in turn so that idle channels share the
+    // load. Channels that have not yet been opened are considered idle.
+    int offset = start;
+    long maxWritableBytes = -1;
+    for (int i = 0; i < channelPoolSize; i++) {
+      int index = (start + i) % channelPoolSize;
+      CompletableFuture<Channel> channelFuture = channelPool.get(index);
+      long writableBytes = getWritableBytes(channelFuture);
+      if (writableBytes > maxWritableBytes) {
+        offset = index;
+        maxWritableBytes = writableBytes;
+        if (isIdle(channelFuture, writableBytes)) {
+          break;
+        }
+      }
+    }
+    return offset;
+  }
+
+  /**
+   * Returns the number of bytes that can be written to the given channel before it becomes unwritable.
+   *
+   * @param channelFuture the channel future
+   * @return the number of writable bytes, or {@link Long#MAX_VALUE} if the channel has not been opened
+   */
+  private long getWritableBytes(CompletableFuture<Channel> channelFuture) {
+    if (channelFuture == null || !channelFuture.isDone() || channelFuture.isCompletedExceptionally()) {
+      return Long.MAX_VALUE;
+    }
+    Channel channel = channelFuture.join();
+    return channel.isWritable() ? channel.bytesBeforeUnwritable() : 0;
+  }
+
+  /**
+   * Returns a boolean indicating whether the given channel has no bytes pending in its outbound buffer.
+   *
+   * @param channelFuture the channel future
+   * @param writableBytes the number of bytes that can be written to the channel before it becomes unwritable
+   * @return indicates whether the channel is idle
+   */
+  private boolean isIdle(CompletableFuture<Channel> channelFuture, long writableBytes) {
+    return writableBytes == Long.MAX_VALUE
+        || writableBytes >= channelFuture.join().config().getWriteBufferHighWaterMark();
   }
 
   private CompletableFuture<Channel> getChannel(Address address, String messageType) {
     List<CompletableFuture<Channel>> channelPool = getChannelPool(address);
-    int offset = getChannelOffset(messageType);
+    int offset = getChannelOffset(channelPool, messageType);
 
     CompletableFuture<Channel> channelFuture = channelPool.get(offset);
     if (channelFuture == null || channelFuture.isCompletedExceptionally()) {
@@ -471,8 +686,9 @@ public class NettyMessagingService implements ManagedMessagingService {
       Function<ClientConnection, CompletableFuture<T>> callback,
       Executor executor,
       CompletableFuture<T> future) {
-    if (address.equals(localAddress)) {
-      callback.apply(localClientConnection).whenComplete((result, error) -> {
+    ClientConnection localConnection = getLocalConnection(address);
+    if (localConnection != null) {
+      callback.apply(localConnection).whenComplete((result, error) -> {
         if (error == null) {
           executor.execute(() -> future.complete(result));
         } else {
@@ -505,6 +721,38 @@ public class NettyMessagingService implements ManagedMessagingService {
     });
   }
 
+  /**
+   * Returns a connection that delivers messages to the given address without going through a socket.
+   *
+   * @param address the address to which to send messages
+   * @return the local connection, or {@code null} if the address is not served by a service in this JVM
+   */
+  private ClientConnection getLocalConnection(Address address) {
+    if (address.equals(localAddress)) {
+      return localClientConnection;
+    }
+    if (!inJvmTransport) {
+      return null;
+    }
+
+    NettyMessagingService target = InJvmTransportRegistry.get(address);
+    LocalClientConnection connection = inJvmConnections.get(address);
+    if (connection != null && connection.target != target) {
+      // The service at the address was stopped or replaced, so fail any requests still awaiting its replies.
+      if (inJvmConnections.remove(address, connection)) {
+        connection.close();
+      }
+      connection = null;
+    }
+    if (target == null || !target.inJvmTransport || target.preamble != preamble) {
+      return null;
+    }
+    if (connection == null) {
+      connection = inJvmConnections.computeIfAbsent(address, a -> new LocalClientConnection(target));
+    }
+    return connection;
+  }
+
   private RemoteClientConnection getOrCreateRemoteClientConnection(Channel channel) {
     RemoteClientConnection connection = clientConnections.get(channel);
     if (connection == null) {
@@ -515,29 +763,108 @@ public class NettyMessagingService implements ManagedMessagingService {
 
   @Override
   public void registerHandler(String type, BiConsumer<Address, byte[]> handler, Executor executor) {
-    handlers.put(type, (message, connection) -> executor.execute(() ->
-        handler.accept(message.sender(), message.payload())));
+    registerConsumer(type, (address, message) -> handler.accept(address, message.payload()), executor, false);
+  }
+
+  @Override
+  public void registerBufferHandler(String type, BiConsumer<Address, ByteBuffer> handler, Executor executor) {
+    registerConsumer(type, (address, message) -> handler.accept(address, message.payloadBuffer()), executor, true);
   }
 
   @Override
   public void registerHandler(String type, BiFunction<Address, byte[], byte[]> handler, Executor executor) {
-    handlers.put(type, (message, connection) -> executor.execute(() -> {
-      byte[] responsePayload = null;
-      InternalReply.Status status = InternalReply.Status.OK;
-      try {
-        responsePayload = handler.apply(message.sender(), message.payload());
-      } catch (Exception e) {
-        log.warn("An error occurred in a message handler: {}", e);
-        status = InternalReply.Status.ERROR_HANDLER_EXCEPTION;
-      }
-      connection.reply(message, status, Optional.ofNullable(responsePayload));
-    }));
+    registerFunction(type, (address, message) -> handler.apply(address, message.payload()), executor, false);
+  }
+
+  @Override
+  public void registerBufferHandler(String type, BiFunction<Address, ByteBuffer, byte[]> handler, Executor executor) {
+    registerFunction(type, (address, message) -> handler.apply(address, message.payloadBuffer()), executor, true);
+  }
+
+  /**
+   * Registers a handler that consumes messages without replying, releasing each message once handled.
+   *
+   * @param retainPayload whether to retain the inbound buffer until the message is handled rather than copying the
+   *                      payload before the message is queued on the executor
+   */
+  private void registerConsumer(
+      String type, BiConsumer<Address, InternalRequest> handler, Executor executor, boolean retainPayload) {
+    handlers.put(type, (message, connection) -> {
+      InternalRequest request = retainPayload ? message : copyPayload(message);
+      executor.execute(() -> {
+        try {
+          handler.accept(request.sender(), request);
+        } finally {
+          request.release();
+        }
+      });
+      releaseCopied(message, request);
+    });
+  }
+
+  /**
+   * Registers a handler that replies to messages, releasing each message once handled.
+   *
+   * @param retainPayload whether to retain the inbound buffer until the message is handled rather than copying the
+   *                      payload before the message is queued on the executor
+   */
+  private void registerFunction(
+      String type, BiFunction<Address, InternalRequest, byte[]> handler, Executor executor, boolean retainPayload) {
+    handlers.put(type, (message, connection) -> {
+      InternalRequest request = retainPayload ? message : copyPayload(message);
+      executor.execute(() -> {
+        byte[] responsePayload = null;
+        InternalReply.Status status = InternalReply.Status.OK;
+        try {
+          responsePayload = handler.apply(request.sender(), request);
+        } catch (Exception e) {
+          log.warn("An error occurred in a message handler: {}", e);
+          status = InternalReply.Status.ERROR_HANDLER_EXCEPTION;
+        } finally {
+          request.release();
+        }
+        connection.reply(request, status, Optional.ofNullable(responsePayload));
+      });
+      releaseCopied(message, request);
+    });
+  }
+
+  /**
+   * Returns a copy of the given request backed by a heap array, so that the inbound buffer from which the request
+   * was decoded need not be retained while the request is queued for a handler.
+   *
+   * @param message the request to copy
+   * @return a copy of the request
+   */
+  private static InternalRequest copyPayload(InternalRequest message) {
+    return new InternalRequest(message.preamble(), message.id(), message.sender(), message.subject(), message.payload());
+  }
+
+  /**
+   * Releases the given inbound request once its payload has been copied and the copy has been queued.
+   * <p>
+   * The request is released only after the copy has been queued so that a rejected execution leaves the request to
+   * be released by the dispatcher.
+   *
+   * @param message the inbound request
+   * @param request the request queued for the handler
+   */
+  private static void releaseCopied(InternalRequest message, InternalRequest request) {
+    if (request != message) {
+      message.release();
+    }
   }
 
   @Override
   public void registerHandler(String type, BiFunction<Address, byte[], CompletableFuture<byte[]>> handler) {
     handlers.put(type, (message, connection) -> {
-      handler.apply(message.sender(), message.payload()).whenComplete((result, error) -> {
+      CompletableFuture<byte[]> future;
+      try {
+        future = handler.apply(message.sender(), message.payload());
+      } finally {
+        message.release();
+      }
+      future.whenComplete((result, error) -> {
         InternalReply.Status status;
         if (error == null) {
           status = InternalReply.Status.OK;
@@ -621,6 +948,7 @@ public class NettyMessagingService implements ManagedMessagingService {
 
     f.addListener(future -> {
       if (future.isSuccess()) {
+        negotiateProtocolVersion(f.channel());
         retFuture.complete(f.channel());
       } else {
         retFuture.completeExceptionally(future.cause());
@@ -630,15 +958,59 @@ public class NettyMessagingService implements ManagedMessagingService {
     return retFuture;
   }
 
+  /**
+   * Negotiates the protocol version for a newly opened client channel.
+   * <p>
+   * Requests are sent using the base protocol until the remote peer reports a protocol version that supports subject
+   * interning. Peers that predate version negotiation reply that no handler is registered for the request, in which
+   * case the channel continues to use the base protocol.
+   *
+   * @param channel the channel for which to negotiate the protocol version
+   */
+  private void negotiateProtocolVersion(Channel channel) {
+    InternalRequest request = new InternalRequest(preamble,
+        messageIdGenerator.incrementAndGet(),
+        localAddress,
+        PROTOCOL_VERSION_SUBJECT,
+        Ints.toByteArray(PROTOCOL_VERSION));
+    getOrCreateRemoteClientConnection(channel).sendAndReceive(request, PROTOCOL_VERSION_TIMEOUT)
+        .whenComplete((payload, error) -> {
+          if (error == null && payload.length >= Integer.BYTES
+              && Ints.fromByteArray(payload) >= SUBJECT_INTERNING_VERSION) {
+            MessageEncoder encoder = channel.pipeline().get(MessageEncoder.class);
+            if (encoder != null) {
+              encoder.enableSubjectInterning();
+            }
+          } else if (error != null) {
+            log.debug("Failed to negotiate protocol version with {}", channel.remoteAddress(), error);
+          }
+        });
+  }
+
+  /**
+   * Replies to a protocol version request with the local protocol version.
+   *
+   * @param request    the protocol version request
+   * @param connection the connection on which to reply
+   */
+  private void replyProtocolVersion(InternalRequest request, ServerConnection connection) {
+    request.release();
+    connection.reply(request, InternalReply.Status.OK, Optional.of(Ints.toByteArray(PROTOCOL_VERSION)));
+  }
+
   @Override
   public CompletableFuture<Void> stop() {
     if (started.get()) {
+      if (inJvmTransport) {
+        InJvmTransportRegistry.unregister(localAddress, this);
+        inJvmConnections.values().forEach(LocalClientConnection::close);
+        inJvmConnections.clear();
+      }
       CompletableFuture<Void> future = new CompletableFuture<>();
       serverChannel.close().addListener(f -> {
         serverGroup.shutdownGracefully();
         clientGroup.shutdownGracefully();
-        timeoutFuture.cancel(false);
-        timeoutExecutor.shutdown();
+        timeoutTimer.stop();
         started.set(false);
         log.info("Stopped");
         future.complete(null);
@@ -668,8 +1040,9 @@ public class NettyMessagingService implements ManagedMessagingService {
       serverSslEngine.setEnabledCipherSuites(serverSslEngine.getSupportedCipherSuites());
       serverSslEngine.setEnableSessionCreation(true);
 
-      channel.pipeline().addLast("ssl", new io.netty.handler.ssl.SslHandler(serverSslEngine))
-          .addLast("encoder", new MessageEncoder(localAddress, preamble))
+      channel.pipeline().addLast("ssl", new io.netty.handler.ssl.SslHandler(serverSslEngine));
+      addFlushBatchingHandler(channel.pipeline());
+      channel.pipeline().addLast("encoder", new MessageEncoder(localAddress, preamble))
           .addLast("decoder", new MessageDecoder())
           .addLast("handler", dispatcher);
     }
@@ -693,13 +1066,25 @@ public class NettyMessagingService implements ManagedMessagingService {
       clientSslEngine.setEnabledCipherSuites(clientSslEngine.getSupportedCipherSuites());
       clientSslEngine.setEnableSessionCreation(true);
 
-      channel.pipeline().addLast("ssl", new io.netty.handler.ssl.SslHandler(clientSslEngine))
-          .addLast("encoder", new MessageEncoder(localAddress, preamble))
+      channel.pipeline().addLast("ssl", new io.netty.handler.ssl.SslHandler(clientSslEngine));
+      addFlushBatchingHandler(channel.pipeline());
+      channel.pipeline().addLast("encoder", new MessageEncoder(localAddress, preamble))
           .addLast("decoder", new MessageDecoder())
           .addLast("handler", dispatcher);
     }
   }
 
+  /**
+   * Adds a flush batching handler to the given pipeline if flush batching is enabled.
+   *
+   * @param pipeline the pipeline to which to add the handler
+   */
+  private void addFlushBatchingHandler(ChannelPipeline pipeline) {
+    if (maxFlushDelayNanos > 0 && maxFlushBytes > 0) {
+      pipeline.addLast("flusher", new FlushBatchingHandler(maxFlushDelayNanos, maxFlushBytes));
+    }
+  }
+
   /**
    * Channel initializer for basic connections.
    */
@@ -708,6 +1093,7 @@ public class NettyMessagingService implements ManagedMessagingService {
 
     @Override
     protected void initChannel(SocketChannel channel) throws Exception {
+      addFlushBatchingHandler(channel.pipeline());
       channel.pipeline()
           .addLast("encoder", new MessageEncoder(localAddress, preamble))
           .addLast("decoder", new MessageDecoder())
@@ -739,6 +1125,7 @@ public class NettyMessagingService implements ManagedMessagingService {
         }
       } catch (RejectedExecutionException e) {
         log.warn("Unable to dispatch message due to {}", e.getMessage());
+        message.release();
       }
     }
 
@@ -786,20 +1173,35 @@ public class NettyMessagingService implements ManagedMessagingService {
   }
 
   /**
-   * Wraps a {@link CompletableFuture} and tracks its type and creation time.
+   * Wraps a {@link CompletableFuture} and tracks its type, creation time, and pending timeout.
    */
   private static final class Callback {
+    private final long id;
     private final String type;
     private final long timeout;
+    private final RequestMonitor requestMonitor;
     private final CompletableFuture<byte[]> future;
     private final long time = System.currentTimeMillis();
+    private volatile Timeout timer;
 
-    Callback(String type, Duration timeout, CompletableFuture<byte[]> future) {
+    Callback(long id, String type, Duration timeout, RequestMonitor requestMonitor, CompletableFuture<byte[]> future) {
+      this.id = id;
       this.type = type;
       this.timeout = timeout != null ? timeout.toMillis() : 0;
+      this.requestMonitor = requestMonitor;
       this.future = future;
     }
 
+    /**
+     * Cancels the pending timeout for the callback.
+     */
+    void cancelTimeout() {
+      Timeout timer = this.timer;
+      if (timer != null) {
+        timer.cancel();
+      }
+    }
+
     public void complete(byte[] value) {
       future.complete(value);
     }
@@ -870,68 +1272,90 @@ public class NettyMessagingService implements ManagedMessagingService {
     final AtomicBoolean closed = new AtomicBoolean(false);
 
     /**
-     * Times out callbacks for this connection.
+     * Schedules a timeout for the given callback on the timer wheel.
+     *
+     * @param callback the callback for which to schedule a timeout
+     * @param delay    the timeout delay in milliseconds
      */
-    void timeoutCallbacks() {
-      // Store the current time.
-      long currentTime = System.currentTimeMillis();
-
-      // Iterate through future callbacks and time out callbacks that have been alive
-      // longer than the current timeout according to the message type.
-      Iterator<Map.Entry<Long, Callback>> iterator = futures.entrySet().iterator();
-      while (iterator.hasNext()) {
-        Callback callback = iterator.next().getValue();
-        try {
-          long elapsedTime = currentTime - callback.time;
-
-          // If a timeout for the callback was provided and the timeout elapsed, timeout the future but don't
-          // record the response time.
-          if (callback.timeout > 0 && elapsedTime > callback.timeout) {
-            iterator.remove();
-            callback.completeExceptionally(
-                new TimeoutException("Request timed out in " + elapsedTime + " milliseconds"));
-          } else {
-            // If no timeout was provided, use the RequestMonitor to calculate the dynamic timeout and determine
-            // whether to timeout the response future.
-            RequestMonitor requestMonitor = requestMonitors.get(callback.type, RequestMonitor::new);
-            if (callback.timeout == 0 && (elapsedTime > MAX_TIMEOUT_MILLIS || (elapsedTime > MIN_TIMEOUT_MILLIS && requestMonitor.isTimedOut(elapsedTime)))) {
-              iterator.remove();
-              requestMonitor.addReplyTime(elapsedTime);
-              callback.completeExceptionally(
-                  new TimeoutException("Request timed out in " + elapsedTime + " milliseconds"));
-            }
-          }
-        } catch (ExecutionException e) {
-          throw new AssertionError();
+    private void scheduleTimeout(Callback callback, long delay) {
+      try {
+        callback.timer = timeoutTimer.newTimeout(t -> timeoutCallback(callback), delay, TimeUnit.MILLISECONDS);
+      } catch (IllegalStateException e) {
+        // The timer is stopped when the service is stopped, so fail the request rather than leave it pending.
+        if (futures.remove(callback.id, callback)) {
+          callback.completeExceptionally(new MessagingException("Messaging service is stopped", e));
+        }
+      }
+    }
+
+    /**
+     * Times out the given callback if it has been alive longer than the current timeout according to the message
+     * type. If the callback has not yet timed out, its timeout is rescheduled.
+     *
+     * @param callback the callback to time out
+     */
+    private void timeoutCallback(Callback callback) {
+      long elapsedTime = System.currentTimeMillis() - callback.time;
+
+      // If a timeout for the callback was provided and the timeout elapsed, timeout the future but don't
+      // record the response time.
+      if (callback.timeout > 0) {
+        if (futures.remove(callback.id, callback)) {
+          callback.completeExceptionally(
+              new TimeoutException("Request timed out in " + elapsedTime + " milliseconds"));
+        }
+        return;
+      }
+
+      // If no timeout was provided, use the RequestMonitor to calculate the dynamic timeout and determine
+      // whether to timeout the response future. The dynamic timeout may have changed since the timeout was
+      // scheduled, so if the request has not yet timed out, reschedule it.
+      RequestMonitor requestMonitor = callback.requestMonitor;
+      if (elapsedTime > MAX_TIMEOUT_MILLIS || (elapsedTime > MIN_TIMEOUT_MILLIS && requestMonitor.isTimedOut(elapsedTime))) {
+        if (futures.remove(callback.id, callback)) {
+          requestMonitor.addReplyTime(elapsedTime);
+          callback.completeExceptionally(
+              new TimeoutException("Request timed out in " + elapsedTime + " milliseconds"));
         }
+      } else if (futures.get(callback.id) == callback) {
+        scheduleTimeout(callback, Math.max(requestMonitor.getTimeout() - elapsedTime, TIMEOUT_INTERVAL));
       }
     }
 
     protected void registerCallback(long id, String subject, Duration timeout, CompletableFuture<byte[]> future) {
-      futures.put(id, new Callback(subject, timeout, future));
+      RequestMonitor requestMonitor;
+      try {
+        requestMonitor = requestMonitors.get(subject, RequestMonitor::new);
+      } catch (ExecutionException e) {
+        throw new AssertionError();
+      }
+      Callback callback = new Callback(id, subject, timeout, requestMonitor, future);
+      futures.put(id, callback);
+      scheduleTimeout(callback, callback.timeout > 0 ? callback.timeout : requestMonitor.getTimeout());
     }
 
     protected Callback completeCallback(long id) {
       Callback callback = futures.remove(id);
       if (callback != null) {
-        try {
-          RequestMonitor requestMonitor = requestMonitors.get(callback.type, RequestMonitor::new);
-          requestMonitor.addReplyTime(System.currentTimeMillis() - callback.time);
-        } catch (ExecutionException e) {
-          throw new AssertionError();
-        }
+        callback.cancelTimeout();
+        callback.requestMonitor.addReplyTime(System.currentTimeMillis() - callback.time);
       }
       return callback;
     }
 
     protected Callback failCallback(long id) {
-      return futures.remove(id);
+      Callback callback = futures.remove(id);
+      if (callback != null) {
+        callback.cancelTimeout();
+      }
+      return callback;
     }
 
     @Override
     public void close() {
       if (closed.compareAndSet(false, true)) {
         for (Callback callback : futures.values()) {
+          callback.cancelTimeout();
           callback.completeExceptionally(new ConnectException());
         }
       }
@@ -942,14 +1366,20 @@ public class NettyMessagingService implements ManagedMessagingService {
    * Local connection implementation.
    */
   private final class LocalClientConnection extends AbstractClientConnection {
+    private final NettyMessagingService target;
+
+    LocalClientConnection(NettyMessagingService target) {
+      this.target = target;
+    }
+
     @Override
     public CompletableFuture<Void> sendAsync(InternalRequest message) {
-      BiConsumer<InternalRequest, ServerConnection> handler = handlers.get(message.subject());
+      BiConsumer<InternalRequest, ServerConnection> handler = target.handlers.get(message.subject());
       if (handler != null) {
-        log.trace("{} - Received message type {} from {}", localAddress, message.subject(), message.sender());
+        log.trace("{} - Received message type {} from {}", target.localAddress, message.subject(), message.sender());
         handler.accept(message, localServerConnection);
       } else {
-        log.debug("{} - No handler for message type {} from {}", localAddress, message.subject(), message.sender());
+        log.debug("{} - No handler for message type {} from {}", target.localAddress, message.subject(), message.sender());
       }
       return CompletableFuture.completedFuture(null);
     }
@@ -959,12 +1389,15 @@ public class NettyMessagingService implements ManagedMessagingService {
       CompletableFuture<byte[]> future = new CompletableFuture<>();
       future.whenComplete((r, e) -> completeCallback(message.id()));
       registerCallback(message.id(), message.subject(), timeout, future);
-      BiConsumer<InternalRequest, ServerConnection> handler = handlers.get(message.subject());
+      if (future.isDone()) {
+        return future;
+      }
+      BiConsumer<InternalRequest, ServerConnection> handler = target.handlers.get(message.subject());
       if (handler != null) {
-        log.trace("{} - Received message type {} from {}", localAddress, message.subject(), message.sender());
+        log.trace("{} - Received message type {} from {}", target.localAddress, message.subject(), message.sender());
         handler.accept(message, new LocalServerConnection(future));
       } else {
-        log.debug("{} - No handler for message type {} from {}", localAddress, message.subject(), message.sender());
+        log.debug("{} - No handler for message type {} from {}", target.localAddress, message.subject(), message.sender());
         new LocalServerConnection(future)
             .reply(message, InternalReply.Status.ERROR_NO_HANDLER, Optional.empty());
       }
@@ -1025,6 +1458,9 @@ public class NettyMessagingService implements ManagedMessagingService {
     public CompletableFuture<byte[]> sendAndReceive(InternalRequest message, Duration timeout) {
       CompletableFuture<byte[]> future = new CompletableFuture<>();
       registerCallback(message.id(), message.subject(), timeout, future);
+      if (future.isDone()) {
+        return future;
+      }
       channel.writeAndFlush(message).addListener(channelFuture -> {
         if (!channelFuture.isSuccess()) {
           Callback callback = failCallback(message.id());
@@ -1042,6 +1478,19 @@ public class NettyMessagingService implements ManagedMessagingService {
      * @param message the message to dispatch
      */
     private void dispatch(InternalReply message) {
+      try {
+        dispatchReply(message);
+      } finally {
+        message.release();
+      }
+    }
+
+    /**
+     * Completes the callback for the given reply.
+     *
+     * @param message the reply message
+     */
+    private void dispatchReply(InternalReply message) {
       if (message.preamble() != preamble) {
         log.debug("Received {} with invalid preamble", message.type());
         return;
@@ -1068,8 +1517,8 @@ public class NettyMessagingService implements ManagedMessagingService {
     @Override
     public void close() {
       if (closed.compareAndSet(false, true)) {
-        timeoutFuture.cancel(false);
         for (Callback callback : futures.values()) {
+          callback.cancelTimeout();
           callback.completeExceptionally(new ConnectException());
         }
       }
@@ -1094,6 +1543,7 @@ public class NettyMessagingService implements ManagedMessagingService {
     private void dispatch(InternalRequest message) {
       if (message.preamble() != preamble) {
         log.debug("Received {} with invalid preamble from {}", message.type(), message.sender());
+        message.release();
         reply(message, InternalReply.Status.PROTOCOL_EXCEPTION, Optional.empty());
         return;
       }
@@ -1104,6 +1554,7 @@ public class NettyMessagingService implements ManagedMessagingService {
         handler.accept(message, this);
       } else {
         log.debug("{} - No handler for message type {} from {}", localAddress, message.subject(), message.sender());
+        message.release();
         reply(message, InternalReply.Status.ERROR_NO_HANDLER, Optional.empty());
       }
     }
@@ -1163,6 +1614,19 @@ public class NettyMessagingService implements ManagedMessagingService {
       return samples.getN() == WINDOW_SIZE && phi(elapsedTime) >= PHI_FAILURE_THRESHOLD;
     }
 
+    /**
+     * Returns the elapsed time after which a request is expected to time out according to the current history.
+     *
+     * @return the current request timeout in milliseconds
+     */
+    long getTimeout() {
+      if (samples.getN() == WINDOW_SIZE && samples.getN() >= MIN_SAMPLES) {
+        long phiTimeout = (long) Math.ceil(PHI_FAILURE_THRESHOLD * samples.getMean() / PHI_FACTOR);
+        return Math.min(Math.max(phiTimeout, MIN_TIMEOUT_MILLIS), MAX_TIMEOUT_MILLIS) + 1;
+      }
+      return MAX_TIMEOUT_MILLIS + 1;
+    }
+
     /**
      * Compute phi for the specified node id.
      *
@@ -0,0 +1,77 @@
+/*
+ * Copyright 2018-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.messaging.impl;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.junit.Test;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Flush batching handler test.
+ */
+public class FlushBatchingHandlerTest {
+
+  @Test
+  public void testCoalesceFlushes() throws Exception {
+    EmbeddedChannel channel = new EmbeddedChannel(new FlushBatchingHandler(TimeUnit.MILLISECONDS.toNanos(10), 1024));
+    channel.pipeline().writeAndFlush(Unpooled.wrappedBuffer(new byte[16]));
+    channel.pipeline().writeAndFlush(Unpooled.wrappedBuffer(new byte[16]));
+    assertNull(channel.readOutbound());
+
+    Thread.sleep(20);
+    channel.runPendingTasks();
+    assertEquals(2, channel.outboundMessages().size());
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void testFlushAfterDelay() throws Exception {
+    EmbeddedChannel channel = new EmbeddedChannel(new FlushBatchingHandler(TimeUnit.MILLISECONDS.toNanos(10), 1024));
+    channel.pipeline().writeAndFlush(Unpooled.wrappedBuffer(new byte[16]));
+    channel.runPendingTasks();
+    assertNull(channel.readOutbound());
+
+    Thread.sleep(20);
+    channel.runPendingTasks();
+    assertEquals(1, channel.outboundMessages().size());
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void testFlushOnMaxBytes() throws Exception {
+    EmbeddedChannel channel = new EmbeddedChannel(new FlushBatchingHandler(TimeUnit.SECONDS.toNanos(10), 32));
+    channel.pipeline().writeAndFlush(Unpooled.wrappedBuffer(new byte[16]));
+    assertNull(channel.readOutbound());
+    channel.pipeline().writeAndFlush(Unpooled.wrappedBuffer(new byte[16]));
+    assertEquals(2, channel.outboundMessages().size());
+    channel.finishAndReleaseAll();
+  }
+
+  @Test
+  public void testFlushOnClose() throws Exception {
+    EmbeddedChannel channel = new EmbeddedChannel(new FlushBatchingHandler(TimeUnit.SECONDS.toNanos(10), 1024));
+    channel.pipeline().writeAndFlush(Unpooled.wrappedBuffer(new byte[16]));
+    assertNull(channel.readOutbound());
+    channel.close();
+    assertEquals(1, channel.outboundMessages().size());
+    channel.finishAndReleaseAll();
+  }
+}
@@ -1,12 +1,25 @@
 package io.atomix.messaging.impl;
 
+import com.google.common.base.Throwables;
+import io.atomix.messaging.MessagingException;
+import io.atomix.utils.net.Address;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.CompositeByteBuf;
 import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelFuture;
+import io.netty.channel.embedded.EmbeddedChannel;
 import org.junit.Test;
 
+import java.nio.ByteBuffer;
 import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
 
 /**
  * Message decoder test.
@@ -34,6 +47,123 @@ public class MessageDecoderTest {
         }
     }
 
+    @Test
+    public void testSubjectInterning() throws Exception {
+        Address address = Address.from("localhost", 5000);
+        EmbeddedChannel encoder = new EmbeddedChannel(new MessageEncoder(address, 1));
+        EmbeddedChannel decoder = new EmbeddedChannel(new MessageDecoder());
+        String subject = "raft-partition-1-append";
+
+        // Until interning is enabled, subjects are always written in full.
+        ByteBuf first = encode(encoder, new InternalRequest(1, 1, address, subject, new byte[1]));
+        ByteBuf repeated = encode(encoder, new InternalRequest(1, 2, address, subject, new byte[1]));
+        assertEquals(repeated.readableBytes(), first.readableBytes() - address.address().getAddress().length - 5);
+
+        // Once interning is enabled, subsequent requests write only the subject ID.
+        encoder.pipeline().get(MessageEncoder.class).enableSubjectInterning();
+        ByteBuf second = encode(encoder, new InternalRequest(1, 3, address, subject, new byte[1]));
+        ByteBuf other = encode(encoder, new InternalRequest(1, 4, address, "other", new byte[1]));
+        ByteBuf third = encode(encoder, new InternalRequest(1, 5, address, subject, new byte[1]));
+        assertTrue(second.readableBytes() < repeated.readableBytes() - subject.length());
+        assertEquals(second.readableBytes(), third.readableBytes());
+
+        decoder.writeInbound(first, repeated, second, other, third);
+        InternalRequest request1 = decoder.readInbound();
+        InternalRequest request2 = decoder.readInbound();
+        InternalRequest request3 = decoder.readInbound();
+        InternalRequest request4 = decoder.readInbound();
+        InternalRequest request5 = decoder.readInbound();
+        assertEquals(subject, request1.subject());
+        assertEquals(subject, request2.subject());
+        assertEquals(3, request3.id());
+        assertSame(request1.subject(), request3.subject());
+        assertEquals("other", request4.subject());
+        assertEquals(5, request5.id());
+        assertSame(request1.subject(), request5.subject());
+        request1.release();
+        request2.release();
+        request3.release();
+        request4.release();
+        request5.release();
+        encoder.finishAndReleaseAll();
+        decoder.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testSubjectTooLong() throws Exception {
+        Address address = Address.from("localhost", 5000);
+        EmbeddedChannel encoder = new EmbeddedChannel(new MessageEncoder(address, 1));
+        EmbeddedChannel decoder = new EmbeddedChannel(new MessageDecoder());
+        char[] chars = new char[MessageEncoder.MAX_SUBJECT_LENGTH + 1];
+        Arrays.fill(chars, 'a');
+
+        // A subject too long to be written is rejected without affecting subsequent requests.
+        ChannelFuture future = encoder.writeAndFlush(new InternalRequest(1, 1, address, new String(chars), new byte[1]));
+        assertFalse(future.isSuccess());
+        assertTrue(Throwables.getRootCause(future.cause()) instanceof MessagingException);
+
+        decoder.writeInbound(encode(encoder, new InternalRequest(1, 2, address, "test", new byte[1])));
+        InternalRequest request = decoder.readInbound();
+        assertEquals("test", request.subject());
+        request.release();
+        encoder.finishAndReleaseAll();
+        decoder.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testPayloadSlice() throws Exception {
+        Address address = Address.from("localhost", 5000);
+        EmbeddedChannel encoder = new EmbeddedChannel(new MessageEncoder(address, 1));
+        EmbeddedChannel decoder = new EmbeddedChannel(new MessageDecoder());
+
+        // Encode a request from a buffer positioned in the middle of a larger array.
+        byte[] bytes = "ignored-payload".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer payload = ByteBuffer.wrap(bytes, 8, 7);
+        ByteBuf encoded = encode(encoder, new InternalRequest(1, 1, address, "test", Unpooled.wrappedBuffer(payload)));
+        assertEquals(8, payload.position());
+
+        // The decoded payload retains a slice of the inbound buffer until the message is released.
+        decoder.writeInbound(encoded);
+        InternalRequest request = decoder.readInbound();
+        assertEquals(7, request.payloadLength());
+        assertEquals(ByteBuffer.wrap(bytes, 8, 7), request.payloadBuffer());
+        assertArrayEquals("payload".getBytes(StandardCharsets.UTF_8), request.payload());
+        assertEquals(1, encoded.refCnt());
+        request.release();
+        assertEquals(0, encoded.refCnt());
+        encoder.finishAndReleaseAll();
+        decoder.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testDirectPayloadNotCopied() throws Exception {
+        Address address = Address.from("localhost", 5000);
+        EmbeddedChannel encoder = new EmbeddedChannel(new MessageEncoder(address, 1));
+        EmbeddedChannel decoder = new EmbeddedChannel(new MessageDecoder());
+
+        // Large direct payloads are written as a component of the encoded buffer rather than copied into it.
+        byte[] bytes = new byte[MessageEncoder.MIN_UNCOPIED_PAYLOAD_SIZE];
+        new Random().nextBytes(bytes);
+        ByteBuffer payload = ByteBuffer.allocateDirect(bytes.length);
+        payload.put(bytes).flip();
+        ByteBuf encoded = encode(encoder, new InternalRequest(1, 1, address, "test", Unpooled.wrappedBuffer(payload)));
+        assertTrue(encoded instanceof CompositeByteBuf);
+        assertEquals(3, ((CompositeByteBuf) encoded).numComponents());
+
+        decoder.writeInbound(encoded);
+        InternalRequest request = decoder.readInbound();
+        assertEquals("test", request.subject());
+        assertArrayEquals(bytes, request.payload());
+        request.release();
+        encoder.finishAndReleaseAll();
+        decoder.finishAndReleaseAll();
+    }
+
+    private ByteBuf encode(EmbeddedChannel channel, InternalMessage message) {
+        channel.writeOutbound(message);
+        return channel.readOutbound();
+    }
+
     @Test
     public void testReadStringFromDirectBuffer() throws Exception {
         String payload = "huuhaa";
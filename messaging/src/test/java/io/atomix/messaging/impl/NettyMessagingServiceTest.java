@@ -18,7 +18,9 @@ package io.atomix.messaging.impl;
 import com.google.common.util.concurrent.MoreExecutors;
 import com.google.common.util.concurrent.Uninterruptibles;
 import io.atomix.messaging.ManagedMessagingService;
+import io.atomix.messaging.MessagingException;
 import io.atomix.utils.net.Address;
+import io.netty.util.HashedWheelTimer;
 import org.junit.After;
 import org.junit.Before;
 import org.junit.Ignore;
@@ -28,8 +30,11 @@ import org.slf4j.Logger;
 import java.io.IOException;
 import java.net.ConnectException;
 import java.net.ServerSocket;
+import java.nio.ByteBuffer;
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -43,7 +48,9 @@ import java.util.function.BiFunction;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNotSame;
 import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import static org.slf4j.LoggerFactory.getLogger;
@@ -154,6 +161,95 @@ public class NettyMessagingServiceTest {
     assertEquals(ep1, sender.get());
   }
 
+  @Test
+  public void testSendAndReceiveBuffer() {
+    String subject = nextSubject();
+    AtomicReference<byte[]> request = new AtomicReference<>();
+
+    BiFunction<Address, ByteBuffer, byte[]> handler = (ep, buffer) -> {
+      byte[] bytes = new byte[buffer.remaining()];
+      buffer.get(bytes);
+      request.set(bytes);
+      return "hello there".getBytes();
+    };
+    netty2.registerBufferHandler(subject, handler, MoreExecutors.directExecutor());
+
+    ByteBuffer payload = ByteBuffer.allocateDirect(16);
+    payload.put("hello world".getBytes());
+    payload.flip();
+    CompletableFuture<byte[]> response = netty1.sendAndReceive(ep2, subject, payload);
+    assertTrue(Arrays.equals("hello there".getBytes(), response.join()));
+    assertTrue(Arrays.equals("hello world".getBytes(), request.get()));
+  }
+
+  @Test
+  public void testChannelSelectionStrategies() {
+    String subject = nextSubject();
+    netty2.registerHandler(subject, (ep, data) -> data, MoreExecutors.directExecutor());
+
+    for (ChannelSelectionStrategy strategy : ChannelSelectionStrategy.values()) {
+      ManagedMessagingService netty3 = (ManagedMessagingService) NettyMessagingService.builder()
+          .withAddress(Address.from(findAvailablePort(5005)))
+          .withChannelPoolSize(2)
+          .withChannelSelectionStrategy(strategy)
+          .build()
+          .start()
+          .join();
+      try {
+        List<CompletableFuture<byte[]>> responses = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+          responses.add(netty3.sendAndReceive(ep2, subject, String.valueOf(i).getBytes()));
+        }
+        for (int i = 0; i < 100; i++) {
+          assertTrue(Arrays.equals(String.valueOf(i).getBytes(), responses.get(i).join()));
+        }
+      } finally {
+        netty3.stop().join();
+      }
+    }
+  }
+
+  @Test
+  public void testInJvmTransport() {
+    ManagedMessagingService netty3 = (ManagedMessagingService) NettyMessagingService.builder()
+        .withAddress(Address.from(findAvailablePort(5005)))
+        .withInJvmTransport(true)
+        .build()
+        .start()
+        .join();
+    ManagedMessagingService netty4 = (ManagedMessagingService) NettyMessagingService.builder()
+        .withAddress(Address.from(findAvailablePort(5007)))
+        .withInJvmTransport(true)
+        .build()
+        .start()
+        .join();
+    try {
+      String subject = nextSubject();
+      AtomicReference<byte[]> request = new AtomicReference<>();
+      AtomicReference<Address> sender = new AtomicReference<>();
+      netty4.registerHandler(subject, (ep, data) -> {
+        sender.set(ep);
+        request.set(data);
+        return data;
+      }, MoreExecutors.directExecutor());
+
+      // The payload is handed to the handler without being serialized.
+      byte[] payload = "hello world".getBytes();
+      assertSame(payload, netty3.sendAndReceive(netty4.address(), subject, payload).join());
+      assertSame(payload, request.get());
+      assertEquals(netty3.address(), sender.get());
+
+      // Services that have not enabled the in-JVM transport are still reached over the network.
+      netty2.registerHandler(subject, (ep, data) -> data, MoreExecutors.directExecutor());
+      byte[] response = netty3.sendAndReceive(ep2, subject, payload).join();
+      assertNotSame(payload, response);
+      assertTrue(Arrays.equals(payload, response));
+    } finally {
+      netty3.stop().join();
+      netty4.stop().join();
+    }
+  }
+
   @Test
   public void testSendTimeout() {
     String subject = nextSubject();
@@ -182,6 +278,40 @@ public class NettyMessagingServiceTest {
     }
   }
 
+  @Test
+  public void testTimeoutCancelledOnReply() throws Exception {
+    String subject = nextSubject();
+    netty2.registerHandler(subject, (ep, data) -> data, MoreExecutors.directExecutor());
+
+    List<CompletableFuture<byte[]>> futures = new ArrayList<>();
+    for (int i = 0; i < 10; i++) {
+      futures.add(netty1.sendAndReceive(ep2, subject, "hello world".getBytes(), Duration.ofMinutes(1)));
+    }
+    futures.forEach(CompletableFuture::join);
+
+    // Cancelled timeouts are removed from the timer on its next tick.
+    HashedWheelTimer timer = ((NettyMessagingService) netty1).timeoutTimer;
+    for (int i = 0; i < 100 && timer.pendingTimeouts() > 0; i++) {
+      Thread.sleep(50);
+    }
+    assertEquals(0, timer.pendingTimeouts());
+  }
+
+  @Test
+  public void testSendAndReceiveAfterStop() {
+    String subject = nextSubject();
+    netty1.registerHandler(subject, (ep, data) -> data, MoreExecutors.directExecutor());
+    netty1.stop().join();
+
+    // Requests can't be timed out once the timer is stopped, so they fail instead of waiting forever.
+    try {
+      netty1.sendAndReceive(ep1, subject, "hello world".getBytes()).join();
+      fail();
+    } catch (CompletionException e) {
+      assertTrue(e.getCause() instanceof MessagingException);
+    }
+  }
+
   /*
    * Supplies executors when registering a handler and calling sendAndReceive and verifies the request handling
    * and response completion occurs on the expected thread.
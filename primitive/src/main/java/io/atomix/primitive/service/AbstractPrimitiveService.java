@@ -40,6 +40,7 @@ import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.util.Collection;
+import java.util.Iterator;
 import java.util.Map;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
@@ -331,6 +332,29 @@ public abstract class AbstractPrimitiveService<C, F extends ServiceConfig> imple
     }
   }
 
+  /**
+   * Publishes an event to the given sessions.
+   * <p>
+   * The event is encoded once and the encoded event is shared by all the sessions, rather than being encoded
+   * separately for each session as with {@link PrimitiveSession#publish(EventType, Object)}.
+   *
+   * @param sessions  the sessions to which to publish the event
+   * @param eventType the event type
+   * @param event     the event to publish
+   * @param <T>       the event type
+   */
+  protected <T> void publish(Iterable<? extends PrimitiveSession> sessions, EventType eventType, T event) {
+    Iterator<? extends PrimitiveSession> iterator = sessions.iterator();
+    if (!iterator.hasNext()) {
+      return;
+    }
+
+    PrimitiveEvent primitiveEvent = PrimitiveEvent.event(eventType, encode(event));
+    while (iterator.hasNext()) {
+      iterator.next().publish(primitiveEvent);
+    }
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public final void register(PrimitiveSession session) {
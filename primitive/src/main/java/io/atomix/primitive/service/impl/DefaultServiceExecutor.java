@@ -30,9 +30,7 @@ import io.atomix.utils.time.WallClockTimestamp;
 import org.slf4j.Logger;
 
 import java.time.Duration;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
 import java.util.Map;
@@ -52,8 +50,7 @@ public class DefaultServiceExecutor implements ServiceExecutor {
   private final Serializer serializer;
   private final Logger log;
   private final Queue<Runnable> tasks = new LinkedList<>();
-  private final List<ScheduledTask> scheduledTasks = new ArrayList<>();
-  private final List<ScheduledTask> complete = new ArrayList<>();
+  private final TimerWheel<ScheduledTask> scheduledTasks = new TimerWheel<>();
   private final Map<String, Function<Commit<byte[]>, byte[]>> operations = new HashMap<>();
   private OperationType operationType;
   private long timestamp;
@@ -93,29 +90,21 @@ public class DefaultServiceExecutor implements ServiceExecutor {
   public void tick(WallClockTimestamp timestamp) {
     long unixTimestamp = timestamp.unixTimestamp();
     this.operationType = OperationType.COMMAND;
-    if (!scheduledTasks.isEmpty()) {
-      // Iterate through scheduled tasks until we reach a task that has not met its scheduled time.
-      // The tasks list is sorted by time on insertion.
-      Iterator<ScheduledTask> iterator = scheduledTasks.iterator();
-      while (iterator.hasNext()) {
-        ScheduledTask task = iterator.next();
-        if (task.isRunnable(unixTimestamp)) {
-          this.timestamp = task.time;
-          this.operationType = OperationType.COMMAND;
-          log.trace("Executing scheduled task {}", task);
-          task.execute();
-          complete.add(task);
-          iterator.remove();
-        } else {
-          break;
-        }
+    // Advance the timer wheel to collect all tasks that have met their scheduled time.
+    // Tasks are returned in the order of their scheduled times.
+    List<ScheduledTask> complete = scheduledTasks.advance(unixTimestamp);
+    if (!complete.isEmpty()) {
+      for (ScheduledTask task : complete) {
+        this.timestamp = task.time;
+        this.operationType = OperationType.COMMAND;
+        log.trace("Executing scheduled task {}", task);
+        task.execute();
       }
 
       // Iterate through tasks that were completed and reschedule them.
       for (ScheduledTask task : complete) {
         task.reschedule(this.timestamp);
       }
-      complete.clear();
     }
   }
 
@@ -234,6 +223,8 @@ public class DefaultServiceExecutor implements ServiceExecutor {
     private final long interval;
     private final Runnable callback;
     private long time;
+    private TimerWheel<ScheduledTask>.Timer timer;
+    private boolean cancelled;
 
     private ScheduledTask(Runnable callback, long delay) {
       this(callback, delay, 0);
@@ -249,34 +240,8 @@ public class DefaultServiceExecutor implements ServiceExecutor {
      * Schedules the task.
      */
     private Scheduled schedule() {
-      // Perform binary search to insert the task at the appropriate position in the tasks list.
-      if (scheduledTasks.isEmpty()) {
-        scheduledTasks.add(this);
-      } else {
-        int l = 0;
-        int u = scheduledTasks.size() - 1;
-        int i;
-        while (true) {
-          i = (u + l) / 2;
-          long t = scheduledTasks.get(i).time;
-          if (t == time) {
-            scheduledTasks.add(i, this);
-            return this;
-          } else if (t < time) {
-            l = i + 1;
-            if (l > u) {
-              scheduledTasks.add(i + 1, this);
-              return this;
-            }
-          } else {
-            u = i - 1;
-            if (l > u) {
-              scheduledTasks.add(i, this);
-              return this;
-            }
-          }
-        }
-      }
+      // The task is runnable once the timestamp has passed its scheduled time.
+      timer = scheduledTasks.add(time + 1, this);
       return this;
     }
 
@@ -284,23 +249,19 @@ public class DefaultServiceExecutor implements ServiceExecutor {
      * Reschedules the task.
      */
     private void reschedule(long timestamp) {
-      if (interval > 0) {
+      if (interval > 0 && !cancelled) {
         time = timestamp + interval;
         schedule();
       }
     }
 
-    /**
-     * Returns a boolean value indicating whether the task delay has been met.
-     */
-    private boolean isRunnable(long timestamp) {
-      return timestamp > time;
-    }
-
     /**
      * Executes the task.
      */
     private synchronized void execute() {
+      if (cancelled) {
+        return;
+      }
       try {
         callback.run();
       } catch (Exception e) {
@@ -310,7 +271,8 @@ public class DefaultServiceExecutor implements ServiceExecutor {
 
     @Override
     public synchronized void cancel() {
-      scheduledTasks.remove(this);
+      cancelled = true;
+      timer.cancel();
     }
   }
 }
@@ -0,0 +1,321 @@
+/*
+ * Copyright 2018-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.primitive.service.impl;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Hierarchical timer wheel for scheduling state machine callbacks.
+ * <p>
+ * Timers are stored in {@link #LEVELS} wheels of {@link #SLOTS} slots each, where a slot in level {@code n} spans
+ * {@code SLOTS^n} milliseconds. Adding and cancelling a timer are constant time operations, and timers in higher
+ * levels are cascaded into lower levels as time advances. Advancing the wheel skips directly to the next occupied
+ * slot, so the cost of advancing depends on the number of timers expired rather than on the time elapsed.
+ * <p>
+ * The wheel is driven entirely by the timestamps passed to {@link #advance(long)}, so wheels that are advanced with
+ * the same timestamps expire the same timers in the same order.
+ *
+ * @param <T> the timer value type
+ */
+final class TimerWheel<T> {
+  private static final int SLOT_BITS = 6;
+  private static final int SLOTS = 1 << SLOT_BITS;
+  private static final int SLOT_MASK = SLOTS - 1;
+  private static final int LEVELS = 7;
+
+  @SuppressWarnings("unchecked")
+  private final TimerList[][] wheels = new TimerWheel.TimerList[LEVELS][SLOTS];
+  private final long[] occupied = new long[LEVELS];
+  private final TimerList overdue = new TimerList(-1, -1);
+  private long currentTime;
+  private int size;
+
+  /**
+   * Returns the number of pending timers.
+   *
+   * @return the number of pending timers
+   */
+  int size() {
+    return size;
+  }
+
+  /**
+   * Returns a boolean indicating whether the wheel has no pending timers.
+   *
+   * @return indicates whether the wheel has no pending timers
+   */
+  boolean isEmpty() {
+    return size == 0;
+  }
+
+  /**
+   * Adds a timer to the wheel.
+   * <p>
+   * Timers with a deadline that has already been reached are expired on the next call to {@link #advance(long)}.
+   *
+   * @param deadline the time at which the timer expires
+   * @param value    the timer value
+   * @return the timer
+   */
+  Timer add(long deadline, T value) {
+    Timer timer = new Timer(deadline, value);
+    if (deadline <= currentTime) {
+      overdue.add(timer);
+    } else {
+      insert(timer);
+    }
+    size++;
+    return timer;
+  }
+
+  /**
+   * Advances the wheel to the given time, expiring all timers with a deadline at or before the given time.
+   *
+   * @param time the time to which to advance the wheel
+   * @return the values of the expired timers in the order of their deadlines, or an empty list if no timers expired
+   */
+  List<T> advance(long time) {
+    // The list of expired timers is only allocated once a timer expires, since most ticks expire no timers.
+    List<T> expired = null;
+    if (!overdue.isEmpty()) {
+      expired = expireOverdue(expired);
+    }
+
+    while (size > 0) {
+      long nextTime = nextTime();
+      if (nextTime > time) {
+        break;
+      }
+      currentTime = nextTime;
+
+      // Cascade the timers in higher level slots that start at the current time before expiring the lowest level
+      // slot, since cascaded timers may be due at the current time.
+      for (int level = LEVELS - 1; level > 0; level--) {
+        int shift = level * SLOT_BITS;
+        int slot = (int) (currentTime >>> shift) & SLOT_MASK;
+        if ((currentTime & ((1L << shift) - 1)) == 0 && (occupied[level] & (1L << slot)) != 0) {
+          cascade(wheels[level][slot]);
+        }
+      }
+
+      int slot = (int) currentTime & SLOT_MASK;
+      if ((occupied[0] & (1L << slot)) != 0) {
+        expired = expire(wheels[0][slot], expired);
+      }
+    }
+
+    if (time > currentTime) {
+      currentTime = time;
+    }
+    return expired != null ? expired : Collections.emptyList();
+  }
+
+  /**
+   * Returns the next time at which a slot must be expired or cascaded.
+   */
+  private long nextTime() {
+    long nextTime = Long.MAX_VALUE;
+    for (int level = 0; level < LEVELS; level++) {
+      if (occupied[level] != 0) {
+        int shift = level * SLOT_BITS;
+        long base = currentTime >>> shift;
+        int slot = (int) base & SLOT_MASK;
+        long offset = Long.numberOfTrailingZeros(Long.rotateRight(occupied[level], slot + 1)) + 1;
+        nextTime = Math.min(nextTime, (base + offset) << shift);
+      }
+    }
+    return nextTime;
+  }
+
+  /**
+   * Inserts the given timer into the slot for its deadline.
+   */
+  private void insert(Timer timer) {
+    long delay = timer.deadline - currentTime;
+    int level = delay < SLOTS ? 0 : Math.min((63 - Long.numberOfLeadingZeros(delay)) / SLOT_BITS, LEVELS - 1);
+    int slot = (int) (timer.deadline >>> (level * SLOT_BITS)) & SLOT_MASK;
+    TimerList list = wheels[level][slot];
+    if (list == null) {
+      list = new TimerList(level, slot);
+      wheels[level][slot] = list;
+    }
+    list.add(timer);
+    occupied[level] |= 1L << slot;
+  }
+
+  /**
+   * Reinserts the timers in the given list into lower levels.
+   */
+  private void cascade(TimerList list) {
+    Timer timer = list.clear();
+    while (timer != null) {
+      Timer next = timer.next;
+      timer.next = null;
+      insert(timer);
+      timer = next;
+    }
+  }
+
+  /**
+   * Expires the timers in the given list, returning the list of expired timers.
+   */
+  private List<T> expire(TimerList list, List<T> expired) {
+    Timer timer = list.clear();
+    if (timer != null && expired == null) {
+      expired = new ArrayList<>();
+    }
+    while (timer != null) {
+      Timer next = timer.next;
+      timer.next = null;
+      expired.add(timer.value);
+      size--;
+      timer = next;
+    }
+    return expired;
+  }
+
+  /**
+   * Expires the overdue timers in the order of their deadlines, returning the list of expired timers.
+   */
+  private List<T> expireOverdue(List<T> expired) {
+    List<Timer> timers = new ArrayList<>();
+    Timer timer = overdue.clear();
+    while (timer != null) {
+      Timer next = timer.next;
+      timer.next = null;
+      timers.add(timer);
+      timer = next;
+    }
+    timers.sort(Comparator.comparingLong(t -> t.deadline));
+    if (expired == null) {
+      expired = new ArrayList<>(timers.size());
+    }
+    for (Timer t : timers) {
+      expired.add(t.value);
+    }
+    size -= timers.size();
+    return expired;
+  }
+
+  /**
+   * Wheel timer.
+   */
+  final class Timer {
+    private final long deadline;
+    private final T value;
+    private TimerList list;
+    private Timer prev;
+    private Timer next;
+
+    private Timer(long deadline, T value) {
+      this.deadline = deadline;
+      this.value = value;
+    }
+
+    /**
+     * Cancels the timer.
+     *
+     * @return indicates whether the timer was pending
+     */
+    boolean cancel() {
+      if (list == null) {
+        return false;
+      }
+      list.remove(this);
+      size--;
+      return true;
+    }
+  }
+
+  /**
+   * Doubly linked list of the timers in a slot.
+   */
+  private final class TimerList {
+    private final int level;
+    private final int slot;
+    private Timer head;
+    private Timer tail;
+
+    private TimerList(int level, int slot) {
+      this.level = level;
+      this.slot = slot;
+    }
+
+    /**
+     * Returns a boolean indicating whether the list is empty.
+     */
+    boolean isEmpty() {
+      return head == null;
+    }
+
+    /**
+     * Appends the given timer to the list.
+     */
+    void add(Timer timer) {
+      timer.list = this;
+      timer.prev = tail;
+      timer.next = null;
+      if (tail == null) {
+        head = timer;
+      } else {
+        tail.next = timer;
+      }
+      tail = timer;
+    }
+
+    /**
+     * Removes the given timer from the list.
+     */
+    void remove(Timer timer) {
+      if (timer.prev == null) {
+        head = timer.next;
+      } else {
+        timer.prev.next = timer.next;
+      }
+      if (timer.next == null) {
+        tail = timer.prev;
+      } else {
+        timer.next.prev = timer.prev;
+      }
+      timer.list = null;
+      timer.prev = null;
+      timer.next = null;
+      if (head == null && level >= 0) {
+        occupied[level] &= ~(1L << slot);
+      }
+    }
+
+    /**
+     * Removes all timers from the list, returning the first timer in the list.
+     */
+    Timer clear() {
+      Timer timer = head;
+      for (Timer t = head; t != null; t = t.next) {
+        t.list = null;
+        t.prev = null;
+      }
+      head = null;
+      tail = null;
+      if (level >= 0) {
+        occupied[level] &= ~(1L << slot);
+      }
+      return timer;
+    }
+  }
+}
@@ -22,15 +22,20 @@ import io.atomix.primitive.operation.OperationType;
 import io.atomix.primitive.service.impl.DefaultCommit;
 import io.atomix.primitive.service.impl.DefaultServiceExecutor;
 import io.atomix.primitive.session.PrimitiveSession;
+import io.atomix.utils.concurrent.Scheduled;
 import io.atomix.utils.serializer.KryoNamespaces;
 import io.atomix.utils.serializer.Serializer;
 import io.atomix.utils.time.WallClockTimestamp;
 import org.junit.Test;
 
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Set;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
@@ -92,6 +97,56 @@ public class DefaultServiceExecutorTest {
     assertTrue(calls.contains("a"));
   }
 
+  @Test
+  public void testSchedulingOrder() throws Exception {
+    long time = 1500000000000L;
+    ServiceExecutor executor = executor();
+    executor.register(OperationId.command("a"), () -> {
+    });
+    executor.apply(commit(OperationId.command("a"), 1, null, time));
+
+    List<Integer> calls = new ArrayList<>();
+    executor.tick(new WallClockTimestamp(time));
+    executor.schedule(Duration.ofDays(10), () -> calls.add(5));
+    executor.schedule(Duration.ofMillis(5000), () -> calls.add(3));
+    executor.schedule(Duration.ofMillis(10), () -> calls.add(1));
+    executor.schedule(Duration.ofMillis(63), () -> calls.add(2));
+    executor.schedule(Duration.ofMillis(5000), () -> calls.add(4));
+    Scheduled cancelled = executor.schedule(Duration.ofMillis(100), () -> calls.add(0));
+
+    executor.tick(new WallClockTimestamp(time + 10));
+    assertEquals(Arrays.asList(), calls);
+    cancelled.cancel();
+    executor.tick(new WallClockTimestamp(time + 11));
+    assertEquals(Arrays.asList(1), calls);
+    executor.tick(new WallClockTimestamp(time + 10000));
+    assertEquals(Arrays.asList(1, 2, 3, 4), calls);
+    executor.tick(new WallClockTimestamp(time + Duration.ofDays(10).toMillis()));
+    assertEquals(Arrays.asList(1, 2, 3, 4), calls);
+    executor.tick(new WallClockTimestamp(time + Duration.ofDays(10).toMillis() + 1));
+    assertEquals(Arrays.asList(1, 2, 3, 4, 5), calls);
+  }
+
+  @Test
+  public void testRepeatedScheduling() throws Exception {
+    ServiceExecutor executor = executor();
+    executor.register(OperationId.command("a"), () -> {
+    });
+    executor.apply(commit(OperationId.command("a"), 1, null, 0));
+
+    List<Long> calls = new ArrayList<>();
+    executor.tick(new WallClockTimestamp(1));
+    Scheduled scheduled = executor.schedule(Duration.ofMillis(100), Duration.ofMillis(1000), () -> calls.add(1L));
+    executor.tick(new WallClockTimestamp(101));
+    executor.tick(new WallClockTimestamp(1100));
+    assertEquals(1, calls.size());
+    executor.tick(new WallClockTimestamp(1101));
+    assertEquals(2, calls.size());
+    scheduled.cancel();
+    executor.tick(new WallClockTimestamp(10000));
+    assertEquals(2, calls.size());
+  }
+
   private ServiceExecutor executor() {
     ServiceContext context = mock(ServiceContext.class);
     when(context.serviceId()).thenReturn(PrimitiveId.from(1));
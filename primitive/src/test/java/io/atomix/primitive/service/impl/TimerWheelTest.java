@@ -0,0 +1,101 @@
+/*
+ * Copyright 2018-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *     http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.primitive.service.impl;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Timer wheel test.
+ */
+public class TimerWheelTest {
+  @Test
+  public void testAdvance() throws Exception {
+    TimerWheel<String> wheel = new TimerWheel<>();
+    wheel.advance(1000);
+    wheel.add(1000, "a");
+    wheel.add(1100, "c");
+    wheel.add(1001, "b");
+    wheel.add(1100, "d");
+    assertEquals(4, wheel.size());
+
+    assertEquals(Arrays.asList("a"), wheel.advance(1000));
+    assertSame(Collections.emptyList(), wheel.advance(1000));
+    assertEquals(Arrays.asList("b", "c", "d"), wheel.advance(1100));
+    assertTrue(wheel.isEmpty());
+  }
+
+  @Test
+  public void testOverdue() throws Exception {
+    TimerWheel<String> wheel = new TimerWheel<>();
+    wheel.advance(1000);
+    wheel.add(999, "c");
+    wheel.add(10, "a");
+    wheel.add(500, "b");
+    assertEquals(Arrays.asList("a", "b", "c"), wheel.advance(1000));
+    assertTrue(wheel.isEmpty());
+  }
+
+  @Test
+  public void testCancel() throws Exception {
+    TimerWheel<String> wheel = new TimerWheel<>();
+    TimerWheel<String>.Timer a = wheel.add(10, "a");
+    TimerWheel<String>.Timer b = wheel.add(100000, "b");
+    wheel.add(100000, "c");
+    assertTrue(a.cancel());
+    assertFalse(a.cancel());
+    assertTrue(b.cancel());
+    assertEquals(1, wheel.size());
+    assertEquals(Arrays.asList("c"), wheel.advance(1000000));
+    assertTrue(wheel.isEmpty());
+  }
+
+  @Test
+  public void testRandomTimers() throws Exception {
+    Random random = new Random(0);
+    TimerWheel<Long> wheel = new TimerWheel<>();
+    List<Long> pending = new ArrayList<>();
+    long time = 1500000000000L;
+    for (int i = 0; i < 1000; i++) {
+      for (int j = 0; j < 10; j++) {
+        long deadline = time + (long) Math.pow(2, random.nextInt(40)) + random.nextInt(64);
+        wheel.add(deadline, deadline);
+        pending.add(deadline);
+      }
+      time += (long) Math.pow(2, random.nextInt(36));
+      long now = time;
+      List<Long> expected = pending.stream()
+          .filter(deadline -> deadline <= now)
+          .sorted(Comparator.naturalOrder())
+          .collect(Collectors.toList());
+      pending.removeAll(expected);
+      assertEquals(expected, wheel.advance(time));
+      assertEquals(pending.size(), wheel.size());
+    }
+  }
+}
@@ -553,6 +553,12 @@ public interface RaftServer {
     private static final Duration DEFAULT_SESSION_TIMEOUT = Duration.ofMillis(5000);
     private static final ThreadModel DEFAULT_THREAD_MODEL = ThreadModel.SHARED_THREAD_POOL;
     private static final int DEFAULT_THREAD_POOL_SIZE = Runtime.getRuntime().availableProcessors();
+    private static final int DEFAULT_MAX_APPENDS_PER_FOLLOWER = 2;
+    private static final int DEFAULT_MAX_APPEND_BATCH_SIZE = 1024 * 32;
+    private static final int DEFAULT_MAX_COMMAND_BATCH_SIZE = 64;
+    private static final Duration DEFAULT_COMMAND_BATCH_WINDOW = Duration.ZERO;
+    private static final Duration DEFAULT_MAX_READ_STALENESS = Duration.ofSeconds(1);
+    private static final long DEFAULT_MAX_READ_LAG = 1000;
 
     protected String name;
     protected MemberId localMemberId;
@@ -565,6 +571,12 @@ public interface RaftServer {
     protected PrimitiveTypeRegistry primitiveTypes = new PrimitiveTypeRegistry();
     protected ThreadModel threadModel = DEFAULT_THREAD_MODEL;
     protected int threadPoolSize = DEFAULT_THREAD_POOL_SIZE;
+    protected int maxAppendsPerFollower = DEFAULT_MAX_APPENDS_PER_FOLLOWER;
+    protected int maxAppendBatchSize = DEFAULT_MAX_APPEND_BATCH_SIZE;
+    protected int maxCommandBatchSize = DEFAULT_MAX_COMMAND_BATCH_SIZE;
+    protected Duration commandBatchWindow = DEFAULT_COMMAND_BATCH_WINDOW;
+    protected Duration maxReadStaleness = DEFAULT_MAX_READ_STALENESS;
+    protected long maxReadLag = DEFAULT_MAX_READ_LAG;
 
     protected Builder(MemberId localMemberId) {
       this.localMemberId = checkNotNull(localMemberId, "localMemberId cannot be null");
@@ -722,5 +734,107 @@ public interface RaftServer {
       this.threadPoolSize = threadPoolSize;
       return this;
     }
+
+    /**
+     * Sets the maximum number of outstanding append requests per follower.
+     * <p>
+     * When the leader is replicating entries to a follower, up to this number of append requests may be sent
+     * to the follower before a response is received. Pipelining append requests allows the leader to replicate
+     * more than one batch of entries per round trip. Defaults to {@code 2}.
+     *
+     * @param maxAppendsPerFollower The maximum number of outstanding append requests per follower.
+     * @return The server builder.
+     * @throws IllegalArgumentException if {@code maxAppendsPerFollower} is not positive
+     */
+    public Builder withMaxAppendsPerFollower(int maxAppendsPerFollower) {
+      checkArgument(maxAppendsPerFollower > 0, "maxAppendsPerFollower must be positive");
+      this.maxAppendsPerFollower = maxAppendsPerFollower;
+      return this;
+    }
+
+    /**
+     * Sets the maximum size of the entries in a single append request in bytes.
+     * <p>
+     * An entry larger than the batch size is sent in a batch by itself. Defaults to {@code 32KB}.
+     *
+     * @param maxAppendBatchSize The maximum size of the entries in a single append request in bytes.
+     * @return The server builder.
+     * @throws IllegalArgumentException if {@code maxAppendBatchSize} is not positive
+     */
+    public Builder withMaxAppendBatchSize(int maxAppendBatchSize) {
+      checkArgument(maxAppendBatchSize > 0, "maxAppendBatchSize must be positive");
+      this.maxAppendBatchSize = maxAppendBatchSize;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of client commands the leader writes to the log in a single batch.
+     * <p>
+     * The leader collects commands from all sessions into a batch that is appended, replicated, and committed
+     * together. A batch is written as soon as it reaches this size. A size of {@code 1} disables batching.
+     * Defaults to {@code 64}.
+     *
+     * @param maxCommandBatchSize The maximum number of commands in a batch.
+     * @return The server builder.
+     * @throws IllegalArgumentException if {@code maxCommandBatchSize} is not positive
+     */
+    public Builder withMaxCommandBatchSize(int maxCommandBatchSize) {
+      checkArgument(maxCommandBatchSize > 0, "maxCommandBatchSize must be positive");
+      this.maxCommandBatchSize = maxCommandBatchSize;
+      return this;
+    }
+
+    /**
+     * Sets the time for which the leader collects client commands into a batch.
+     * <p>
+     * If the window is zero, the leader batches commands received in the same pass of the server's thread,
+     * adding no latency. Defaults to zero.
+     *
+     * @param commandBatchWindow The command batch window.
+     * @return The server builder.
+     * @throws NullPointerException if {@code commandBatchWindow} is null
+     * @throws IllegalArgumentException if {@code commandBatchWindow} is negative
+     */
+    public Builder withCommandBatchWindow(Duration commandBatchWindow) {
+      checkNotNull(commandBatchWindow, "commandBatchWindow cannot be null");
+      checkArgument(!commandBatchWindow.isNegative(), "commandBatchWindow cannot be negative");
+      this.commandBatchWindow = commandBatchWindow;
+      return this;
+    }
+
+    /**
+     * Sets the maximum staleness of {@link ReadConsistency#BOUNDED_STALENESS} reads evaluated by followers.
+     * <p>
+     * A follower evaluates bounded staleness queries locally only if it has received the leader's commit index
+     * within this time. Defaults to one second.
+     *
+     * @param maxReadStaleness The maximum read staleness.
+     * @return The server builder.
+     * @throws NullPointerException if {@code maxReadStaleness} is null
+     * @throws IllegalArgumentException if {@code maxReadStaleness} is negative
+     */
+    public Builder withMaxReadStaleness(Duration maxReadStaleness) {
+      checkNotNull(maxReadStaleness, "maxReadStaleness cannot be null");
+      checkArgument(!maxReadStaleness.isNegative(), "maxReadStaleness cannot be negative");
+      this.maxReadStaleness = maxReadStaleness;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of entries by which {@link ReadConsistency#BOUNDED_STALENESS} reads evaluated by
+     * followers may trail the leader.
+     * <p>
+     * A follower evaluates bounded staleness queries locally only if its last applied index is within this many
+     * entries of the leader's commit index. Defaults to {@code 1000}.
+     *
+     * @param maxReadLag The maximum read lag in entries.
+     * @return The server builder.
+     * @throws IllegalArgumentException if {@code maxReadLag} is negative
+     */
+    public Builder withMaxReadLag(long maxReadLag) {
+      checkArgument(maxReadLag >= 0, "maxReadLag cannot be negative");
+      this.maxReadLag = maxReadLag;
+      return this;
+    }
   }
 }
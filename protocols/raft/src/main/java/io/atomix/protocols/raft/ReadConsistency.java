@@ -64,6 +64,16 @@ public enum ReadConsistency {
    * in the process of contacting a majority of the cluster, it will queue the {@link RaftQuery} to
    * be processed on the next round trip. This allows the leader to batch expensive quorum based reads for efficiency.
    */
-  LINEARIZABLE
+  LINEARIZABLE,
+
+  /**
+   * Enforces sequential query consistency with bounded staleness.
+   * <p>
+   * Bounded staleness reads provide the same monotonic guarantees as {@link #SEQUENTIAL} reads and may likewise be
+   * evaluated by followers, but a follower only evaluates a query locally if it has heard the leader's commit index
+   * within the server's configured maximum read staleness and its last applied index is within the configured maximum
+   * number of entries of that commit index. Otherwise, the query is forwarded to the leader.
+   */
+  BOUNDED_STALENESS
 
 }
\ No newline at end of file
@@ -27,9 +27,9 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * Cluster member state.
  */
 public final class RaftMemberContext {
-  private static final int MAX_APPENDS = 2;
   private static final int APPEND_WINDOW_SIZE = 8;
   private final DefaultRaftMember member;
+  private final RaftClusterContext cluster;
   private long term;
   private long configIndex;
   private long snapshotIndex;
@@ -40,6 +40,7 @@ public final class RaftMemberContext {
   private int appending;
   private boolean appendSucceeded;
   private long appendTime;
+  private long appendEpoch;
   private boolean configuring;
   private boolean installing;
   private int failures;
@@ -49,6 +50,7 @@ public final class RaftMemberContext {
 
   RaftMemberContext(DefaultRaftMember member, RaftClusterContext cluster) {
     this.member = checkNotNull(member, "member cannot be null").setCluster(cluster);
+    this.cluster = cluster;
   }
 
   /**
@@ -212,7 +214,8 @@ public final class RaftMemberContext {
    * @return Indicates whether an append request can be sent to the member.
    */
   public boolean canAppend() {
-    return appending == 0 || (appendSucceeded && appending < MAX_APPENDS && System.currentTimeMillis() - (timeStats.getMean() / MAX_APPENDS) >= appendTime);
+    int maxAppends = cluster.getContext().getMaxAppendsPerFollower();
+    return appending == 0 || (appendSucceeded && appending < maxAppends && System.currentTimeMillis() - (timeStats.getMean() / maxAppends) >= appendTime);
   }
 
   /**
@@ -247,6 +250,25 @@ public final class RaftMemberContext {
     this.appendSucceeded = succeeded;
   }
 
+  /**
+   * Returns the member's append epoch.
+   * <p>
+   * The append epoch is incremented each time the member's next index is reset. Rejections of append requests
+   * sent in a prior epoch are stale, since the requests were built from a next index that's since been reset.
+   *
+   * @return The member's append epoch.
+   */
+  public long getAppendEpoch() {
+    return appendEpoch;
+  }
+
+  /**
+   * Increments the member's append epoch.
+   */
+  public void incrementAppendEpoch() {
+    appendEpoch++;
+  }
+
   /**
    * Starts an append request to the member.
    */
@@ -242,6 +242,12 @@ public class DefaultRaftServer implements RaftServer {
       raft.setElectionTimeout(electionTimeout);
       raft.setHeartbeatInterval(heartbeatInterval);
       raft.setSessionTimeout(sessionTimeout);
+      raft.setMaxAppendsPerFollower(maxAppendsPerFollower);
+      raft.setMaxAppendBatchSize(maxAppendBatchSize);
+      raft.setMaxCommandBatchSize(maxCommandBatchSize);
+      raft.setCommandBatchWindow(commandBatchWindow);
+      raft.setMaxReadStaleness(maxReadStaleness);
+      raft.setMaxReadLag(maxReadLag);
 
       return new DefaultRaftServer(raft);
     }
@@ -51,8 +51,10 @@ import io.atomix.utils.logging.LoggerContext;
 import org.slf4j.Logger;
 
 import java.time.Duration;
+import java.util.Iterator;
 import java.util.Objects;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.ExecutionException;
@@ -103,12 +105,19 @@ public class RaftContext implements AutoCloseable {
   private Duration electionTimeout = Duration.ofMillis(500);
   private Duration heartbeatInterval = Duration.ofMillis(150);
   private Duration sessionTimeout = Duration.ofMillis(5000);
+  private int maxAppendsPerFollower = 2;
+  private int maxAppendBatchSize = 1024 * 32;
+  private int maxCommandBatchSize = 64;
+  private Duration commandBatchWindow = Duration.ZERO;
+  private Duration maxReadStaleness = Duration.ofSeconds(1);
+  private long maxReadLag = 1000;
   private volatile MemberId leader;
   private volatile long term;
   private MemberId lastVotedFor;
   private long commitIndex;
   private volatile long firstCommitIndex;
   private volatile long lastApplied;
+  private final TreeMap<Long, CompletableFuture<Void>> appliedFutures = new TreeMap<>();
 
   @SuppressWarnings("unchecked")
   public RaftContext(
@@ -345,6 +354,126 @@ public class RaftContext implements AutoCloseable {
     this.sessionTimeout = checkNotNull(sessionTimeout, "sessionTimeout cannot be null");
   }
 
+  /**
+   * Returns the maximum number of outstanding append requests per follower.
+   *
+   * @return The maximum number of outstanding append requests per follower.
+   */
+  public int getMaxAppendsPerFollower() {
+    return maxAppendsPerFollower;
+  }
+
+  /**
+   * Sets the maximum number of outstanding append requests per follower.
+   *
+   * @param maxAppendsPerFollower The maximum number of outstanding append requests per follower.
+   */
+  public void setMaxAppendsPerFollower(int maxAppendsPerFollower) {
+    checkArgument(maxAppendsPerFollower > 0, "maxAppendsPerFollower must be positive");
+    this.maxAppendsPerFollower = maxAppendsPerFollower;
+  }
+
+  /**
+   * Returns the maximum size of the entries in a single append request in bytes.
+   *
+   * @return The maximum size of the entries in a single append request in bytes.
+   */
+  public int getMaxAppendBatchSize() {
+    return maxAppendBatchSize;
+  }
+
+  /**
+   * Sets the maximum size of the entries in a single append request in bytes.
+   *
+   * @param maxAppendBatchSize The maximum size of the entries in a single append request in bytes.
+   */
+  public void setMaxAppendBatchSize(int maxAppendBatchSize) {
+    checkArgument(maxAppendBatchSize > 0, "maxAppendBatchSize must be positive");
+    this.maxAppendBatchSize = maxAppendBatchSize;
+  }
+
+  /**
+   * Returns the maximum number of commands the leader writes to the log in a single batch.
+   *
+   * @return The maximum number of commands in a batch.
+   */
+  public int getMaxCommandBatchSize() {
+    return maxCommandBatchSize;
+  }
+
+  /**
+   * Sets the maximum number of commands the leader writes to the log in a single batch.
+   *
+   * @param maxCommandBatchSize The maximum number of commands in a batch.
+   */
+  public void setMaxCommandBatchSize(int maxCommandBatchSize) {
+    checkArgument(maxCommandBatchSize > 0, "maxCommandBatchSize must be positive");
+    this.maxCommandBatchSize = maxCommandBatchSize;
+  }
+
+  /**
+   * Returns the time for which the leader collects commands into a batch.
+   *
+   * @return The command batch window.
+   */
+  public Duration getCommandBatchWindow() {
+    return commandBatchWindow;
+  }
+
+  /**
+   * Sets the time for which the leader collects commands into a batch.
+   *
+   * @param commandBatchWindow The command batch window.
+   */
+  public void setCommandBatchWindow(Duration commandBatchWindow) {
+    checkNotNull(commandBatchWindow, "commandBatchWindow cannot be null");
+    checkArgument(!commandBatchWindow.isNegative(), "commandBatchWindow cannot be negative");
+    this.commandBatchWindow = commandBatchWindow;
+  }
+
+  /**
+   * Returns the maximum time since the leader's commit index was last received for which bounded staleness
+   * queries are evaluated locally.
+   *
+   * @return The maximum read staleness.
+   */
+  public Duration getMaxReadStaleness() {
+    return maxReadStaleness;
+  }
+
+  /**
+   * Sets the maximum time since the leader's commit index was last received for which bounded staleness
+   * queries are evaluated locally.
+   *
+   * @param maxReadStaleness The maximum read staleness.
+   */
+  public void setMaxReadStaleness(Duration maxReadStaleness) {
+    checkNotNull(maxReadStaleness, "maxReadStaleness cannot be null");
+    checkArgument(!maxReadStaleness.isNegative(), "maxReadStaleness cannot be negative");
+    this.maxReadStaleness = maxReadStaleness;
+  }
+
+  /**
+   * Returns the maximum number of entries by which the last applied index may trail the leader's commit index
+   * for bounded staleness queries to be evaluated locally.
+   *
+   * @return The maximum read lag.
+   */
+  public long getMaxReadLag() {
+    return maxReadLag;
+  }
+
+  /**
+   * Sets the maximum number of entries by which the last applied index may trail the leader's commit index
+   * for bounded staleness queries to be evaluated locally.
+   *
+   * @param maxReadLag The maximum read lag.
+   */
+  public void setMaxReadLag(long maxReadLag) {
+    checkArgument(maxReadLag >= 0, "maxReadLag cannot be negative");
+    this.maxReadLag = maxReadLag;
+  }
+
   /**
    * Sets the state leader.
    *
@@ -513,6 +642,14 @@ public class RaftContext implements AutoCloseable {
    */
   public void setLastApplied(long lastApplied) {
     this.lastApplied = Math.max(this.lastApplied, lastApplied);
+    if (!appliedFutures.isEmpty()) {
+      Iterator<CompletableFuture<Void>> iterator = appliedFutures.headMap(this.lastApplied, true).values().iterator();
+      while (iterator.hasNext()) {
+        CompletableFuture<Void> future = iterator.next();
+        iterator.remove();
+        future.complete(null);
+      }
+    }
     if (state == State.ACTIVE) {
       threadContext.execute(() -> {
         if (state == State.ACTIVE && this.lastApplied >= firstCommitIndex) {
@@ -532,6 +669,40 @@ public class RaftContext implements AutoCloseable {
     return lastApplied;
   }
 
+  /**
+   * Returns a future to be completed once the given index has been applied.
+   * <p>
+   * The returned future is completed on the server thread once the entry at the given index has been submitted to
+   * the state machine, so operations submitted to the {@link RaftServiceManager} by dependent callbacks are applied
+   * after the entry. The future is failed if the server changes roles or is closed before the index is applied.
+   *
+   * @param index the index to await
+   * @return a future to be completed once the given index has been applied
+   */
+  public CompletableFuture<Void> awaitApplied(long index) {
+    checkThread();
+    if (lastApplied >= index) {
+      return CompletableFuture.completedFuture(null);
+    }
+    return appliedFutures.computeIfAbsent(index, i -> new CompletableFuture<>());
+  }
+
+  /**
+   * Fails all futures awaiting the application of an index.
+   *
+   * @param error the error with which to fail the futures
+   */
+  private void failAppliedFutures(Throwable error) {
+    if (!appliedFutures.isEmpty()) {
+      Iterator<CompletableFuture<Void>> iterator = appliedFutures.values().iterator();
+      while (iterator.hasNext()) {
+        CompletableFuture<Void> future = iterator.next();
+        iterator.remove();
+        future.completeExceptionally(error);
+      }
+    }
+  }
+
   /**
    * Returns the server load monitor.
    *
@@ -661,6 +832,7 @@ public class RaftContext implements AutoCloseable {
     protocol.registerReconfigureHandler(request -> runOnContext(() -> role.onReconfigure(request)));
     protocol.registerLeaveHandler(request -> runOnContext(() -> role.onLeave(request)));
     protocol.registerTransferHandler(request -> runOnContext(() -> role.onTransfer(request)));
+    protocol.registerReadIndexHandler(request -> runOnContext(() -> role.onReadIndex(request)));
     protocol.registerAppendHandler(request -> runOnContext(() -> role.onAppend(request)));
     protocol.registerPollHandler(request -> runOnContext(() -> role.onPoll(request)));
     protocol.registerVoteHandler(request -> runOnContext(() -> role.onVote(request)));
@@ -696,6 +868,7 @@ public class RaftContext implements AutoCloseable {
     protocol.unregisterReconfigureHandler();
     protocol.unregisterLeaveHandler();
     protocol.unregisterTransferHandler();
+    protocol.unregisterReadIndexHandler();
     protocol.unregisterAppendHandler();
     protocol.unregisterPollHandler();
     protocol.unregisterVoteHandler();
@@ -791,6 +964,9 @@ public class RaftContext implements AutoCloseable {
 
     log.info("Transitioning to {}", role);
 
+    // Fail reads waiting on the old state so they can be retried or forwarded to the new leader.
+    failAppliedFutures(new RaftException.IllegalMemberState("Server transitioned to %s", role));
+
     // Close the old state.
     try {
       this.role.stop().get();
@@ -836,6 +1012,9 @@ public class RaftContext implements AutoCloseable {
     // Unregister protocol listeners.
     unregisterHandlers(protocol);
 
+    // Fail any reads still waiting for entries to be applied.
+    failAppliedFutures(new RaftException.Unavailable("Server closed"));
+
     // Close the log.
     try {
       raftLog.close();
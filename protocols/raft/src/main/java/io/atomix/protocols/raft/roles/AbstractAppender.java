@@ -36,6 +36,7 @@ import io.atomix.utils.logging.ContextualLoggerFactory;
 import io.atomix.utils.logging.LoggerContext;
 import org.slf4j.Logger;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
@@ -46,7 +47,7 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * Abstract appender.
  */
 abstract class AbstractAppender implements AutoCloseable {
-  private static final int MAX_BATCH_SIZE = 1024 * 32;
+  private static final int SNAPSHOT_CHUNK_SIZE = 1024 * 32;
   protected final Logger log;
   protected final RaftContext raft;
   protected boolean open = true;
@@ -128,24 +129,26 @@ abstract class AbstractAppender implements AutoCloseable {
         .withPrevLogTerm(prevEntry != null ? prevEntry.entry().term() : 0)
         .withCommitIndex(raft.getCommitIndex());
 
-    // Build a list of entries to send to the member.
-    final List<RaftLogEntry> entries = new ArrayList<>();
+    // Build a list of serialized entries to send to the member.
+    final List<byte[]> entries = new ArrayList<>();
 
-    // Build a list of entries up to the MAX_BATCH_SIZE. Note that entries in the log may
+    // Build a list of entries up to the maximum batch size. Note that entries in the log may
     // be null if they've been compacted and the member to which we're sending entries is just
     // joining the cluster or is otherwise far behind. Null entries are simply skipped and not
     // counted towards the size of the batch.
-    // If there exists an entry in the log with size >= MAX_BATCH_SIZE the logic ensures that
+    // If there exists an entry in the log with size >= the maximum batch size the logic ensures that
     // entry will be sent in a batch of size one
+    final int maxBatchSize = raft.getMaxAppendBatchSize();
     int size = 0;
 
     // Iterate through the log until the last index or the end of the log is reached.
     while (reader.hasNext()) {
       // Otherwise, read the next entry and add it to the batch.
       Indexed<RaftLogEntry> entry = reader.next();
-      entries.add(entry.entry());
-      size += entry.size();
-      if (entry.index() == lastIndex || size >= MAX_BATCH_SIZE) {
+      byte[] bytes = serialize(entry);
+      entries.add(bytes);
+      size += bytes.length;
+      if (entry.index() == lastIndex || size >= maxBatchSize) {
         break;
       }
     }
@@ -154,6 +157,22 @@ abstract class AbstractAppender implements AutoCloseable {
     return builder.withEntries(entries).build();
   }
 
+  /**
+   * Returns the serialized bytes of the given entry.
+   * <p>
+   * Entries read from the log are replicated using their stored bytes without being decoded. Only entries that
+   * have not been read from the log, e.g. entries served from the log's cache, are encoded.
+   */
+  private byte[] serialize(Indexed<RaftLogEntry> entry) {
+    ByteBuffer buffer = entry.bytes();
+    if (buffer != null) {
+      byte[] bytes = new byte[buffer.remaining()];
+      buffer.get(bytes);
+      return bytes;
+    }
+    return raft.getStorage().serializer().encode(entry.entry());
+  }
+
   /**
    * Connects to the member and sends a commit message.
    */
@@ -168,6 +187,9 @@ abstract class AbstractAppender implements AutoCloseable {
 
     long timestamp = System.currentTimeMillis();
 
+    // Record the member's append epoch to detect responses to requests built before the member's next index was reset.
+    long epoch = member.getAppendEpoch();
+
     log.trace("Sending {} to {}", request, member.getMember().memberId());
     raft.getProtocol().append(member.getMember().memberId(), request).whenCompleteAsync((response, error) -> {
       // Complete the append to the member.
@@ -180,7 +202,11 @@ abstract class AbstractAppender implements AutoCloseable {
       if (open) {
         if (error == null) {
           log.trace("Received {} from {}", response, member.getMember().memberId());
-          handleAppendResponse(member, request, response, timestamp);
+          if (epoch != member.getAppendEpoch() && isRejected(response)) {
+            handleStaleAppendResponse(member, request, response, timestamp);
+          } else {
+            handleAppendResponse(member, request, response, timestamp);
+          }
         } else {
           handleAppendResponseFailure(member, request, error);
         }
@@ -192,10 +218,39 @@ abstract class AbstractAppender implements AutoCloseable {
     }
   }
 
+  /**
+   * Returns a boolean indicating whether the given response rejected the entries in an append request.
+   */
+  private boolean isRejected(AppendResponse response) {
+    return response.status() == RaftResponse.Status.OK && !response.succeeded() && response.term() <= raft.getTerm();
+  }
+
+  /**
+   * Handles a rejection of an append request that was sent before the member's next index was reset.
+   * <p>
+   * When append requests are pipelined, each request following a rejected request will be rejected as well. The
+   * first rejection resets the member's next index, so subsequent rejections are ignored to avoid resending
+   * entries from the same index once for each outstanding request.
+   */
+  protected void handleStaleAppendResponse(RaftMemberContext member, AppendRequest request, AppendResponse response, long timestamp) {
+    log.trace("Ignoring stale {} from {}", response, member.getMember().memberId());
+    succeedAttempt(member);
+  }
+
   /**
    * Handles an append failure.
    */
   protected void handleAppendResponseFailure(RaftMemberContext member, AppendRequest request, Throwable error) {
+    // If the request contained entries, the entries may not have been received by the member. Reset the member's
+    // next index to resend entries following the match index rather than waiting for the next pipelined request
+    // to be rejected.
+    final RaftLogReader reader = member.getLogReader();
+    if (!request.entries().isEmpty() && reader != null && reader.getNextIndex() > member.getMatchIndex() + 1) {
+      reader.reset(member.getMatchIndex() + 1);
+      member.incrementAppendEpoch();
+      log.trace("Reset next index for {} to {}", member, member.getMatchIndex() + 1);
+    }
+
     // Log the failed attempt to contact the member.
     failAttempt(member, request, error);
   }
@@ -289,8 +344,11 @@ abstract class AbstractAppender implements AutoCloseable {
    * Updates the match index when a response is received.
    */
   protected void updateMatchIndex(RaftMemberContext member, AppendResponse response) {
-    // If the replica returned a valid match index then update the existing match index.
-    member.setMatchIndex(response.lastLogIndex());
+    // If the replica returned a valid match index then update the existing match index. Responses to pipelined
+    // requests may be received out of order, so the match index is only ever increased by successful responses.
+    if (response.lastLogIndex() > member.getMatchIndex()) {
+      member.setMatchIndex(response.lastLogIndex());
+    }
   }
 
   /**
@@ -310,6 +368,7 @@ abstract class AbstractAppender implements AutoCloseable {
     long nextIndex = response.lastLogIndex() + 1;
     if (member.getLogReader().getNextIndex() != nextIndex) {
       member.getLogReader().reset(nextIndex);
+      member.incrementAppendEpoch();
       log.trace("Reset next index for {} to {}", member, nextIndex);
     }
   }
@@ -418,8 +477,8 @@ abstract class AbstractAppender implements AutoCloseable {
       // Open a new snapshot reader.
       try (SnapshotReader reader = snapshot.openReader()) {
         // Skip to the next batch of bytes according to the snapshot chunk size and current offset.
-        reader.skip(member.getNextSnapshotOffset() * MAX_BATCH_SIZE);
-        byte[] data = new byte[Math.min(MAX_BATCH_SIZE, reader.remaining())];
+        reader.skip(member.getNextSnapshotOffset() * SNAPSHOT_CHUNK_SIZE);
+        byte[] data = new byte[Math.min(SNAPSHOT_CHUNK_SIZE, reader.remaining())];
         reader.read(data);
 
         // Create the install request, indicating whether this is the last chunk of data based on the number
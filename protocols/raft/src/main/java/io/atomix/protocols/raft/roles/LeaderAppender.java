@@ -27,7 +27,9 @@ import io.atomix.protocols.raft.protocol.InstallRequest;
 import io.atomix.protocols.raft.protocol.InstallResponse;
 import io.atomix.protocols.raft.protocol.RaftRequest;
 import io.atomix.protocols.raft.storage.snapshot.Snapshot;
+import io.atomix.utils.concurrent.Scheduled;
 
+import java.time.Duration;
 import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.Iterator;
@@ -48,7 +50,12 @@ final class LeaderAppender extends AbstractAppender {
   private final long leaderIndex;
   private final long electionTimeout;
   private final long heartbeatInterval;
+  private final boolean groupCommit;
+  private final Duration maxFlushDelay;
+  private final int maxFlushBytes;
   private long heartbeatTime;
+  private long pendingCommitIndex;
+  private Scheduled flushTimer;
   private final Map<Long, CompletableFuture<Long>> appendFutures = new HashMap<>();
   private final List<TimestampedFuture<Long>> heartbeatFutures = new ArrayList<>();
 
@@ -59,6 +66,9 @@ final class LeaderAppender extends AbstractAppender {
     this.heartbeatTime = leaderTime;
     this.electionTimeout = raft.getElectionTimeout().toMillis();
     this.heartbeatInterval = raft.getHeartbeatInterval().toMillis();
+    this.maxFlushDelay = raft.getStorage().maxFlushDelay();
+    this.maxFlushBytes = raft.getStorage().maxFlushBytes();
+    this.groupCommit = raft.getStorage().isFlushOnCommit() && !maxFlushDelay.isZero();
   }
 
   /**
@@ -333,6 +343,51 @@ final class LeaderAppender extends AbstractAppender {
     // the index of the leader's no-op entry. Update the commit index and trigger commit futures.
     long previousCommitIndex = raft.getCommitIndex();
     if (commitIndex > 0 && commitIndex > previousCommitIndex && (leaderIndex > 0 && commitIndex >= leaderIndex)) {
+      if (groupCommit) {
+        groupCommit(commitIndex);
+      } else {
+        log.trace("Committed entries up to {}", commitIndex);
+        raft.setCommitIndex(commitIndex);
+        completeCommits(previousCommitIndex, commitIndex);
+      }
+    }
+  }
+
+  /**
+   * Defers a commit until the log is flushed, coalescing the flushes of many commits into a single sync.
+   * <p>
+   * The log is flushed once {@code maxFlushBytes} have been written since the previous flush or once
+   * {@code maxFlushDelay} has elapsed, whichever comes first. The commit index is not advanced and commit
+   * futures are not completed until the flush is complete.
+   */
+  private void groupCommit(long commitIndex) {
+    pendingCommitIndex = Math.max(pendingCommitIndex, commitIndex);
+    if (raft.getLogWriter().getUnflushedBytes() >= maxFlushBytes) {
+      flushCommits();
+    } else if (flushTimer == null) {
+      flushTimer = raft.getThreadContext().schedule(maxFlushDelay, this::flushCommits);
+    }
+  }
+
+  /**
+   * Flushes the log and commits entries up to the pending commit index.
+   */
+  private void flushCommits() {
+    raft.checkThread();
+
+    if (flushTimer != null) {
+      flushTimer.cancel();
+      flushTimer = null;
+    }
+
+    if (!open) {
+      return;
+    }
+
+    long commitIndex = pendingCommitIndex;
+    long previousCommitIndex = raft.getCommitIndex();
+    if (commitIndex > previousCommitIndex) {
+      raft.getLogWriter().flush();
       log.trace("Committed entries up to {}", commitIndex);
       raft.setCommitIndex(commitIndex);
       completeCommits(previousCommitIndex, commitIndex);
@@ -363,6 +418,12 @@ final class LeaderAppender extends AbstractAppender {
     recordHeartbeat(member, timestamp);
   }
 
+  @Override
+  protected void handleStaleAppendResponse(RaftMemberContext member, AppendRequest request, AppendResponse response, long timestamp) {
+    super.handleStaleAppendResponse(member, request, response, timestamp);
+    recordHeartbeat(member, timestamp);
+  }
+
   @Override
   protected void handleAppendResponseOk(RaftMemberContext member, AppendRequest request, AppendResponse response) {
     // Reset the member failure count and update the member's availability status if necessary.
@@ -450,6 +511,10 @@ final class LeaderAppender extends AbstractAppender {
   @Override
   public void close() {
     super.close();
+    if (flushTimer != null) {
+      flushTimer.cancel();
+      flushTimer = null;
+    }
     appendFutures.values().forEach(future ->
         future.completeExceptionally(new IllegalStateException("Inactive state")));
     heartbeatFutures.forEach(future ->
@@ -49,6 +49,8 @@ import io.atomix.protocols.raft.protocol.PollRequest;
 import io.atomix.protocols.raft.protocol.PollResponse;
 import io.atomix.protocols.raft.protocol.QueryRequest;
 import io.atomix.protocols.raft.protocol.QueryResponse;
+import io.atomix.protocols.raft.protocol.ReadIndexRequest;
+import io.atomix.protocols.raft.protocol.ReadIndexResponse;
 import io.atomix.protocols.raft.protocol.RaftResponse;
 import io.atomix.protocols.raft.protocol.ReconfigureRequest;
 import io.atomix.protocols.raft.protocol.ReconfigureResponse;
@@ -74,7 +76,9 @@ import io.atomix.utils.concurrent.Scheduled;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -90,6 +94,9 @@ public final class LeaderRole extends ActiveRole {
   private final ClusterMembershipEventListener clusterListener = this::handleClusterEvent;
   private final LeaderAppender appender;
   private Scheduled appendTimer;
+  private final List<PendingCommand> commandBatch = new ArrayList<>();
+  private boolean commandBatchScheduled;
+  private Scheduled commandBatchTimer;
   private final Set<SessionId> expiring = Sets.newHashSet();
   private long configuring;
   private boolean transferring;
@@ -678,51 +685,108 @@ public final class LeaderRole extends ActiveRole {
 
   /**
    * Commits a command.
+   * <p>
+   * Commands from all sessions are added to a batch which is written to the log once the batch is full or the
+   * configured command batch window has elapsed. With a zero window, commands received in the same pass of the
+   * Raft thread are batched together.
    *
    * @param request the command request
    * @param future  the command response future
    */
   private void commitCommand(CommandRequest request, CompletableFuture<CommandResponse> future) {
+    commandBatch.add(new PendingCommand(request, future));
+    if (commandBatch.size() >= raft.getMaxCommandBatchSize()) {
+      commitCommands();
+    } else if (!commandBatchScheduled) {
+      commandBatchScheduled = true;
+      Duration window = raft.getCommandBatchWindow();
+      if (window.isZero()) {
+        raft.getThreadContext().execute(this::commitCommands);
+      } else {
+        commandBatchTimer = raft.getThreadContext().schedule(window, this::commitCommands);
+      }
+    }
+  }
+
+  /**
+   * Commits the current batch of commands.
+   * <p>
+   * Each command in the batch is appended to the log as a separate entry, but the batch is replicated and its
+   * commitment awaited together, and the commands are then applied to the state machine in log order.
+   */
+  private void commitCommands() {
+    commandBatchScheduled = false;
+    if (commandBatchTimer != null) {
+      commandBatchTimer.cancel();
+      commandBatchTimer = null;
+    }
+    if (commandBatch.isEmpty() || !isRunning()) {
+      return;
+    }
+
+    final List<PendingCommand> commands = new ArrayList<>(commandBatch);
+    commandBatch.clear();
+
     final long term = raft.getTerm();
     final long timestamp = System.currentTimeMillis();
 
-    appendAndCompact(new CommandEntry(term, timestamp, request.session(), request.sequenceNumber(), request.operation()))
-        .whenCompleteAsync((entry, error) -> {
-          if (error != null) {
-            future.complete(CommandResponse.builder()
-                .withStatus(RaftResponse.Status.ERROR)
-                .withError(RaftError.Type.COMMAND_FAILURE)
-                .build());
-            return;
-          }
+    final List<CompletableFuture<Indexed<CommandEntry>>> entries = new ArrayList<>(commands.size());
+    for (PendingCommand command : commands) {
+      CommandRequest request = command.request();
+      entries.add(appendAndCompact(
+          new CommandEntry(term, timestamp, request.session(), request.sequenceNumber(), request.operation())));
+    }
 
+    CompletableFuture.allOf(entries.toArray(new CompletableFuture[entries.size()]))
+        .whenCompleteAsync((result, error) -> {
+          // Fail commands that could not be appended and determine the last index in the batch.
+          long lastIndex = 0;
+          for (int i = 0; i < commands.size(); i++) {
+            CompletableFuture<Indexed<CommandEntry>> entry = entries.get(i);
+            if (entry.isCompletedExceptionally()) {
+              commands.get(i).future().complete(commandFailure());
+            } else {
+              lastIndex = Math.max(lastIndex, entry.join().index());
+            }
+          }
 
+          if (lastIndex == 0) {
+            return;
+          }
 
-          // Replicate the command to followers.
-          appender.appendEntries(entry.index()).whenComplete((commitIndex, commitError) -> {
+          // Replicate the batch of commands to followers.
+          appender.appendEntries(lastIndex).whenComplete((commitIndex, commitError) -> {
             raft.checkThread();
-            if (isRunning()) {
+            for (int i = 0; i < commands.size(); i++) {
+              CompletableFuture<Indexed<CommandEntry>> entry = entries.get(i);
+              if (entry.isCompletedExceptionally()) {
+                continue;
+              }
+
               // If the command was successfully committed, apply it to the state machine.
-              if (commitError == null) {
-                raft.getServiceManager().<OperationResult>apply(entry.index()).whenComplete((r, e) -> {
+              CompletableFuture<CommandResponse> future = commands.get(i).future();
+              if (isRunning() && commitError == null) {
+                raft.getServiceManager().<OperationResult>apply(entry.join().index()).whenComplete((r, e) -> {
                   completeOperation(r, CommandResponse.builder(), e, future);
                 });
               } else {
-                future.complete(CommandResponse.builder()
-                    .withStatus(RaftResponse.Status.ERROR)
-                    .withError(RaftError.Type.COMMAND_FAILURE)
-                    .build());
+                future.complete(commandFailure());
               }
-            } else {
-              future.complete(CommandResponse.builder()
-                  .withStatus(RaftResponse.Status.ERROR)
-                  .withError(RaftError.Type.COMMAND_FAILURE)
-                  .build());
             }
           });
         }, raft.getThreadContext());
   }
 
+  /**
+   * Returns a command failure response.
+   */
+  private CommandResponse commandFailure() {
+    return CommandResponse.builder()
+        .withStatus(RaftResponse.Status.ERROR)
+        .withError(RaftError.Type.COMMAND_FAILURE)
+        .build();
+  }
+
   @Override
   public CompletableFuture<QueryResponse> onQuery(final QueryRequest request) {
     raft.checkThread();
@@ -760,6 +824,7 @@ public final class LeaderRole extends ActiveRole {
     final CompletableFuture<QueryResponse> future;
     switch (session.readConsistency()) {
       case SEQUENTIAL:
+      case BOUNDED_STALENESS:
         future = queryLocal(entry);
         break;
       case LINEARIZABLE_LEASE:
@@ -788,17 +853,52 @@ public final class LeaderRole extends ActiveRole {
   /**
    * Executes a linearizable query.
    * <p>
-   * Linearizable queries are first sequenced with commands and then applied to the state machine. Once
-   * applied, we verify the node's leadership prior to responding successfully to the query.
+   * Linearizable queries are evaluated using the ReadIndex protocol: the leader records its commit index as the
+   * read index, verifies its leadership with a majority of the cluster, and applies the query once entries up to
+   * the read index have been applied to the state machine. Concurrent queries share a single round of leadership
+   * verification.
    */
   private CompletableFuture<QueryResponse> queryLinearizable(Indexed<QueryEntry> entry) {
-    return applyQuery(entry)
-        .thenComposeAsync(response -> appender.appendEntries()
-            .thenApply(index -> response)
-            .exceptionally(error -> QueryResponse.builder()
-                .withStatus(RaftResponse.Status.ERROR)
-                .withError(RaftError.Type.QUERY_FAILURE, error.getMessage())
-                .build()), raft.getThreadContext());
+    return readIndex()
+        .thenCompose(index -> {
+          raft.getServiceManager().applyAll(index);
+          return raft.awaitApplied(index);
+        })
+        .thenCompose(v -> applyQuery(entry))
+        .exceptionally(error -> QueryResponse.builder()
+            .withStatus(RaftResponse.Status.ERROR)
+            .withError(RaftError.Type.QUERY_FAILURE, error.getMessage())
+            .build());
+  }
+
+  /**
+   * Verifies this server's leadership with a majority of the cluster.
+   * <p>
+   * The read index is the greater of the commit index and the index of the leader's initial entry, since the
+   * commit index may lag behind entries committed by a prior leader until the initial entry is committed.
+   *
+   * @return a future to be completed with the read index once leadership has been verified
+   */
+  @Override
+  protected CompletableFuture<Long> requestReadIndex() {
+    final long readIndex = Math.max(raft.getCommitIndex(), appender.getIndex());
+    return appender.appendEntries().thenApply(v -> readIndex);
+  }
+
+  @Override
+  public CompletableFuture<ReadIndexResponse> onReadIndex(ReadIndexRequest request) {
+    raft.checkThread();
+    logRequest(request);
+    return readIndex()
+        .thenApply(index -> ReadIndexResponse.builder()
+            .withStatus(RaftResponse.Status.OK)
+            .withIndex(index)
+            .build())
+        .exceptionally(error -> ReadIndexResponse.builder()
+            .withStatus(RaftResponse.Status.ERROR)
+            .withError(RaftError.Type.QUERY_FAILURE, error.getMessage())
+            .build())
+        .thenApply(this::logResponse);
   }
 
   @Override
@@ -1083,6 +1183,15 @@ public final class LeaderRole extends ActiveRole {
    * Fails pending commands.
    */
   private void failPendingCommands() {
+    if (commandBatchTimer != null) {
+      commandBatchTimer.cancel();
+      commandBatchTimer = null;
+    }
+    for (PendingCommand command : commandBatch) {
+      command.future().complete(logResponse(commandFailure()));
+    }
+    commandBatch.clear();
+
     for (RaftSession session : raft.getSessions().getSessions()) {
       for (PendingCommand command : session.clearCommands()) {
         command.future().complete(logResponse(CommandResponse.builder()
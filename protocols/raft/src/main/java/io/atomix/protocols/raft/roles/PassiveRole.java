@@ -31,6 +31,7 @@ import io.atomix.protocols.raft.storage.snapshot.Snapshot;
 import io.atomix.protocols.raft.storage.snapshot.SnapshotWriter;
 import io.atomix.storage.StorageException;
 import io.atomix.storage.journal.Indexed;
+import io.atomix.utils.concurrent.Futures;
 import io.atomix.utils.time.WallClockTimestamp;
 
 import java.util.concurrent.CompletableFuture;
@@ -42,7 +43,10 @@ import static com.google.common.base.MoreObjects.toStringHelper;
  * Passive state.
  */
 public class PassiveRole extends InactiveRole {
+  private final ReadIndexBatcher readIndexBatcher = new ReadIndexBatcher(this::requestReadIndex, raft.getThreadContext());
   private PendingSnapshot pendingSnapshot;
+  private long leaderCommitIndex;
+  private long leaderCommitTime;
 
   public PassiveRole(RaftContext context) {
     super(context);
@@ -89,6 +93,10 @@ public class PassiveRole extends InactiveRole {
       return future;
     }
 
+    // Record the leader's commit index to bound the staleness of local reads.
+    leaderCommitIndex = Math.max(leaderCommitIndex, request.commitIndex());
+    leaderCommitTime = System.currentTimeMillis();
+
     // Check that the previous index/term matches the local log's last entry.
     if (!checkPreviousEntry(request, future)) {
       return future;
@@ -197,8 +205,9 @@ public class PassiveRole extends InactiveRole {
       }
 
       // Iterate through entries and append them.
-      for (RaftLogEntry entry : request.entries()) {
+      for (byte[] bytes : request.entries()) {
         long index = ++lastLogIndex;
+        RaftLogEntry entry = raft.getStorage().serializer().decode(bytes);
 
         // Get the last entry written to the log by the writer.
         Indexed<RaftLogEntry> lastEntry = writer.getLastEntry();
@@ -358,8 +367,10 @@ public class PassiveRole extends InactiveRole {
       return queryForward(request);
     }
 
-    // If the session's consistency level is SEQUENTIAL, handle the request here, otherwise forward it.
-    if (session.readConsistency() == ReadConsistency.SEQUENTIAL) {
+    // If the session's consistency level is SEQUENTIAL or this server is within the staleness bounds of a
+    // BOUNDED_STALENESS session, handle the request here, otherwise forward it.
+    if (session.readConsistency() == ReadConsistency.SEQUENTIAL
+        || (session.readConsistency() == ReadConsistency.BOUNDED_STALENESS && isWithinReadStaleness())) {
 
       // If the commit index is not in the log then we've fallen too far behind the leader to perform a local query.
       // Forward the request to the leader.
@@ -378,11 +389,81 @@ public class PassiveRole extends InactiveRole {
               request.operation()), 0);
 
       return applyQuery(entry).thenApply(this::logResponse);
+    } else if (session.readConsistency() == ReadConsistency.LINEARIZABLE) {
+      return queryReadIndex(request);
     } else {
       return queryForward(request);
     }
   }
 
+  /**
+   * Returns a boolean indicating whether this server's state is within the configured staleness bounds.
+   * <p>
+   * The state is within bounds if the leader's commit index was received within the maximum read staleness and
+   * the last applied index is within the maximum read lag of that commit index.
+   */
+  private boolean isWithinReadStaleness() {
+    return leaderCommitTime > 0
+        && System.currentTimeMillis() - leaderCommitTime <= raft.getMaxReadStaleness().toMillis()
+        && leaderCommitIndex - raft.getLastApplied() <= raft.getMaxReadLag();
+  }
+
+  /**
+   * Performs a linearizable query locally once this server has applied entries up to the leader's read index.
+   * <p>
+   * If a read index cannot be obtained from the leader, the query is forwarded to the leader.
+   */
+  private CompletableFuture<QueryResponse> queryReadIndex(QueryRequest request) {
+    return readIndex()
+        .thenCompose(raft::awaitApplied)
+        .handle((result, error) -> error)
+        .thenCompose(error -> {
+          if (error != null) {
+            log.trace("Failed to obtain read index, forwarding query to leader");
+            return queryForward(request);
+          }
+
+          final Indexed<QueryEntry> entry = new Indexed<>(
+              request.index(),
+              new QueryEntry(
+                  raft.getTerm(),
+                  System.currentTimeMillis(),
+                  request.session(),
+                  request.sequenceNumber(),
+                  request.operation()), 0);
+          return applyQuery(entry).thenApply(this::logResponse);
+        });
+  }
+
+  /**
+   * Returns a read index at which a linearizable query can be evaluated by this server.
+   * <p>
+   * Concurrent reads are batched so that they share a single read index request.
+   *
+   * @return a future to be completed with the read index
+   */
+  protected CompletableFuture<Long> readIndex() {
+    return readIndexBatcher.readIndex();
+  }
+
+  /**
+   * Requests a read index from the leader.
+   *
+   * @return a future to be completed with the leader's read index
+   */
+  protected CompletableFuture<Long> requestReadIndex() {
+    ReadIndexRequest request = ReadIndexRequest.builder()
+        .withMember(raft.getCluster().getMember().memberId())
+        .build();
+    return forward(request, raft.getProtocol()::readIndex)
+        .thenCompose(response -> {
+          if (response.status() == RaftResponse.Status.OK) {
+            return CompletableFuture.completedFuture(response.index());
+          }
+          return Futures.exceptionalFuture(response.error().createException());
+        });
+  }
+
   /**
    * Forwards the query to the leader.
    */
@@ -731,6 +812,7 @@ public class PassiveRole extends InactiveRole {
     if (pendingSnapshot != null) {
       pendingSnapshot.rollback();
     }
+    readIndexBatcher.close();
     return super.stop();
   }
 
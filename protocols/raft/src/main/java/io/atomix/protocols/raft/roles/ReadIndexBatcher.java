@@ -0,0 +1,92 @@
+/*
+ * Copyright 2018-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.protocols.raft.roles;
+
+import io.atomix.protocols.raft.RaftException;
+import io.atomix.utils.concurrent.ThreadContext;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+/**
+ * Batches read index requests.
+ * <p>
+ * At most one read index request is in flight at any time. Reads that arrive while a request is in flight are
+ * batched into the next request, which is sent once the in-flight request completes. This ensures the read index
+ * returned to each read was determined after the read arrived, while many concurrent reads share a single round
+ * of leadership confirmation.
+ */
+final class ReadIndexBatcher {
+  private final Supplier<CompletableFuture<Long>> requester;
+  private final ThreadContext context;
+  private boolean inFlight;
+  private CompletableFuture<Long> nextFuture;
+
+  ReadIndexBatcher(Supplier<CompletableFuture<Long>> requester, ThreadContext context) {
+    this.requester = requester;
+    this.context = context;
+  }
+
+  /**
+   * Returns a future to be completed with a read index at which a linearizable read can be evaluated.
+   *
+   * @return a future to be completed with the read index
+   */
+  CompletableFuture<Long> readIndex() {
+    context.checkThread();
+    if (inFlight) {
+      if (nextFuture == null) {
+        nextFuture = new CompletableFuture<>();
+      }
+      return nextFuture;
+    }
+    CompletableFuture<Long> future = new CompletableFuture<>();
+    request(future);
+    return future;
+  }
+
+  /**
+   * Requests a read index, completing the given future with the result.
+   */
+  private void request(CompletableFuture<Long> future) {
+    inFlight = true;
+    requester.get().whenCompleteAsync((index, error) -> {
+      inFlight = false;
+      if (error == null) {
+        future.complete(index);
+      } else {
+        future.completeExceptionally(error);
+      }
+
+      CompletableFuture<Long> next = nextFuture;
+      if (next != null) {
+        nextFuture = null;
+        request(next);
+      }
+    }, context);
+  }
+
+  /**
+   * Fails reads that are waiting for the next read index request.
+   */
+  void close() {
+    CompletableFuture<Long> next = nextFuture;
+    if (next != null) {
+      nextFuture = null;
+      next.completeExceptionally(new RaftException.ProtocolException("Read index request cancelled"));
+    }
+  }
+}
@@ -22,6 +22,8 @@ import io.atomix.protocols.raft.storage.snapshot.SnapshotStore;
 import io.atomix.protocols.raft.storage.system.MetaStore;
 import io.atomix.utils.serializer.Serializer;
 import io.atomix.storage.StorageLevel;
+import io.atomix.storage.journal.ChecksumType;
+import io.atomix.storage.journal.CompressionType;
 import io.atomix.storage.journal.JournalSegmentDescriptor;
 import io.atomix.storage.journal.JournalSegmentFile;
 import io.atomix.storage.statistics.StorageStatistics;
@@ -29,6 +31,7 @@ import io.atomix.storage.statistics.StorageStatistics;
 import java.io.File;
 import java.io.IOException;
 import java.nio.file.Files;
+import java.time.Duration;
 import java.util.function.Predicate;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
@@ -80,6 +83,13 @@ public class RaftStorage {
   private final boolean dynamicCompaction;
   private final double freeDiskBuffer;
   private final boolean flushOnCommit;
+  private final Duration maxFlushDelay;
+  private final int maxFlushBytes;
+  private final boolean fastRecovery;
+  private final boolean preallocateSegments;
+  private final ChecksumType checksumType;
+  private final CompressionType compressionType;
+  private final int compressionThreshold;
   private final boolean retainStaleSnapshots;
   private final StorageStatistics statistics;
 
@@ -93,6 +103,13 @@ public class RaftStorage {
       boolean dynamicCompaction,
       double freeDiskBuffer,
       boolean flushOnCommit,
+      Duration maxFlushDelay,
+      int maxFlushBytes,
+      boolean fastRecovery,
+      boolean preallocateSegments,
+      ChecksumType checksumType,
+      CompressionType compressionType,
+      int compressionThreshold,
       boolean retainStaleSnapshots) {
     this.prefix = prefix;
     this.storageLevel = storageLevel;
@@ -103,6 +120,13 @@ public class RaftStorage {
     this.dynamicCompaction = dynamicCompaction;
     this.freeDiskBuffer = freeDiskBuffer;
     this.flushOnCommit = flushOnCommit;
+    this.maxFlushDelay = maxFlushDelay;
+    this.maxFlushBytes = maxFlushBytes;
+    this.fastRecovery = fastRecovery;
+    this.preallocateSegments = preallocateSegments;
+    this.checksumType = checksumType;
+    this.compressionType = compressionType;
+    this.compressionThreshold = compressionThreshold;
     this.retainStaleSnapshots = retainStaleSnapshots;
     this.statistics = new StorageStatistics(directory);
     directory.mkdirs();
@@ -201,6 +225,71 @@ public class RaftStorage {
     return flushOnCommit;
   }
 
+  /**
+   * Returns the maximum amount of time for which a flush may be delayed to group multiple commits.
+   * <p>
+   * If the delay is zero, group commit is disabled and the log is flushed each time the commit index advances.
+   *
+   * @return The maximum amount of time for which a flush may be delayed to group multiple commits.
+   */
+  public Duration maxFlushDelay() {
+    return maxFlushDelay;
+  }
+
+  /**
+   * Returns the maximum number of bytes that may be written to the log before a grouped flush is forced.
+   *
+   * @return The maximum number of bytes that may be written to the log before a grouped flush is forced.
+   */
+  public int maxFlushBytes() {
+    return maxFlushBytes;
+  }
+
+  /**
+   * Returns whether sealed log segments are recovered from persisted segment indexes.
+   *
+   * @return Whether sealed log segments are recovered from persisted segment indexes.
+   */
+  public boolean isFastRecovery() {
+    return fastRecovery;
+  }
+
+  /**
+   * Returns whether log segments are pre-allocated in the background.
+   *
+   * @return Whether log segments are pre-allocated in the background.
+   */
+  public boolean isPreallocateSegments() {
+    return preallocateSegments;
+  }
+
+  /**
+   * Returns the type of checksum used for entries in new log segments.
+   *
+   * @return The type of checksum used for entries in new log segments.
+   */
+  public ChecksumType checksumType() {
+    return checksumType;
+  }
+
+  /**
+   * Returns the type of compression used for entries in new log segments.
+   *
+   * @return The type of compression used for entries in new log segments.
+   */
+  public CompressionType compressionType() {
+    return compressionType;
+  }
+
+  /**
+   * Returns the minimum serialized size of entries to compress.
+   *
+   * @return The minimum serialized size of entries to compress.
+   */
+  public int compressionThreshold() {
+    return compressionThreshold;
+  }
+
   /**
    * Returns a boolean value indicating whether to retain stale snapshots on disk.
    * <p>
@@ -288,6 +377,11 @@ public class RaftStorage {
         .withMaxSegmentSize(maxSegmentSize)
         .withMaxEntriesPerSegment(maxEntriesPerSegment)
         .withFlushOnCommit(flushOnCommit)
+        .withFastRecovery(fastRecovery)
+        .withPreallocateSegments(preallocateSegments)
+        .withChecksumType(checksumType)
+        .withCompressionType(compressionType)
+        .withCompressionThreshold(compressionThreshold)
         .build();
   }
 
@@ -298,7 +392,7 @@ public class RaftStorage {
    * Deleting log files does not involve rebuilding indexes or reading any logs into memory.
    */
   public void deleteLog() {
-    deleteFiles(f -> JournalSegmentFile.isSegmentFile(prefix, f));
+    deleteFiles(f -> JournalSegmentFile.isSegmentFile(prefix, f) || JournalSegmentFile.isIndexFile(prefix, f));
   }
 
   /**
@@ -348,6 +442,11 @@ public class RaftStorage {
     private static final boolean DEFAULT_DYNAMIC_COMPACTION = true;
     private static final double DEFAULT_FREE_DISK_BUFFER = .2;
     private static final boolean DEFAULT_FLUSH_ON_COMMIT = true;
+    private static final Duration DEFAULT_MAX_FLUSH_DELAY = Duration.ZERO;
+    private static final int DEFAULT_MAX_FLUSH_BYTES = 1024 * 1024;
+    private static final boolean DEFAULT_FAST_RECOVERY = false;
+    private static final boolean DEFAULT_PREALLOCATE_SEGMENTS = false;
+    private static final int DEFAULT_COMPRESSION_THRESHOLD = 256;
     private static final boolean DEFAULT_RETAIN_STALE_SNAPSHOTS = false;
 
     private String prefix = DEFAULT_PREFIX;
@@ -359,6 +458,13 @@ public class RaftStorage {
     private boolean dynamicCompaction = DEFAULT_DYNAMIC_COMPACTION;
     private double freeDiskBuffer = DEFAULT_FREE_DISK_BUFFER;
     private boolean flushOnCommit = DEFAULT_FLUSH_ON_COMMIT;
+    private Duration maxFlushDelay = DEFAULT_MAX_FLUSH_DELAY;
+    private int maxFlushBytes = DEFAULT_MAX_FLUSH_BYTES;
+    private boolean fastRecovery = DEFAULT_FAST_RECOVERY;
+    private boolean preallocateSegments = DEFAULT_PREALLOCATE_SEGMENTS;
+    private ChecksumType checksumType = ChecksumType.CRC32;
+    private CompressionType compressionType = CompressionType.NONE;
+    private int compressionThreshold = DEFAULT_COMPRESSION_THRESHOLD;
     private boolean retainStaleSnapshots = DEFAULT_RETAIN_STALE_SNAPSHOTS;
 
     private Builder() {
@@ -538,6 +644,139 @@ public class RaftStorage {
       return this;
     }
 
+    /**
+     * Sets the maximum amount of time for which a flush may be delayed to group multiple commits, returning
+     * the builder for method chaining.
+     * <p>
+     * When flush-on-commit is enabled and the delay is positive, the leader coalesces commit index advances
+     * that occur within the delay into a single flush. Commits are only acknowledged once the flush completes,
+     * so grouping trades commit latency for throughput. By default, the delay is zero and the log is flushed
+     * each time the commit index advances.
+     *
+     * @param maxFlushDelay The maximum amount of time for which a flush may be delayed.
+     * @return The storage builder.
+     * @throws NullPointerException If the {@code maxFlushDelay} is {@code null}
+     * @throws IllegalArgumentException If the {@code maxFlushDelay} is negative
+     */
+    public Builder withMaxFlushDelay(Duration maxFlushDelay) {
+      checkNotNull(maxFlushDelay, "maxFlushDelay cannot be null");
+      checkArgument(!maxFlushDelay.isNegative(), "maxFlushDelay cannot be negative");
+      this.maxFlushDelay = maxFlushDelay;
+      return this;
+    }
+
+    /**
+     * Sets the maximum number of bytes that may be written to the log before a grouped flush is forced,
+     * returning the builder for method chaining.
+     * <p>
+     * This option only applies when a positive {@link #withMaxFlushDelay(Duration) flush delay} is configured.
+     * By default, the maximum number of bytes is {@code 1024 * 1024}.
+     *
+     * @param maxFlushBytes The maximum number of bytes to write before forcing a flush.
+     * @return The storage builder.
+     * @throws IllegalArgumentException If the {@code maxFlushBytes} is not positive
+     */
+    public Builder withMaxFlushBytes(int maxFlushBytes) {
+      checkArgument(maxFlushBytes > 0, "maxFlushBytes must be positive");
+      this.maxFlushBytes = maxFlushBytes;
+      return this;
+    }
+
+    /**
+     * Enables fast log recovery, returning the builder for method chaining.
+     *
+     * @return The storage builder.
+     */
+    public Builder withFastRecovery() {
+      return withFastRecovery(true);
+    }
+
+    /**
+     * Sets whether to enable fast log recovery, returning the builder for method chaining.
+     * <p>
+     * When fast recovery is enabled, the index of each log segment is persisted alongside the segment once
+     * the log rolls over to a new segment. When the log is reopened, sealed segments are recovered from their
+     * persisted indexes and only the last segment is scanned. By default, fast recovery is disabled.
+     *
+     * @param fastRecovery Whether to enable fast log recovery.
+     * @return The storage builder.
+     */
+    public Builder withFastRecovery(boolean fastRecovery) {
+      this.fastRecovery = fastRecovery;
+      return this;
+    }
+
+    /**
+     * Enables log segment pre-allocation, returning the builder for method chaining.
+     *
+     * @return The storage builder.
+     */
+    public Builder withPreallocateSegments() {
+      return withPreallocateSegments(true);
+    }
+
+    /**
+     * Sets whether to pre-allocate log segments, returning the builder for method chaining.
+     * <p>
+     * When segment pre-allocation is enabled, the file for the next log segment is created and sized to the
+     * maximum segment size on a background thread, so the log can roll over to a new segment without file system
+     * operations on the Raft thread. By default, segments are not pre-allocated.
+     *
+     * @param preallocateSegments Whether to pre-allocate log segments.
+     * @return The storage builder.
+     */
+    public Builder withPreallocateSegments(boolean preallocateSegments) {
+      this.preallocateSegments = preallocateSegments;
+      return this;
+    }
+
+    /**
+     * Sets the type of checksum used for entries in new log segments, returning the builder for method chaining.
+     * <p>
+     * The checksum type is recorded in each segment, so logs written with a different checksum type remain readable
+     * after the checksum type is changed. {@link ChecksumType#CRC32C} is hardware accelerated on Java 9 and later.
+     * By default, entries are checksummed with {@link ChecksumType#CRC32}.
+     *
+     * @param checksumType The checksum type.
+     * @return The storage builder.
+     * @throws NullPointerException If the {@code checksumType} is {@code null}
+     */
+    public Builder withChecksumType(ChecksumType checksumType) {
+      this.checksumType = checkNotNull(checksumType, "checksumType cannot be null");
+      return this;
+    }
+
+    /**
+     * Sets the type of compression used for entries in new log segments, returning the builder for method chaining.
+     * <p>
+     * The compression type is recorded in each segment, so logs written with a different compression type remain
+     * readable after the compression type is changed. By default, entries are not compressed.
+     *
+     * @param compressionType The compression type.
+     * @return The storage builder.
+     * @throws NullPointerException If the {@code compressionType} is {@code null}
+     */
+    public Builder withCompressionType(CompressionType compressionType) {
+      this.compressionType = checkNotNull(compressionType, "compressionType cannot be null");
+      return this;
+    }
+
+    /**
+     * Sets the minimum serialized size of entries to compress, returning the builder for method chaining.
+     * <p>
+     * Smaller entries are stored uncompressed in compressed log segments. By default, entries of at least
+     * {@code 256} bytes are compressed.
+     *
+     * @param compressionThreshold The minimum serialized size of entries to compress.
+     * @return The storage builder.
+     * @throws IllegalArgumentException If the {@code compressionThreshold} is negative
+     */
+    public Builder withCompressionThreshold(int compressionThreshold) {
+      checkArgument(compressionThreshold >= 0, "compressionThreshold must be positive");
+      this.compressionThreshold = compressionThreshold;
+      return this;
+    }
+
     /**
      * Enables retaining stale snapshots on disk, returning the builder for method chaining.
      * <p>
@@ -587,6 +826,13 @@ public class RaftStorage {
           dynamicCompaction,
           freeDiskBuffer,
           flushOnCommit,
+          maxFlushDelay,
+          maxFlushBytes,
+          fastRecovery,
+          preallocateSegments,
+          checksumType,
+          compressionType,
+          compressionThreshold,
           retainStaleSnapshots);
     }
   }
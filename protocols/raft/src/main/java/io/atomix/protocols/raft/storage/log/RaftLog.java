@@ -18,6 +18,8 @@ package io.atomix.protocols.raft.storage.log;
 import io.atomix.protocols.raft.storage.log.entry.RaftLogEntry;
 import io.atomix.utils.serializer.Serializer;
 import io.atomix.storage.StorageLevel;
+import io.atomix.storage.journal.ChecksumType;
+import io.atomix.storage.journal.CompressionType;
 import io.atomix.storage.journal.DelegatingJournal;
 import io.atomix.storage.journal.SegmentedJournal;
 
@@ -75,6 +77,24 @@ public class RaftLog extends DelegatingJournal<RaftLogEntry> {
     return new RaftLogReader(journal.openReader(index), this, mode);
   }
 
+  /**
+   * Returns the number of entry reads served from the log's segment caches.
+   *
+   * @return the number of segment cache hits
+   */
+  public long cacheHitCount() {
+    return journal.cacheHitCount();
+  }
+
+  /**
+   * Returns the number of entry reads that missed the log's segment caches.
+   *
+   * @return the number of segment cache misses
+   */
+  public long cacheMissCount() {
+    return journal.cacheMissCount();
+  }
+
   /**
    * Returns whether {@code flushOnCommit} is enabled for the log.
    *
@@ -272,6 +292,18 @@ public class RaftLog extends DelegatingJournal<RaftLogEntry> {
       return this;
     }
 
+    /**
+     * Sets the maximum number of bytes cached per log segment.
+     *
+     * @param maxCacheBytes the maximum number of bytes to cache per segment
+     * @return the log builder
+     * @throws IllegalArgumentException if the maximum cache bytes is negative
+     */
+    public Builder withMaxCacheBytes(int maxCacheBytes) {
+      journalBuilder.withMaxCacheBytes(maxCacheBytes);
+      return this;
+    }
+
     /**
      * Enables flushing buffers to disk when entries are committed to a segment, returning the builder
      * for method chaining.
@@ -300,6 +332,88 @@ public class RaftLog extends DelegatingJournal<RaftLogEntry> {
       return this;
     }
 
+    /**
+     * Enables fast recovery, returning the builder for method chaining.
+     *
+     * @return The log builder.
+     */
+    public Builder withFastRecovery() {
+      return withFastRecovery(true);
+    }
+
+    /**
+     * Sets whether to enable fast recovery, returning the builder for method chaining.
+     * <p>
+     * When fast recovery is enabled, the index of each segment is persisted once the log rolls over to a new
+     * segment, and sealed segments are recovered from their persisted indexes rather than by scanning them.
+     *
+     * @param fastRecovery Whether to enable fast recovery.
+     * @return The log builder.
+     */
+    public Builder withFastRecovery(boolean fastRecovery) {
+      journalBuilder.withFastRecovery(fastRecovery);
+      return this;
+    }
+
+    /**
+     * Enables segment pre-allocation, returning the builder for method chaining.
+     *
+     * @return The log builder.
+     */
+    public Builder withPreallocateSegments() {
+      return withPreallocateSegments(true);
+    }
+
+    /**
+     * Sets whether to pre-allocate segments, returning the builder for method chaining.
+     * <p>
+     * When segment pre-allocation is enabled, the file for the next segment is created and sized in the background
+     * so the log can roll over to a new segment without creating files on the writing thread.
+     *
+     * @param preallocateSegments Whether to pre-allocate segments.
+     * @return The log builder.
+     */
+    public Builder withPreallocateSegments(boolean preallocateSegments) {
+      journalBuilder.withPreallocateSegments(preallocateSegments);
+      return this;
+    }
+
+    /**
+     * Sets the type of checksum used for entries in new log segments, returning the builder for method chaining.
+     *
+     * @param checksumType The checksum type.
+     * @return The log builder.
+     * @throws NullPointerException If the {@code checksumType} is {@code null}
+     */
+    public Builder withChecksumType(ChecksumType checksumType) {
+      journalBuilder.withChecksumType(checksumType);
+      return this;
+    }
+
+    /**
+     * Sets the type of compression used for entries in new log segments, returning the builder for method chaining.
+     *
+     * @param compressionType The compression type.
+     * @return The log builder.
+     * @throws NullPointerException If the {@code compressionType} is {@code null}
+     */
+    public Builder withCompressionType(CompressionType compressionType) {
+      journalBuilder.withCompressionType(compressionType);
+      return this;
+    }
+
+    /**
+     * Sets the minimum serialized size of entries to compress, returning the builder for method chaining.
+     *
+     * @param compressionThreshold The minimum serialized size of entries to compress.
+     * @return The log builder.
+     * @throws IllegalArgumentException If the {@code compressionThreshold} is negative
+     */
+    public Builder withCompressionThreshold(int compressionThreshold) {
+      journalBuilder.withCompressionThreshold(compressionThreshold);
+      return this;
+    }
+
     @Override
     public RaftLog build() {
       return new RaftLog(journalBuilder.build(), flushOnCommit);
@@ -41,6 +41,15 @@ public class RaftLogWriter extends DelegatingJournalWriter<RaftLogEntry> {
     writer.reset(index);
   }
 
+  /**
+   * Returns the number of bytes written to the log since it was last flushed to disk.
+   *
+   * @return the number of bytes written to the log since it was last flushed to disk
+   */
+  public long getUnflushedBytes() {
+    return writer.getUnflushedBytes();
+  }
+
   /**
    * Commits entries up to the given index.
    *
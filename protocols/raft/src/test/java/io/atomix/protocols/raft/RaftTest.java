@@ -47,6 +47,7 @@ import io.atomix.protocols.raft.cluster.RaftClusterEvent;
 import io.atomix.protocols.raft.cluster.RaftMember;
 import io.atomix.protocols.raft.cluster.impl.DefaultRaftMember;
 import io.atomix.protocols.raft.protocol.TestRaftProtocolFactory;
+import io.atomix.protocols.raft.proxy.CommunicationStrategy;
 import io.atomix.protocols.raft.storage.RaftStorage;
 import io.atomix.protocols.raft.storage.log.entry.CloseSessionEntry;
 import io.atomix.protocols.raft.storage.log.entry.CommandEntry;
@@ -136,6 +137,13 @@ public class RaftTest extends ConcurrentTestCase {
   protected volatile List<RaftServer> servers = new ArrayList<>();
   protected volatile TestRaftProtocolFactory protocolFactory;
   protected volatile ThreadContext context;
+  protected volatile int maxAppendsPerFollower = 2;
+  protected volatile int maxAppendBatchSize = 1024 * 32;
+  protected volatile int maxCommandBatchSize = 64;
+  protected volatile Duration commandBatchWindow = Duration.ZERO;
+  protected volatile Duration maxReadStaleness = Duration.ofSeconds(1);
+  protected volatile long maxReadLag = 1000;
+  protected volatile Duration maxFlushDelay = Duration.ZERO;
 
   /**
    * Tests getting session metadata.
@@ -190,6 +198,16 @@ public class RaftTest extends ConcurrentTestCase {
     testServerJoinLate(RaftMember.Type.PASSIVE, RaftServer.Role.PASSIVE);
   }
 
+  /**
+   * Tests joining a server after many entries have been committed with many small pipelined append requests.
+   */
+  @Test
+  public void testActiveJoinLateWithPipelinedAppends() throws Throwable {
+    maxAppendsPerFollower = 8;
+    maxAppendBatchSize = 128;
+    testServerJoinLate(RaftMember.Type.ACTIVE, RaftServer.Role.FOLLOWER);
+  }
+
   /**
    * Tests joining a server after many entries have been committed.
    */
@@ -464,6 +482,46 @@ public class RaftTest extends ConcurrentTestCase {
     await(30000);
   }
 
+  /**
+   * Tests submitting commands from many sessions that are batched by the leader.
+   */
+  @Test
+  public void testThreeNodeSubmitCommandsWithBatching() throws Throwable {
+    maxCommandBatchSize = 4;
+    commandBatchWindow = Duration.ofMillis(10);
+    createServers(3);
+
+    int sessions = 5;
+    List<TestPrimitive> primitives = new ArrayList<>();
+    for (int i = 0; i < sessions; i++) {
+      primitives.add(createPrimitive(createClient()));
+    }
+    primitives.forEach(primitive -> submit(primitive, 0, 20));
+    await(30000, sessions);
+  }
+
+  /**
+   * Tests submitting commands from many sessions to a leader that groups log flushes across commits.
+   */
+  @Test
+  public void testThreeNodeSubmitCommandsWithGroupCommit() throws Throwable {
+    maxFlushDelay = Duration.ofMillis(10);
+    createServers(3);
+
+    int sessions = 5;
+    List<TestPrimitive> primitives = new ArrayList<>();
+    for (int i = 0; i < sessions; i++) {
+      primitives.add(createPrimitive(createClient()));
+    }
+    primitives.forEach(primitive -> submit(primitive, 0, 20));
+    await(30000, sessions);
+
+    // Commits are only completed once flushed, so a linearizable read must observe all of them.
+    TestPrimitive primitive = primitives.get(0);
+    long index = primitive.write("Hello world!").get(5, TimeUnit.SECONDS);
+    assertTrue(primitive.read().get(5, TimeUnit.SECONDS) >= index);
+  }
+
   /**
    * Tests submitting a command.
    */
@@ -634,6 +692,88 @@ public class RaftTest extends ConcurrentTestCase {
     await(30000);
   }
 
+  /**
+   * Tests submitting linearizable queries to followers, which evaluate them locally using a read index
+   * obtained from the leader.
+   */
+  @Test
+  public void testThreeNodeSubmitQueryToFollowersWithLinearizableConsistency() throws Throwable {
+    createServers(3);
+
+    RaftClient client = createClient();
+    TestPrimitive primitive = createPrimitive(client, ReadConsistency.LINEARIZABLE, CommunicationStrategy.FOLLOWERS);
+    long index = primitive.write("Hello world!").get(5, TimeUnit.SECONDS);
+
+    // Allow the followers to learn the commit index so queries are not forwarded while they catch up.
+    Thread.sleep(1000);
+
+    int queries = 10;
+    for (int i = 0; i < queries; i++) {
+      primitive.read().whenComplete((result, error) -> {
+        threadAssertNull(error);
+        threadAssertTrue(result >= index);
+        resume();
+      });
+    }
+
+    await(30000, queries);
+    assertTrue(protocolFactory.readIndexRequests() > 0);
+    assertEquals(0, protocolFactory.forwardedQueries());
+  }
+
+  /**
+   * Tests that bounded staleness queries are served by followers that are within the staleness bound.
+   */
+  @Test
+  public void testThreeNodeSubmitQueryToFollowersWithBoundedStaleness() throws Throwable {
+    createServers(3);
+
+    RaftClient client = createClient();
+    TestPrimitive primitive = createPrimitive(client, ReadConsistency.BOUNDED_STALENESS, CommunicationStrategy.FOLLOWERS);
+    long index = primitive.write("Hello world!").get(5, TimeUnit.SECONDS);
+
+    // Allow the followers to learn the commit index so queries are not forwarded while they catch up.
+    Thread.sleep(1000);
+
+    int queries = 10;
+    for (int i = 0; i < queries; i++) {
+      primitive.read().whenComplete((result, error) -> {
+        threadAssertNull(error);
+        threadAssertTrue(result >= index);
+        resume();
+      });
+    }
+
+    await(30000, queries);
+    assertEquals(0, protocolFactory.forwardedQueries());
+  }
+
+  /**
+   * Tests that bounded staleness queries submitted to followers are forwarded to the leader once the followers'
+   * state is older than the maximum read staleness.
+   */
+  @Test
+  public void testThreeNodeSubmitStaleQueryToFollowersWithBoundedStaleness() throws Throwable {
+    maxReadStaleness = Duration.ZERO;
+    createServers(3);
+
+    RaftClient client = createClient();
+    TestPrimitive primitive = createPrimitive(client, ReadConsistency.BOUNDED_STALENESS, CommunicationStrategy.FOLLOWERS);
+    long index = primitive.write("Hello world!").get(5, TimeUnit.SECONDS);
+
+    // Allow the followers to learn the commit index so queries are only forwarded for staleness.
+    Thread.sleep(1000);
+
+    int queries = 10;
+    for (int i = 0; i < queries; i++) {
+      Thread.sleep(10);
+      assertTrue(primitive.read().get(5, TimeUnit.SECONDS) >= index);
+    }
+
+    // A query only stays local if it reaches a follower within the millisecond in which a heartbeat arrived.
+    assertTrue(protocolFactory.forwardedQueries() > 0);
+  }
+
   /**
    * Tests submitting a sequential event.
    */
@@ -1224,7 +1364,14 @@ public class RaftTest extends ConcurrentTestCase {
             .withSerializer(storageSerializer)
             .withMaxSegmentSize(1024 * 10)
             .withMaxEntriesPerSegment(10)
+            .withMaxFlushDelay(maxFlushDelay)
             .build())
+        .withMaxAppendsPerFollower(maxAppendsPerFollower)
+        .withMaxAppendBatchSize(maxAppendBatchSize)
+        .withMaxCommandBatchSize(maxCommandBatchSize)
+        .withCommandBatchWindow(commandBatchWindow)
+        .withMaxReadStaleness(maxReadStaleness)
+        .withMaxReadLag(maxReadLag)
         .addPrimitiveType(TestPrimitiveType.INSTANCE);
 
     RaftServer server = builder.build();
@@ -1259,8 +1406,16 @@ public class RaftTest extends ConcurrentTestCase {
    * Creates a test session.
    */
   private PartitionProxy createSession(RaftClient client, ReadConsistency consistency) throws Exception {
+    return createSession(client, consistency, CommunicationStrategy.LEADER);
+  }
+
+  /**
+   * Creates a test session.
+   */
+  private PartitionProxy createSession(RaftClient client, ReadConsistency consistency, CommunicationStrategy communicationStrategy) throws Exception {
     return client.proxyBuilder("test", TestPrimitiveType.INSTANCE, new ServiceConfig())
         .withReadConsistency(consistency)
+        .withCommunicationStrategy(communicationStrategy)
         .withMinTimeout(Duration.ofMillis(250))
         .withMaxTimeout(Duration.ofSeconds(5))
         .build()
@@ -1279,7 +1434,14 @@ public class RaftTest extends ConcurrentTestCase {
    * Creates a new primitive instance.
    */
   private TestPrimitive createPrimitive(RaftClient client, ReadConsistency consistency) throws Exception {
-    PartitionProxy partition = createSession(client, consistency);
+    return createPrimitive(client, consistency, CommunicationStrategy.LEADER);
+  }
+
+  /**
+   * Creates a new primitive instance.
+   */
+  private TestPrimitive createPrimitive(RaftClient client, ReadConsistency consistency, CommunicationStrategy communicationStrategy) throws Exception {
+    PartitionProxy partition = createSession(client, consistency, communicationStrategy);
     PrimitiveProxy proxy = mock(PrimitiveProxy.class);
     when(proxy.type()).thenReturn(TestPrimitiveType.INSTANCE);
     when(proxy.getPartitions()).thenReturn(Collections.singletonList(partition));
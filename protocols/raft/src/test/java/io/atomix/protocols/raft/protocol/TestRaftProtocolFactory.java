@@ -43,6 +43,24 @@ public class TestRaftProtocolFactory {
     return new TestRaftClientProtocol(memberId, servers, clients, context);
   }
 
+  /**
+   * Returns the number of queries forwarded between servers.
+   *
+   * @return the number of queries forwarded between servers
+   */
+  public int forwardedQueries() {
+    return servers.values().stream().mapToInt(TestRaftServerProtocol::forwardedQueries).sum();
+  }
+
+  /**
+   * Returns the number of read index requests sent between servers.
+   *
+   * @return the number of read index requests sent between servers
+   */
+  public int readIndexRequests() {
+    return servers.values().stream().mapToInt(TestRaftServerProtocol::readIndexRequests).sum();
+  }
+
   /**
    * Returns a new test server protocol.
    *
@@ -25,6 +25,7 @@ import java.net.ConnectException;
 import java.util.Map;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 
@@ -44,10 +45,13 @@ public class TestRaftServerProtocol extends TestRaftProtocol implements RaftServ
   private Function<ReconfigureRequest, CompletableFuture<ReconfigureResponse>> reconfigureHandler;
   private Function<InstallRequest, CompletableFuture<InstallResponse>> installHandler;
   private Function<TransferRequest, CompletableFuture<TransferResponse>> transferHandler;
+  private Function<ReadIndexRequest, CompletableFuture<ReadIndexResponse>> readIndexHandler;
   private Function<PollRequest, CompletableFuture<PollResponse>> pollHandler;
   private Function<VoteRequest, CompletableFuture<VoteResponse>> voteHandler;
   private Function<AppendRequest, CompletableFuture<AppendResponse>> appendHandler;
   private final Map<Long, Consumer<ResetRequest>> resetListeners = Maps.newConcurrentMap();
+  private final AtomicInteger forwardedQueries = new AtomicInteger();
+  private final AtomicInteger readIndexRequests = new AtomicInteger();
 
   public TestRaftServerProtocol(
       MemberId memberId,
@@ -58,6 +62,24 @@ public class TestRaftServerProtocol extends TestRaftProtocol implements RaftServ
     servers.put(memberId, this);
   }
 
+  /**
+   * Returns the number of queries this server has forwarded to other servers.
+   *
+   * @return the number of queries this server has forwarded to other servers
+   */
+  public int forwardedQueries() {
+    return forwardedQueries.get();
+  }
+
+  /**
+   * Returns the number of read index requests this server has sent to other servers.
+   *
+   * @return the number of read index requests this server has sent to other servers
+   */
+  public int readIndexRequests() {
+    return readIndexRequests.get();
+  }
+
   private CompletableFuture<TestRaftServerProtocol> getServer(MemberId memberId) {
     TestRaftServerProtocol server = server(memberId);
     if (server != null) {
@@ -93,6 +115,7 @@ public class TestRaftServerProtocol extends TestRaftProtocol implements RaftServ
 
   @Override
   public CompletableFuture<QueryResponse> query(MemberId memberId, QueryRequest request) {
+    forwardedQueries.incrementAndGet();
     return scheduleTimeout(getServer(memberId).thenCompose(listener -> listener.query(request)));
   }
 
@@ -136,6 +159,12 @@ public class TestRaftServerProtocol extends TestRaftProtocol implements RaftServ
     return scheduleTimeout(getServer(memberId).thenCompose(listener -> listener.transfer(request)));
   }
 
+  @Override
+  public CompletableFuture<ReadIndexResponse> readIndex(MemberId memberId, ReadIndexRequest request) {
+    readIndexRequests.incrementAndGet();
+    return scheduleTimeout(getServer(memberId).thenCompose(listener -> listener.readIndex(request)));
+  }
+
   @Override
   public CompletableFuture<PollResponse> poll(MemberId memberId, PollRequest request) {
     return scheduleTimeout(getServer(memberId).thenCompose(listener -> listener.poll(request)));
@@ -377,6 +406,24 @@ public class TestRaftServerProtocol extends TestRaftProtocol implements RaftServ
     this.transferHandler = null;
   }
 
+  CompletableFuture<ReadIndexResponse> readIndex(ReadIndexRequest request) {
+    if (readIndexHandler != null) {
+      return readIndexHandler.apply(request);
+    } else {
+      return Futures.exceptionalFuture(new ConnectException());
+    }
+  }
+
+  @Override
+  public void registerReadIndexHandler(Function<ReadIndexRequest, CompletableFuture<ReadIndexResponse>> handler) {
+    this.readIndexHandler = handler;
+  }
+
+  @Override
+  public void unregisterReadIndexHandler() {
+    this.readIndexHandler = null;
+  }
+
   CompletableFuture<PollResponse> poll(PollRequest request) {
     if (pollHandler != null) {
       return pollHandler.apply(request);
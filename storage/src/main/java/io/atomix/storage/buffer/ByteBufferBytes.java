@@ -114,9 +114,9 @@ public abstract class ByteBufferBytes extends AbstractBytes {
 
   @Override
   public Bytes read(int position, byte[] bytes, int offset, int length) {
-    for (int i = 0; i < length; i++) {
-      bytes[index(offset) + i] = (byte) readByte(position + i);
-    }
+    ByteBuffer duplicate = buffer.duplicate();
+    duplicate.position(index(position));
+    duplicate.get(bytes, index(offset), length);
     return this;
   }
 
@@ -130,9 +130,9 @@ public abstract class ByteBufferBytes extends AbstractBytes {
 
   @Override
   public Bytes write(int position, byte[] bytes, int offset, int length) {
-    for (int i = 0; i < length; i++) {
-      buffer.put((int) position + i, (byte) bytes[index(offset) + i]);
-    }
+    ByteBuffer duplicate = buffer.duplicate();
+    duplicate.position(index(position));
+    duplicate.put(bytes, index(offset), length);
     return this;
   }
 
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2018-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import java.nio.ByteBuffer;
+import java.util.zip.Checksum;
+
+/**
+ * Journal entry checksum type.
+ * <p>
+ * The checksum type is recorded in the {@link JournalSegmentDescriptor} of each segment, so segments written with
+ * different checksum types can be read from the same journal.
+ */
+public enum ChecksumType {
+
+  /**
+   * CRC-32 checksums computed with {@link java.util.zip.CRC32}.
+   */
+  CRC32(0) {
+    @Override
+    public Checksum newChecksum() {
+      return new java.util.zip.CRC32();
+    }
+
+    @Override
+    void update(Checksum checksum, ByteBuffer buffer) {
+      ((java.util.zip.CRC32) checksum).update(buffer);
+    }
+  },
+
+  /**
+   * CRC-32C (Castagnoli) checksums.
+   * <p>
+   * On Java 9 and later, checksums are computed with the hardware accelerated {@code java.util.zip.CRC32C}.
+   * On earlier runtimes a table driven implementation is used, which is slower than {@link #CRC32}.
+   */
+  CRC32C(1) {
+    @Override
+    public Checksum newChecksum() {
+      return new Crc32c();
+    }
+
+    @Override
+    void update(Checksum checksum, ByteBuffer buffer) {
+      ((Crc32c) checksum).update(buffer);
+    }
+  };
+
+  private final int id;
+
+  ChecksumType(int id) {
+    this.id = id;
+  }
+
+  /**
+   * Returns the checksum type identifier stored in segment descriptors.
+   *
+   * @return the checksum type identifier
+   */
+  public int id() {
+    return id;
+  }
+
+  /**
+   * Creates a new checksum instance.
+   *
+   * @return a new checksum instance
+   */
+  public abstract Checksum newChecksum();
+
+  /**
+   * Updates a checksum created by this type with the remaining bytes in the given buffer.
+   * <p>
+   * Direct buffers such as memory mapped segments are checksummed in place without copying.
+   *
+   * @param checksum the checksum to update
+   * @param buffer   the buffer with which to update the checksum
+   */
+  abstract void update(Checksum checksum, ByteBuffer buffer);
+
+  /**
+   * Returns the checksum type for the given identifier.
+   *
+   * @param id the checksum type identifier
+   * @return the checksum type
+   * @throws IllegalArgumentException if the identifier is unknown
+   */
+  public static ChecksumType forId(int id) {
+    for (ChecksumType type : values()) {
+      if (type.id == id) {
+        return type;
+      }
+    }
+    throw new IllegalArgumentException("Unknown checksum type: " + id);
+  }
+}
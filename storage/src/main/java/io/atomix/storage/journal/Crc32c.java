@@ -0,0 +1,134 @@
+/*
+ * Copyright 2018-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.nio.ByteBuffer;
+import java.util.zip.Checksum;
+
+/**
+ * CRC-32C checksum.
+ * <p>
+ * Delegates to {@code java.util.zip.CRC32C} when it's available on the runtime and otherwise computes the checksum
+ * with a lookup table.
+ */
+final class Crc32c implements Checksum {
+  private static final int POLYNOMIAL = 0x82F63B78;
+  private static final int[] TABLE = new int[256];
+  private static final Class<?> JDK_CRC32C;
+  private static final MethodHandle UPDATE_BUFFER;
+
+  static {
+    for (int i = 0; i < TABLE.length; i++) {
+      int crc = i;
+      for (int j = 0; j < 8; j++) {
+        crc = (crc & 1) != 0 ? (crc >>> 1) ^ POLYNOMIAL : crc >>> 1;
+      }
+      TABLE[i] = crc;
+    }
+
+    Class<?> type;
+    MethodHandle update;
+    try {
+      type = Class.forName("java.util.zip.CRC32C");
+      update = MethodHandles.publicLookup()
+          .findVirtual(Checksum.class, "update", MethodType.methodType(void.class, ByteBuffer.class));
+    } catch (ClassNotFoundException | NoSuchMethodException | IllegalAccessException e) {
+      type = null;
+      update = null;
+    }
+    JDK_CRC32C = type;
+    UPDATE_BUFFER = update;
+  }
+
+  private final Checksum delegate;
+  private int crc = 0xFFFFFFFF;
+
+  Crc32c() {
+    this.delegate = newDelegate();
+  }
+
+  private static Checksum newDelegate() {
+    if (JDK_CRC32C == null) {
+      return null;
+    }
+    try {
+      return (Checksum) JDK_CRC32C.getConstructor().newInstance();
+    } catch (ReflectiveOperationException e) {
+      return null;
+    }
+  }
+
+  @Override
+  public void update(int b) {
+    if (delegate != null) {
+      delegate.update(b);
+    } else {
+      crc = (crc >>> 8) ^ TABLE[(crc ^ b) & 0xFF];
+    }
+  }
+
+  @Override
+  public void update(byte[] bytes, int offset, int length) {
+    if (delegate != null) {
+      delegate.update(bytes, offset, length);
+    } else {
+      int crc = this.crc;
+      for (int i = offset; i < offset + length; i++) {
+        crc = (crc >>> 8) ^ TABLE[(crc ^ bytes[i]) & 0xFF];
+      }
+      this.crc = crc;
+    }
+  }
+
+  /**
+   * Updates the checksum with the remaining bytes in the given buffer.
+   *
+   * @param buffer the buffer with which to update the checksum
+   */
+  public void update(ByteBuffer buffer) {
+    if (delegate != null && buffer.isDirect()) {
+      try {
+        UPDATE_BUFFER.invokeExact(delegate, buffer);
+      } catch (Throwable e) {
+        throw new IllegalStateException(e);
+      }
+    } else if (buffer.hasArray()) {
+      update(buffer.array(), buffer.arrayOffset() + buffer.position(), buffer.remaining());
+      buffer.position(buffer.limit());
+    } else {
+      while (buffer.hasRemaining()) {
+        update(buffer.get());
+      }
+    }
+  }
+
+  @Override
+  public long getValue() {
+    return delegate != null ? delegate.getValue() : ~crc & 0xFFFFFFFFL;
+  }
+
+  @Override
+  public void reset() {
+    if (delegate != null) {
+      delegate.reset();
+    } else {
+      crc = 0xFFFFFFFF;
+    }
+  }
+}
@@ -15,20 +15,66 @@
  */
 package io.atomix.storage.journal;
 
+import io.atomix.utils.serializer.Serializer;
+
+import java.nio.ByteBuffer;
+
 import static com.google.common.base.MoreObjects.toStringHelper;
 
 /**
  * Indexed journal entry.
+ * <p>
+ * Entries read from a journal segment may be decoded lazily. The raw entry bytes are retained until the entry
+ * is first requested via {@link #entry()}, allowing readers to skip over entries or inspect their index and size
+ * without paying the cost of deserialization. Entries read from compressed segments are likewise only decompressed
+ * when their bytes or entry are first requested. The serialized bytes remain available via {@link #bytes()} so
+ * entries can be copied elsewhere, e.g. replicated, without being decoded at all.
+ * <p>
+ * Entries read from a segment hold a private copy of the stored bytes, so they remain valid after the segment is
+ * truncated, compacted or closed.
  */
 public class Indexed<E> {
   private final long index;
-  private final E entry;
+  private volatile E entry;
   private final int size;
+  private final ByteBuffer bytes;
+  private volatile ByteBuffer serializedBytes;
+  private final Serializer serializer;
 
   public Indexed(long index, E entry, int size) {
     this.index = index;
     this.entry = entry;
     this.size = size;
+    this.bytes = null;
+    this.serializer = null;
+  }
+
+  /**
+   * Creates a lazily decoded entry.
+   *
+   * @param index the entry index
+   * @param bytes the serialized entry bytes
+   * @param serializer the serializer with which to decode the entry
+   */
+  Indexed(long index, byte[] bytes, Serializer serializer) {
+    this(index, ByteBuffer.wrap(bytes), bytes.length, false, serializer);
+  }
+
+  /**
+   * Creates a lazily decoded entry.
+   *
+   * @param index the entry index
+   * @param bytes the entry bytes as stored in the segment
+   * @param size the size of the entry as stored in the segment
+   * @param compressed whether the stored bytes are in the {@link JournalSegmentCompressor} format
+   * @param serializer the serializer with which to decode the entry
+   */
+  Indexed(long index, ByteBuffer bytes, int size, boolean compressed, Serializer serializer) {
+    this.index = index;
+    this.size = size;
+    this.bytes = bytes;
+    this.serializedBytes = compressed ? null : bytes;
+    this.serializer = serializer;
   }
 
   /**
@@ -46,11 +92,42 @@ public class Indexed<E> {
    * @return The indexed entry.
    */
   public E entry() {
+    E entry = this.entry;
+    if (entry == null && bytes != null) {
+      entry = serializer.decode(serializedBytes().duplicate());
+      this.entry = entry;
+    }
     return entry;
   }
 
+  /**
+   * Returns the serialized entry bytes.
+   * <p>
+   * Serialized bytes are only available for entries read from a journal segment. Entries that were appended by a
+   * writer or stored in the segment cache return {@code null} and must be encoded by the caller if needed.
+   *
+   * @return a read-only buffer of the serialized entry bytes or {@code null} if the entry was not read from a segment
+   */
+  public ByteBuffer bytes() {
+    return bytes != null ? serializedBytes().asReadOnlyBuffer() : null;
+  }
+
+  /**
+   * Returns the serialized entry bytes, decompressing the stored bytes if necessary.
+   */
+  private ByteBuffer serializedBytes() {
+    ByteBuffer serializedBytes = this.serializedBytes;
+    if (serializedBytes == null) {
+      serializedBytes = JournalSegmentCompressor.decompress(bytes);
+      this.serializedBytes = serializedBytes;
+    }
+    return serializedBytes;
+  }
+
   /**
    * Returns the serialized entry size.
+   * <p>
+   * For entries in compressed segments, this is the size of the entry as stored in the segment.
    *
    * @return The serialized entry size.
    */
@@ -64,7 +141,7 @@ public class Indexed<E> {
    * @return The entry class.
    */
   public Class<?> type() {
-    return entry.getClass();
+    return entry().getClass();
   }
 
   /**
@@ -81,7 +158,7 @@ public class Indexed<E> {
   public String toString() {
     return toStringHelper(this)
         .add("index", index)
-        .add("entry", entry)
+        .add("entry", entry())
         .toString();
   }
 }
\ No newline at end of file
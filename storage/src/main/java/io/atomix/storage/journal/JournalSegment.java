@@ -16,8 +16,7 @@
 package io.atomix.storage.journal;
 
 import io.atomix.utils.serializer.Serializer;
-import io.atomix.storage.journal.index.JournalIndex;
-import io.atomix.storage.journal.index.SparseJournalIndex;
+import io.atomix.storage.journal.index.DenseJournalIndex;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
 import static com.google.common.base.Preconditions.checkState;
@@ -32,19 +31,32 @@ public class JournalSegment<E> implements AutoCloseable {
 
   protected final JournalSegmentFile file;
   protected final JournalSegmentDescriptor descriptor;
-  protected final JournalIndex index;
+  protected final DenseJournalIndex index;
   protected final Serializer serializer;
   private final JournalSegmentWriter<E> writer;
   private final JournalSegmentCache cache;
   private boolean open = true;
 
   public JournalSegment(JournalSegmentFile file, JournalSegmentDescriptor descriptor, double indexDensity, int cacheSize, Serializer serializer) {
+    this(file, descriptor, indexDensity, cacheSize, Integer.MAX_VALUE, serializer, false, JournalSegmentCompressor.DEFAULT_THRESHOLD);
+  }
+
+  public JournalSegment(
+      JournalSegmentFile file,
+      JournalSegmentDescriptor descriptor,
+      double indexDensity,
+      int cacheSize,
+      int maxCacheBytes,
+      Serializer serializer,
+      boolean fastRecovery,
+      int compressionThreshold) {
     this.file = file;
     this.descriptor = descriptor;
-    this.index = new SparseJournalIndex(indexDensity);
+    this.index = new DenseJournalIndex(indexDensity);
     this.serializer = serializer;
-    this.cache = new JournalSegmentCache(descriptor.index(), cacheSize);
-    this.writer = new JournalSegmentWriter<>(descriptor, cache, index, serializer);
+    this.cache = new JournalSegmentCache(descriptor.index(), cacheSize, maxCacheBytes);
+    this.writer = new JournalSegmentWriter<>(descriptor, cache, index, fastRecovery ? file.indexFile() : null,
+        compressionThreshold, serializer);
   }
 
   /**
@@ -157,6 +169,15 @@ public class JournalSegment<E> implements AutoCloseable {
     return new JournalSegmentReader<>(descriptor, cache, index, serializer);
   }
 
+  /**
+   * Returns the segment entry cache.
+   *
+   * @return The segment entry cache.
+   */
+  JournalSegmentCache cache() {
+    return cache;
+  }
+
   /**
    * Checks whether the segment is open.
    */
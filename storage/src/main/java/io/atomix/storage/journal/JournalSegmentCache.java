@@ -15,36 +15,81 @@
  */
 package io.atomix.storage.journal;
 
-import java.util.HashMap;
-import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
 
 import static com.google.common.base.MoreObjects.toStringHelper;
 
 /**
  * Journal segment cache.
+ * <p>
+ * The cache stores the most recently written entries in the segment in a power-of-two sized ring buffer indexed
+ * by the entry index. The cache is bounded both by the number of entries and by the total serialized size of the
+ * cached entries, evicting the oldest entries first.
  */
 class JournalSegmentCache {
-  private final int size;
-  private final Map<Long, Indexed> entries;
+  private static final int MAX_CAPACITY = 1 << 30;
+
+  private final int maxEntries;
+  private final long maxBytes;
+  private final Indexed[] entries;
+  private final int mask;
   private long firstIndex;
+  private long nextIndex;
+  private long bytes;
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
 
-  JournalSegmentCache(long index, int size) {
-    this.size = size;
-    this.entries = new HashMap<>(size);
+  JournalSegmentCache(long index, int size, long maxBytes) {
+    int capacity = capacity(size);
+    this.maxEntries = Math.min(size, capacity);
+    this.maxBytes = maxBytes;
+    this.entries = new Indexed[capacity];
+    this.mask = capacity - 1;
     this.firstIndex = index;
+    this.nextIndex = index;
+  }
+
+  /**
+   * Returns the ring buffer capacity for the given cache size.
+   * <p>
+   * The capacity is the smallest power of two that can hold the given number of entries, bounded by the largest
+   * power of two array size.
+   *
+   * @param size the maximum number of entries to cache
+   * @return the ring buffer capacity
+   */
+  static int capacity(int size) {
+    if (size > MAX_CAPACITY) {
+      return MAX_CAPACITY;
+    }
+    return size > 1 ? Integer.highestOneBit(size - 1) << 1 : size;
   }
 
   /**
    * Adds an entry to the cache.
+   * <p>
+   * If the entry does not immediately follow the last cached entry, the cache is cleared before the entry is added.
    *
    * @param indexed the entry to add to the cache
    */
   public void put(Indexed indexed) {
-    if (indexed.index() == firstIndex + entries.size()) {
-      entries.put(indexed.index(), indexed);
+    if (maxEntries == 0) {
+      return;
     }
-    if (entries.size() > size) {
-      entries.remove(firstIndex);
+
+    if (indexed.index() != nextIndex) {
+      clear(indexed.index());
+    }
+
+    entries[(int) (nextIndex & mask)] = indexed;
+    bytes += indexed.size();
+    nextIndex++;
+
+    // Evict the oldest entries until the cache is within its bounds.
+    while (firstIndex < nextIndex && (nextIndex - firstIndex > maxEntries || bytes > maxBytes)) {
+      int slot = (int) (firstIndex & mask);
+      bytes -= entries[slot].size();
+      entries[slot] = null;
       firstIndex++;
     }
   }
@@ -56,7 +101,15 @@ class JournalSegmentCache {
    * @return the indexed entry
    */
   public Indexed get(long index) {
-    return entries.get(index);
+    if (index >= firstIndex && index < nextIndex) {
+      Indexed indexed = entries[(int) (index & mask)];
+      if (indexed != null && indexed.index() == index) {
+        hits.increment();
+        return indexed;
+      }
+    }
+    misses.increment();
+    return null;
   }
 
   /**
@@ -66,20 +119,54 @@ class JournalSegmentCache {
    */
   public void truncate(long index) {
     if (index < firstIndex) {
-      firstIndex = index + 1;
-      entries.clear();
+      clear(index + 1);
     } else {
-      int size = entries.size();
-      for (long i = index + 1; i < firstIndex + size; i++) {
-        entries.remove(i);
+      while (nextIndex > index + 1) {
+        nextIndex--;
+        int slot = (int) (nextIndex & mask);
+        bytes -= entries[slot].size();
+        entries[slot] = null;
       }
     }
   }
 
+  /**
+   * Clears the cache, resetting the next cached index to the given index.
+   */
+  private void clear(long index) {
+    for (long i = firstIndex; i < nextIndex; i++) {
+      entries[(int) (i & mask)] = null;
+    }
+    firstIndex = index;
+    nextIndex = index;
+    bytes = 0;
+  }
+
+  /**
+   * Returns the number of lookups that were served from the cache.
+   *
+   * @return the number of cache hits
+   */
+  public long hitCount() {
+    return hits.sum();
+  }
+
+  /**
+   * Returns the number of lookups that were not served from the cache.
+   *
+   * @return the number of cache misses
+   */
+  public long missCount() {
+    return misses.sum();
+  }
+
   @Override
   public String toString() {
     return toStringHelper(this)
-        .add("size", size)
+        .add("size", maxEntries)
+        .add("maxBytes", maxBytes)
+        .add("hits", hitCount())
+        .add("misses", missCount())
         .toString();
   }
 }
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2018-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import io.atomix.storage.StorageException;
+
+import java.nio.ByteBuffer;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+/**
+ * Journal segment entry compressor.
+ * <p>
+ * Compressed entries are stored as a single flag byte followed by the entry bytes. If the flag is {@code 1}, the
+ * entry bytes are the 32-bit uncompressed length of the entry followed by the compressed entry. Otherwise, the
+ * entry bytes are the serialized entry.
+ */
+class JournalSegmentCompressor {
+  static final int DEFAULT_THRESHOLD = 256;
+
+  private static final byte UNCOMPRESSED = 0;
+  private static final byte COMPRESSED = 1;
+  private static final int HEADER_SIZE = 1 + Integer.BYTES;
+
+  private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+
+  private final CompressionType type;
+  private final int threshold;
+  private Deflater deflater;
+  private ByteBuffer buffer = ByteBuffer.allocate(1024 * 4);
+
+  JournalSegmentCompressor(CompressionType type) {
+    this(type, DEFAULT_THRESHOLD);
+  }
+
+  JournalSegmentCompressor(CompressionType type, int threshold) {
+    this.type = type;
+    this.threshold = threshold;
+  }
+
+  /**
+   * Returns a boolean indicating whether entries are compressed.
+   *
+   * @return indicates whether entries are compressed
+   */
+  boolean isEnabled() {
+    return type != CompressionType.NONE;
+  }
+
+  /**
+   * Compresses the given entry bytes.
+   * <p>
+   * The returned buffer is reused by subsequent calls to this method.
+   *
+   * @param bytes the serialized entry bytes
+   * @param length the length of the serialized entry
+   * @return a buffer containing the bytes to store for the entry
+   */
+  ByteBuffer compress(byte[] bytes, int length) {
+    // Entries no larger than the compressed entry header can never be stored more compactly.
+    if (length > HEADER_SIZE && length >= threshold) {
+      if (deflater == null) {
+        deflater = new Deflater(Deflater.BEST_SPEED);
+      }
+      deflater.reset();
+      deflater.setInput(bytes, 0, length);
+      deflater.finish();
+
+      // Only store the compressed bytes if they're smaller than the uncompressed bytes.
+      ensureCapacity(HEADER_SIZE + length);
+      int compressedLength = deflater.deflate(buffer.array(), HEADER_SIZE, length - HEADER_SIZE);
+      if (deflater.finished() && compressedLength < length - HEADER_SIZE) {
+        buffer.clear();
+        buffer.put(COMPRESSED).putInt(length);
+        buffer.position(HEADER_SIZE + compressedLength);
+        buffer.flip();
+        return buffer;
+      }
+    }
+
+    ensureCapacity(1 + length);
+    buffer.clear();
+    buffer.put(UNCOMPRESSED).put(bytes, 0, length);
+    buffer.flip();
+    return buffer;
+  }
+
+  /**
+   * Decompresses the given stored entry bytes.
+   * <p>
+   * Entries may be decompressed lazily after the reader that read them has been closed, so decompression uses a
+   * per-thread {@link Inflater} rather than one owned by a reader.
+   *
+   * @param bytes the stored entry bytes
+   * @return a buffer containing the serialized entry
+   */
+  static ByteBuffer decompress(ByteBuffer bytes) {
+    final ByteBuffer input = bytes.duplicate();
+    if (input.get() == UNCOMPRESSED) {
+      return input.slice();
+    }
+
+    Inflater inflater = INFLATER.get();
+    int length = input.getInt();
+    byte[] entry = new byte[length];
+    inflater.reset();
+    if (input.hasArray()) {
+      inflater.setInput(input.array(), input.arrayOffset() + input.position(), input.remaining());
+    } else {
+      byte[] compressed = new byte[input.remaining()];
+      input.get(compressed);
+      inflater.setInput(compressed);
+    }
+    try {
+      if (inflater.inflate(entry) != length) {
+        throw new StorageException("Failed to decompress entry");
+      }
+    } catch (DataFormatException e) {
+      throw new StorageException(e);
+    }
+    return ByteBuffer.wrap(entry);
+  }
+
+  private void ensureCapacity(int capacity) {
+    if (buffer.capacity() < capacity) {
+      buffer = ByteBuffer.allocate(Math.max(capacity, buffer.capacity() * 2));
+    }
+  }
+
+  /**
+   * Releases the compressor's native resources.
+   */
+  void close() {
+    if (deflater != null) {
+      deflater.end();
+    }
+  }
+}
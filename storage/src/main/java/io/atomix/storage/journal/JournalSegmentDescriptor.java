@@ -49,6 +49,12 @@ import static com.google.common.base.Preconditions.checkNotNull;
  * <li>{@code locked} (8-bit boolean) - A boolean indicating whether the segment is locked. Segments will be locked once
  * all entries have been committed to the segment. The lock state of each segment is used to determine log compaction
  * and recovery behavior.</li>
+ * <li>{@code checksum} (8-bit signed integer) - The {@link ChecksumType} used to checksum entries in the segment.
+ * This field was added in version {@code 2} of the descriptor; segments written with version {@code 1} use
+ * {@link ChecksumType#CRC32} checksums.</li>
+ * <li>{@code compression} (8-bit signed integer) - The {@link CompressionType} used to compress entries in the
+ * segment. This field was added in version {@code 2} of the descriptor; segments written with version {@code 1} are
+ * not compressed.</li>
  * </ul>
  * The remainder of the 64 segment header bytes are reserved for future metadata.
  *
@@ -59,7 +65,7 @@ public final class JournalSegmentDescriptor implements AutoCloseable {
 
   // Current segment version.
   @VisibleForTesting
-  static final int VERSION = 1;
+  static final int VERSION = 2;
 
   // The lengths of each field in the header.
   private static final int VERSION_LENGTH = Bytes.INTEGER;     // 32-bit signed integer
@@ -68,6 +74,7 @@ public final class JournalSegmentDescriptor implements AutoCloseable {
   private static final int MAX_SIZE_LENGTH = Bytes.INTEGER;    // 32-bit signed integer
   private static final int MAX_ENTRIES_LENGTH = Bytes.INTEGER; // 32-bit signed integer
   private static final int UPDATED_LENGTH = Bytes.LONG;        // 64-bit signed integer
+  private static final int LOCKED_LENGTH = Bytes.BOOLEAN;      // 8-bit boolean
 
   // The positions of each field in the header.
   private static final int VERSION_POSITION = 0;                                         // 0
@@ -76,6 +83,9 @@ public final class JournalSegmentDescriptor implements AutoCloseable {
   private static final int MAX_SIZE_POSITION = INDEX_POSITION + INDEX_LENGTH;            // 20
   private static final int MAX_ENTRIES_POSITION = MAX_SIZE_POSITION + MAX_SIZE_LENGTH;   // 24
   private static final int UPDATED_POSITION = MAX_ENTRIES_POSITION + MAX_ENTRIES_LENGTH; // 28
+  private static final int LOCKED_POSITION = UPDATED_POSITION + UPDATED_LENGTH;          // 36
+  private static final int CHECKSUM_POSITION = LOCKED_POSITION + LOCKED_LENGTH;          // 37
+  private static final int COMPRESSION_POSITION = CHECKSUM_POSITION + Bytes.BYTE;        // 38
 
   /**
    * Returns a descriptor builder.
@@ -107,6 +117,8 @@ public final class JournalSegmentDescriptor implements AutoCloseable {
   private final int maxEntries;
   private volatile long updated;
   private volatile boolean locked;
+  private final ChecksumType checksumType;
+  private final CompressionType compressionType;
 
   /**
    * @throws NullPointerException if {@code buffer} is null
@@ -120,6 +132,8 @@ public final class JournalSegmentDescriptor implements AutoCloseable {
     this.maxEntries = buffer.readInt();
     this.updated = buffer.readLong();
     this.locked = buffer.readBoolean();
+    this.checksumType = version >= 2 ? ChecksumType.forId(buffer.readByte()) : ChecksumType.CRC32;
+    this.compressionType = version >= 2 ? CompressionType.forId(buffer.readByte()) : CompressionType.NONE;
     buffer.skip(BYTES - buffer.position()); // 64 bytes reserved for the header
   }
 
@@ -185,6 +199,24 @@ public final class JournalSegmentDescriptor implements AutoCloseable {
     return maxEntries;
   }
 
+  /**
+   * Returns the type of checksum used for entries in the segment.
+   *
+   * @return The type of checksum used for entries in the segment.
+   */
+  public ChecksumType checksumType() {
+    return checksumType;
+  }
+
+  /**
+   * Returns the type of compression used for entries in the segment.
+   *
+   * @return The type of compression used for entries in the segment.
+   */
+  public CompressionType compressionType() {
+    return compressionType;
+  }
+
   /**
    * Returns last time the segment was updated.
    * <p>
@@ -220,6 +252,8 @@ public final class JournalSegmentDescriptor implements AutoCloseable {
         .writeInt(maxEntries)
         .writeLong(updated)
         .writeBoolean(locked)
+        .writeByte(checksumType.id())
+        .writeByte(compressionType.id())
         .skip(BYTES - buffer.position())
         .flush();
     return this;
@@ -248,6 +282,8 @@ public final class JournalSegmentDescriptor implements AutoCloseable {
         .add("id", id)
         .add("index", index)
         .add("updated", updated)
+        .add("checksum", checksumType)
+        .add("compression", compressionType)
         .toString();
   }
 
@@ -306,6 +342,28 @@ public final class JournalSegmentDescriptor implements AutoCloseable {
       return this;
     }
 
+    /**
+     * Sets the type of checksum used for entries in the segment.
+     *
+     * @param checksumType The checksum type.
+     * @return The segment descriptor builder.
+     */
+    public Builder withChecksumType(ChecksumType checksumType) {
+      buffer.writeByte(CHECKSUM_POSITION, checkNotNull(checksumType, "checksumType cannot be null").id());
+      return this;
+    }
+
+    /**
+     * Sets the type of compression used for entries in the segment.
+     *
+     * @param compressionType The compression type.
+     * @return The segment descriptor builder.
+     */
+    public Builder withCompressionType(CompressionType compressionType) {
+      buffer.writeByte(COMPRESSION_POSITION, checkNotNull(compressionType, "compressionType cannot be null").id());
+      return this;
+    }
+
     /**
      * Builds the segment descriptor.
      *
@@ -28,6 +28,8 @@ public final class JournalSegmentFile {
   private static final char PART_SEPARATOR = '-';
   private static final char EXTENSION_SEPARATOR = '.';
   private static final String EXTENSION = "log";
+  private static final String INDEX_EXTENSION = "index";
+  private static final String PREALLOCATED_EXTENSION = "tmp";
   private final File file;
 
   /**
@@ -69,6 +71,19 @@ public final class JournalSegmentFile {
     return fileName.startsWith(journalName);
   }
 
+  /**
+   * Returns a boolean value indicating whether the given file appears to be a segment index file.
+   *
+   * @param journalName the name of the journal
+   * @param file the file to check
+   * @throws NullPointerException if {@code file} is null
+   */
+  public static boolean isIndexFile(String journalName, File file) {
+    checkNotNull(journalName, "journalName cannot be null");
+    String fileName = checkNotNull(file, "file cannot be null").getName();
+    return fileName.startsWith(journalName) && fileName.endsWith(EXTENSION_SEPARATOR + INDEX_EXTENSION);
+  }
+
   /**
    * Creates a segment file for the given directory, log name, segment ID, and segment version.
    */
@@ -76,6 +91,13 @@ public final class JournalSegmentFile {
     return new File(directory, String.format("%s-%d.log", checkNotNull(name, "name cannot be null"), id));
   }
 
+  /**
+   * Creates a file for a pre-allocated segment for the given directory and log name.
+   */
+  static File createPreallocatedFile(String name, File directory) {
+    return new File(directory, String.format("%s.%s.%s", checkNotNull(name, "name cannot be null"), EXTENSION, PREALLOCATED_EXTENSION));
+  }
+
   /**
    * @throws IllegalArgumentException if {@code file} is not a valid segment file
    */
@@ -91,4 +113,19 @@ public final class JournalSegmentFile {
   public File file() {
     return file;
   }
+
+  /**
+   * Returns the index file for the segment.
+   * <p>
+   * The index file is stored alongside the segment file and is used to recover sealed segments without
+   * scanning their entries.
+   *
+   * @return The segment index file.
+   */
+  public File indexFile() {
+    String fileName = file.getName();
+    int extensionSeparator = fileName.lastIndexOf(EXTENSION_SEPARATOR);
+    String baseName = extensionSeparator == -1 ? fileName : fileName.substring(0, extensionSeparator);
+    return new File(file.getParentFile(), baseName + EXTENSION_SEPARATOR + INDEX_EXTENSION);
+  }
 }
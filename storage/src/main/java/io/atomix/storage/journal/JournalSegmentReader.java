@@ -18,13 +18,12 @@ package io.atomix.storage.journal;
 import io.atomix.utils.serializer.Serializer;
 import io.atomix.storage.buffer.Buffer;
 import io.atomix.storage.buffer.Bytes;
-import io.atomix.storage.buffer.HeapBuffer;
 import io.atomix.storage.journal.index.JournalIndex;
 import io.atomix.storage.journal.index.Position;
 
 import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
 import java.util.NoSuchElementException;
-import java.util.zip.CRC32;
 import java.util.zip.Checksum;
 
 /**
@@ -37,7 +36,9 @@ public class JournalSegmentReader<E> implements JournalReader<E> {
   private final JournalSegmentCache cache;
   private final JournalIndex index;
   private final Serializer serializer;
-  private final HeapBuffer memory = HeapBuffer.allocate();
+  private final ChecksumType checksumType;
+  private final Checksum checksum;
+  private final boolean compressed;
   private final long firstIndex;
   private Indexed<E> currentEntry;
   private Indexed<E> nextEntry;
@@ -48,6 +49,9 @@ public class JournalSegmentReader<E> implements JournalReader<E> {
     this.index = index;
     this.serializer = serializer;
     this.firstIndex = descriptor.index();
+    this.checksumType = descriptor.checksumType();
+    this.checksum = checksumType.newChecksum();
+    this.compressed = descriptor.compressionType() != CompressionType.NONE;
     readNext();
   }
 
@@ -148,18 +152,16 @@ public class JournalSegmentReader<E> implements JournalReader<E> {
       // Read the checksum of the entry.
       long checksum = buffer.readUnsignedInt();
 
-      // Read the entry into memory.
-      buffer.read(memory.clear().limit(length));
-      memory.flip();
+      // Read the entry bytes. The bytes are retained by the entry and only decoded when the entry is requested.
+      final ByteBuffer bytes = readBytes(length);
 
       // Compute the checksum for the entry bytes.
-      final Checksum crc32 = new CRC32();
-      crc32.update(memory.array(), 0, length);
+      this.checksum.reset();
+      checksumType.update(this.checksum, bytes.duplicate());
 
       // If the stored checksum equals the computed checksum, return the entry.
-      if (checksum == crc32.getValue()) {
-        E entry = serializer.decode(memory.array());
-        nextEntry = new Indexed<>(index, entry, length);
+      if (checksum == this.checksum.getValue()) {
+        nextEntry = new Indexed<>(index, bytes, length, compressed, serializer);
       } else {
         buffer.reset();
         nextEntry = null;
@@ -170,9 +172,29 @@ public class JournalSegmentReader<E> implements JournalReader<E> {
     }
   }
 
+  /**
+   * Reads the given number of entry bytes from the segment.
+   * <p>
+   * The bytes are always copied out of the segment, even for segments backed by a {@link ByteBuffer}, since the
+   * entry may outlive the segment's contents: the segment may be truncated and overwritten, or closed and unmapped,
+   * while the entry is still held by the caller.
+   *
+   * @param length the number of bytes to read
+   * @return a buffer containing a copy of the entry bytes
+   * @throws BufferUnderflowException if the segment does not contain the given number of bytes
+   */
+  private ByteBuffer readBytes(int length) {
+    if (length < 0 || length > buffer.remaining()) {
+      throw new BufferUnderflowException();
+    }
+
+    final byte[] bytes = new byte[length];
+    buffer.read(bytes, 0, length);
+    return ByteBuffer.wrap(bytes);
+  }
+
   @Override
   public void close() {
-    memory.close();
     buffer.close();
   }
 }
\ No newline at end of file
@@ -16,13 +16,27 @@
 package io.atomix.storage.journal;
 
 import io.atomix.utils.serializer.Serializer;
+import io.atomix.storage.StorageException;
 import io.atomix.storage.buffer.Buffer;
+import io.atomix.storage.buffer.ByteBufferBytes;
+import io.atomix.storage.buffer.Bytes;
 import io.atomix.storage.buffer.FileBuffer;
 import io.atomix.storage.buffer.HeapBuffer;
 import io.atomix.storage.buffer.MappedBuffer;
 import io.atomix.storage.buffer.SlicedBuffer;
+import io.atomix.storage.journal.index.DenseJournalIndex;
 import io.atomix.storage.journal.index.JournalIndex;
-
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
 import java.util.zip.CRC32;
 import java.util.zip.Checksum;
 
@@ -38,27 +52,155 @@ import java.util.zip.Checksum;
  * <li>8-bit signed entry type ID</li>
  * <li>n-bit entry bytes</li>
  * </ul>
+ * <p>
+ * When the writer is given an index file, the segment's index and the position of its last entry can be persisted
+ * once the segment is sealed. A segment with a valid index file is recovered by verifying only its last entry
+ * rather than scanning, checksumming and decoding every entry in the segment.
+ * <p>
+ * If the segment's descriptor specifies a {@link CompressionType}, entries at least as large as the compression
+ * threshold are compressed before they're written, and the entry length and checksum describe the stored bytes.
  *
  * @author <a href="http://github.com/kuujo">Jordan Halterman</a>
  */
 public class JournalSegmentWriter<E> implements JournalWriter<E> {
+  private static final int ENTRY_HEADER_SIZE = Bytes.INTEGER + Bytes.INTEGER;
+  private static final int DEFAULT_SCRATCH_SIZE = 1024 * 4;
+  private static final int INDEX_VERSION = 1;
+  private static final int INDEX_HEADER_SIZE = Bytes.INTEGER + Bytes.LONG + Bytes.INTEGER + Bytes.LONG + Bytes.INTEGER + Bytes.INTEGER;
+
+  private final Logger log = LoggerFactory.getLogger(getClass());
+
   private final JournalSegmentDescriptor descriptor;
   private final JournalSegmentCache cache;
   private final JournalIndex index;
+  private final DenseJournalIndex persistentIndex;
+  private final File indexFile;
   private final Buffer buffer;
   private final Serializer serializer;
   private final HeapBuffer memory = HeapBuffer.allocate();
+  private final ChecksumType checksumType;
+  private final Checksum checksum;
+  private final JournalSegmentCompressor compressor;
+  private ByteBuffer scratch = ByteBuffer.allocate(DEFAULT_SCRATCH_SIZE);
   private final long firstIndex;
   private Indexed<E> lastEntry;
+  private int lastPosition;
+  private boolean dirty;
+  private boolean indexed;
 
   public JournalSegmentWriter(JournalSegmentDescriptor descriptor, JournalSegmentCache cache, JournalIndex index, Serializer serializer) {
+    this(descriptor, cache, index, null, null, JournalSegmentCompressor.DEFAULT_THRESHOLD, serializer);
+  }
+
+  JournalSegmentWriter(
+      JournalSegmentDescriptor descriptor,
+      JournalSegmentCache cache,
+      DenseJournalIndex index,
+      File indexFile,
+      int compressionThreshold,
+      Serializer serializer) {
+    this(descriptor, cache, index, index, indexFile, compressionThreshold, serializer);
+  }
+
+  private JournalSegmentWriter(
+      JournalSegmentDescriptor descriptor,
+      JournalSegmentCache cache,
+      JournalIndex index,
+      DenseJournalIndex persistentIndex,
+      File indexFile,
+      int compressionThreshold,
+      Serializer serializer) {
     this.descriptor = descriptor;
     this.cache = cache;
     this.index = index;
+    this.persistentIndex = persistentIndex;
+    this.indexFile = indexFile;
     this.buffer = descriptor.buffer().slice();
     this.serializer = serializer;
     this.firstIndex = descriptor.index();
-    reset(0);
+    this.checksumType = descriptor.checksumType();
+    this.checksum = checksumType.newChecksum();
+    this.compressor = new JournalSegmentCompressor(descriptor.compressionType(), compressionThreshold);
+    if (!recover()) {
+      reset(0);
+    }
+  }
+
+  /**
+   * Attempts to recover the writer from the segment's index file.
+   *
+   * @return indicates whether the writer was recovered from the index file
+   */
+  private boolean recover() {
+    if (persistentIndex == null || indexFile == null || !indexFile.exists()) {
+      return false;
+    }
+
+    try {
+      ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(indexFile.toPath()));
+      if (bytes.remaining() < INDEX_HEADER_SIZE + Bytes.LONG) {
+        return abortRecovery();
+      }
+
+      // Verify the checksum of the index file.
+      final int checksumPosition = bytes.limit() - Bytes.LONG;
+      final CRC32 indexChecksum = new CRC32();
+      indexChecksum.update(bytes.array(), 0, checksumPosition);
+      if (bytes.getLong(checksumPosition) != indexChecksum.getValue()) {
+        return abortRecovery();
+      }
+      bytes.limit(checksumPosition);
+
+      // Verify the index file was written for this segment.
+      if (bytes.getInt() != INDEX_VERSION || bytes.getLong() != descriptor.id() || bytes.getInt() != descriptor.version()) {
+        return abortRecovery();
+      }
+
+      final long lastIndex = bytes.getLong();
+      final int lastPosition = bytes.getInt();
+      final int endPosition = bytes.getInt();
+      if (lastIndex < firstIndex || !persistentIndex.readFrom(bytes)) {
+        return abortRecovery();
+      }
+
+      // Verify the last entry is intact and is the last entry in the segment. If the segment is full, no entry can
+      // follow the last entry, and reading past the end of the segment would grow the segment file.
+      final int length = buffer.readInt(lastPosition);
+      if (length <= 0 || lastPosition + ENTRY_HEADER_SIZE + length != endPosition) {
+        return abortRecovery();
+      }
+      if (buffer.offset() + endPosition + Bytes.INTEGER <= descriptor.maxSegmentSize() && buffer.readInt(endPosition) != 0) {
+        return abortRecovery();
+      }
+      final long checksum = buffer.readUnsignedInt(lastPosition + Bytes.INTEGER);
+      final byte[] entryBytes = new byte[length];
+      buffer.read(lastPosition + ENTRY_HEADER_SIZE, entryBytes, 0, length);
+      this.checksum.reset();
+      this.checksum.update(entryBytes, 0, length);
+      if (checksum != this.checksum.getValue()) {
+        return abortRecovery();
+      }
+
+      this.lastEntry = newEntry(lastIndex, entryBytes);
+      this.lastPosition = lastPosition;
+      this.indexed = true;
+      buffer.clear().position(endPosition);
+      return true;
+    } catch (IOException | RuntimeException e) {
+      log.warn("Failed to recover segment {} from index file {}", descriptor.id(), indexFile, e);
+      return abortRecovery();
+    }
+  }
+
+  /**
+   * Discards the segment's index file and any index state read from it.
+   *
+   * @return {@code false}
+   */
+  private boolean abortRecovery() {
+    persistentIndex.truncate(firstIndex - 1);
+    deleteIndex();
+    return false;
   }
 
   /**
@@ -88,14 +230,13 @@ public class JournalSegmentWriter<E> implements JournalWriter<E> {
       memory.flip();
 
       // Compute the checksum for the entry bytes.
-      final Checksum crc32 = new CRC32();
-      crc32.update(memory.array(), 0, length);
+      this.checksum.reset();
+      this.checksum.update(memory.array(), 0, length);
 
-      // If the stored checksum equals the computed checksum, return the entry.
-      if (checksum == crc32.getValue()) {
-        final E entry = serializer.decode(memory.array());
-        lastEntry = new Indexed<>(nextIndex, entry, length);
+      // If the stored checksum equals the computed checksum, index the entry.
+      if (checksum == this.checksum.getValue()) {
         this.index.index(nextIndex, position);
+        lastPosition = position;
         nextIndex++;
       } else {
         break;
@@ -108,6 +249,24 @@ public class JournalSegmentWriter<E> implements JournalWriter<E> {
 
     // Reset the buffer to the previous mark.
     buffer.reset();
+
+    // Read the last entry, deferring deserialization until the entry is requested.
+    if (nextIndex > firstIndex) {
+      final byte[] bytes = new byte[buffer.readInt(lastPosition)];
+      buffer.read(lastPosition + ENTRY_HEADER_SIZE, bytes, 0, bytes.length);
+      lastEntry = newEntry(nextIndex - 1, bytes);
+    }
+  }
+
+  /**
+   * Creates a lazily decoded entry from the bytes stored in the segment.
+   *
+   * @param index the entry index
+   * @param bytes the stored entry bytes
+   * @return the entry
+   */
+  private Indexed<E> newEntry(long index, byte[] bytes) {
+    return new Indexed<>(index, ByteBuffer.wrap(bytes), bytes.length, compressor.isEnabled(), serializer);
   }
 
   @Override
@@ -184,34 +343,149 @@ public class JournalSegmentWriter<E> implements JournalWriter<E> {
   @Override
   @SuppressWarnings("unchecked")
   public <T extends E> Indexed<T> append(T entry) {
+    // The index file no longer describes the segment once it's modified.
+    if (indexed) {
+      deleteIndex();
+    }
+
     // Store the entry index.
     final long index = getNextIndex();
 
-    // Serialize the entry.
-    final byte[] bytes = serializer.encode(entry);
-    final int length = bytes.length;
-
-    // Compute the checksum for the entry.
-    final Checksum crc32 = new CRC32();
-    crc32.update(bytes, 0, length);
-    final long checksum = crc32.getValue();
-
     // Record the current buffer position;
     int position = buffer.position();
 
-    // Write the entry length and entry to the segment.
-    buffer.writeInt(length)
-        .writeUnsignedInt(checksum)
-        .write(bytes);
+    // Serialize the entry directly into the segment if possible, otherwise serialize it into the scratch
+    // buffer and copy it into the segment. Entries in compressed segments are always serialized into the
+    // scratch buffer to be compressed.
+    int length;
+    if (compressor.isEnabled()) {
+      length = appendCompressed(entry);
+    } else {
+      length = appendDirect(entry);
+      if (length == 0) {
+        length = appendCopy(entry);
+      }
+    }
 
     // Update the last entry with the correct index/term/length.
     Indexed<E> indexedEntry = new Indexed<>(index, entry, length);
     this.lastEntry = indexedEntry;
+    this.lastPosition = position;
+    this.dirty = true;
     this.cache.put(indexedEntry);
     this.index.index(index, position);
     return (Indexed<T>) indexedEntry;
   }
 
+  /**
+   * Serializes the entry directly into the segment's underlying {@link ByteBuffer}.
+   * <p>
+   * The entry is serialized in place after the entry header, and the checksum is computed over the written bytes
+   * without copying them. If the segment is not backed by a {@link ByteBuffer} or the entry does not fit in the
+   * segment's current capacity, no entry is written.
+   *
+   * @param entry the entry to write
+   * @return the length of the written entry or {@code 0} if the entry was not written
+   */
+  private int appendDirect(E entry) {
+    if (!(buffer.bytes() instanceof ByteBufferBytes)) {
+      return 0;
+    }
+
+    final int position = buffer.position();
+    final int offset = buffer.offset() + position + ENTRY_HEADER_SIZE;
+    final int limit = buffer.offset() + buffer.capacity();
+    if (offset >= limit) {
+      return 0;
+    }
+
+    final ByteBuffer target = ((ByteBufferBytes) buffer.bytes()).byteBuffer().duplicate();
+    target.limit(limit);
+    target.position(offset);
+    final ByteBuffer slice = target.slice();
+    try {
+      serializer.encode(entry, slice);
+    } catch (BufferOverflowException e) {
+      // Zero the partially written entry to ensure it can't be read as a subsequent entry header.
+      buffer.zero(position + ENTRY_HEADER_SIZE, limit - offset);
+      return 0;
+    }
+
+    // Compute the checksum for the entry bytes in place.
+    final int length = slice.position();
+    slice.flip();
+    this.checksum.reset();
+    checksumType.update(checksum, slice);
+    final long checksum = this.checksum.getValue();
+
+    // Write the entry length and checksum and skip the entry bytes.
+    buffer.writeInt(length)
+        .writeUnsignedInt(checksum)
+        .skip(length);
+    return length;
+  }
+
+  /**
+   * Serializes the entry into the writer's scratch buffer and copies it into the segment.
+   *
+   * @param entry the entry to write
+   * @return the length of the written entry
+   */
+  private int appendCopy(E entry) {
+    final int length = serialize(entry);
+
+    // Compute the checksum for the entry.
+    this.checksum.reset();
+    this.checksum.update(scratch.array(), 0, length);
+    final long checksum = this.checksum.getValue();
+
+    // Write the entry length and entry to the segment.
+    buffer.writeInt(length)
+        .writeUnsignedInt(checksum)
+        .write(scratch.array(), 0, length);
+    return length;
+  }
+
+  /**
+   * Serializes and compresses the entry and writes the compressed entry to the segment.
+   *
+   * @param entry the entry to write
+   * @return the length of the written entry
+   */
+  private int appendCompressed(E entry) {
+    final ByteBuffer bytes = compressor.compress(scratch.array(), serialize(entry));
+    final int length = bytes.remaining();
+
+    // Compute the checksum for the stored entry bytes.
+    this.checksum.reset();
+    this.checksum.update(bytes.array(), 0, length);
+    final long checksum = this.checksum.getValue();
+
+    // Write the entry length and entry to the segment.
+    buffer.writeInt(length)
+        .writeUnsignedInt(checksum)
+        .write(bytes.array(), 0, length);
+    return length;
+  }
+
+  /**
+   * Serializes the entry into the writer's scratch buffer, growing the buffer until the entry fits.
+   *
+   * @param entry the entry to serialize
+   * @return the length of the serialized entry
+   */
+  private int serialize(E entry) {
+    scratch.clear();
+    while (true) {
+      try {
+        serializer.encode(entry, scratch);
+        return scratch.position();
+      } catch (BufferOverflowException e) {
+        scratch = ByteBuffer.allocate(scratch.capacity() * 2);
+      }
+    }
+  }
+
   @Override
   @SuppressWarnings("unchecked")
   public void truncate(long index) {
@@ -222,6 +496,10 @@ public class JournalSegmentWriter<E> implements JournalWriter<E> {
 
     // Reset the last entry.
     lastEntry = null;
+    dirty = true;
+    if (indexed) {
+      deleteIndex();
+    }
 
     // If the index is less than the segment index, clear the segment buffer.
     if (index < descriptor.index()) {
@@ -242,13 +520,85 @@ public class JournalSegmentWriter<E> implements JournalWriter<E> {
     buffer.zero(buffer.position());
   }
 
+  /**
+   * Returns a boolean indicating whether the segment has been modified since it was last flushed.
+   *
+   * @return Indicates whether the segment has been modified since it was last flushed.
+   */
+  public boolean isDirty() {
+    return dirty;
+  }
+
   @Override
   public void flush() {
-    buffer.flush();
+    // Skip the flush if nothing has been written since the last flush to avoid redundant syncs.
+    if (dirty) {
+      buffer.flush();
+      dirty = false;
+    }
+  }
+
+  /**
+   * Persists the segment index and the position of the last entry to the segment's index file.
+   * <p>
+   * The index should only be persisted once the segment has been sealed. The segment is flushed before the index
+   * is written, and any subsequent modification to the segment deletes the index file.
+   */
+  void persistIndex() {
+    if (persistentIndex == null || indexFile == null || lastEntry == null) {
+      return;
+    }
+
+    flush();
+
+    final ByteBuffer bytes = ByteBuffer.allocate(INDEX_HEADER_SIZE + persistentIndex.serializedSize() + Bytes.LONG);
+    bytes.putInt(INDEX_VERSION)
+        .putLong(descriptor.id())
+        .putInt(descriptor.version())
+        .putLong(lastEntry.index())
+        .putInt(lastPosition)
+        .putInt(buffer.position());
+    persistentIndex.writeTo(bytes);
+    final CRC32 indexChecksum = new CRC32();
+    indexChecksum.update(bytes.array(), 0, bytes.position());
+    bytes.putLong(indexChecksum.getValue());
+    bytes.flip();
+
+    // Write the index to a temporary file and move it into place to ensure a partial index is never read.
+    final File tempFile = new File(indexFile.getParentFile(), indexFile.getName() + ".tmp");
+    try {
+      try (FileChannel channel = FileChannel.open(tempFile.toPath(),
+          StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+        while (bytes.hasRemaining()) {
+          channel.write(bytes);
+        }
+        channel.force(true);
+      }
+      Files.move(tempFile.toPath(), indexFile.toPath(), StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+      indexed = true;
+    } catch (IOException e) {
+      log.warn("Failed to write index file {}", indexFile, e);
+      tempFile.delete();
+    }
+  }
+
+  /**
+   * Deletes the segment's index file.
+   */
+  private void deleteIndex() {
+    indexed = false;
+    if (indexFile != null) {
+      try {
+        Files.deleteIfExists(indexFile.toPath());
+      } catch (IOException e) {
+        throw new StorageException(e);
+      }
+    }
   }
 
   @Override
   public void close() {
+    compressor.close();
     buffer.close();
   }
 
@@ -256,6 +606,7 @@ public class JournalSegmentWriter<E> implements JournalWriter<E> {
    * Deletes the segment.
    */
   void delete() {
+    deleteIndex();
     Buffer buffer = this.buffer instanceof SlicedBuffer ? ((SlicedBuffer) this.buffer).root() : this.buffer;
     if (buffer instanceof FileBuffer) {
       ((FileBuffer) buffer).delete();
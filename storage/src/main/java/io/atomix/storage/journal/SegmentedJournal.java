@@ -28,16 +28,26 @@ import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
 import java.util.Collection;
 import java.util.Map;
 import java.util.NavigableMap;
 import java.util.SortedMap;
 import java.util.TreeMap;
 import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.base.Preconditions.checkState;
+import static io.atomix.utils.concurrent.Threads.namedThreads;
 
 /**
  *
@@ -68,6 +78,13 @@ public class SegmentedJournal<E> implements Journal<E> {
   private final int maxEntriesPerSegment;
   private final double indexDensity;
   private final int cacheSize;
+  private final int maxCacheBytes;
+  private final boolean fastRecovery;
+  private final ChecksumType checksumType;
+  private final CompressionType compressionType;
+  private final int compressionThreshold;
+  private final ExecutorService allocator;
+  private Future<File> preallocatedSegment;
 
   private final NavigableMap<Long, JournalSegment<E>> segments = new ConcurrentSkipListMap<>();
   private final Collection<SegmentedJournalReader<E>> readers = Sets.newConcurrentHashSet();
@@ -85,6 +102,25 @@ public class SegmentedJournal<E> implements Journal<E> {
       int maxEntriesPerSegment,
       double indexDensity,
       int cacheSize) {
+    this(name, storageLevel, directory, serializer, maxSegmentSize, maxEntriesPerSegment, indexDensity, cacheSize, Integer.MAX_VALUE, false, false, ChecksumType.CRC32,
+        CompressionType.NONE, JournalSegmentCompressor.DEFAULT_THRESHOLD);
+  }
+
+  public SegmentedJournal(
+      String name,
+      StorageLevel storageLevel,
+      File directory,
+      Serializer serializer,
+      int maxSegmentSize,
+      int maxEntriesPerSegment,
+      double indexDensity,
+      int cacheSize,
+      int maxCacheBytes,
+      boolean fastRecovery,
+      boolean preallocateSegments,
+      ChecksumType checksumType,
+      CompressionType compressionType,
+      int compressionThreshold) {
     this.name = checkNotNull(name, "name cannot be null");
     this.storageLevel = checkNotNull(storageLevel, "storageLevel cannot be null");
     this.directory = checkNotNull(directory, "directory cannot be null");
@@ -93,7 +129,16 @@ public class SegmentedJournal<E> implements Journal<E> {
     this.maxEntriesPerSegment = maxEntriesPerSegment;
     this.indexDensity = indexDensity;
     this.cacheSize = cacheSize;
+    this.maxCacheBytes = maxCacheBytes;
+    this.fastRecovery = fastRecovery;
+    this.checksumType = checkNotNull(checksumType, "checksumType cannot be null");
+    this.compressionType = checkNotNull(compressionType, "compressionType cannot be null");
+    this.compressionThreshold = compressionThreshold;
+    this.allocator = preallocateSegments && storageLevel != StorageLevel.MEMORY
+        ? Executors.newSingleThreadExecutor(namedThreads("atomix-journal-" + name + "-allocator", log))
+        : null;
     open();
+    preallocateSegment();
     this.writer = openWriter();
   }
 
@@ -154,6 +199,62 @@ public class SegmentedJournal<E> implements Journal<E> {
     return maxEntriesPerSegment;
   }
 
+  /**
+   * Returns whether fast recovery is enabled.
+   * <p>
+   * When fast recovery is enabled, the index of each segment is persisted alongside the segment once the
+   * segment is sealed, and sealed segments are recovered from their index rather than by scanning their entries.
+   *
+   * @return Indicates whether fast recovery is enabled.
+   */
+  public boolean isFastRecovery() {
+    return fastRecovery;
+  }
+
+  /**
+   * Returns the type of checksum used for entries in new segments.
+   * <p>
+   * Existing segments are read using the checksum type recorded in their descriptors.
+   *
+   * @return The type of checksum used for entries in new segments.
+   */
+  public ChecksumType checksumType() {
+    return checksumType;
+  }
+
+  /**
+   * Returns the type of compression used for entries in new segments.
+   * <p>
+   * Existing segments are read using the compression type recorded in their descriptors.
+   *
+   * @return The type of compression used for entries in new segments.
+   */
+  public CompressionType compressionType() {
+    return compressionType;
+  }
+
+  /**
+   * Returns the number of entry lookups served from segment caches.
+   * <p>
+   * The count includes only segments that are currently part of the journal.
+   *
+   * @return The number of segment cache hits.
+   */
+  public long cacheHitCount() {
+    return segments.values().stream().mapToLong(segment -> segment.cache().hitCount()).sum();
+  }
+
+  /**
+   * Returns the number of entry lookups that missed segment caches and were read from segment buffers.
+   * <p>
+   * The count includes only segments that are currently part of the journal.
+   *
+   * @return The number of segment cache misses.
+   */
+  public long cacheMissCount() {
+    return segments.values().stream().mapToLong(segment -> segment.cache().missCount()).sum();
+  }
+
   /**
    * Opens a new journal writer.
    *
@@ -181,6 +282,8 @@ public class SegmentedJournal<E> implements Journal<E> {
           .withIndex(1)
           .withMaxSegmentSize(maxSegmentSize)
           .withMaxEntries(maxEntriesPerSegment)
+          .withChecksumType(checksumType)
+          .withCompressionType(compressionType)
           .build();
 
       currentSegment = createSegment(descriptor);
@@ -221,6 +324,8 @@ public class SegmentedJournal<E> implements Journal<E> {
           .withIndex(1)
           .withMaxSegmentSize(maxSegmentSize)
           .withMaxEntries(maxEntriesPerSegment)
+          .withChecksumType(checksumType)
+          .withCompressionType(compressionType)
           .build();
 
       currentSegment = createSegment(descriptor);
@@ -255,6 +360,8 @@ public class SegmentedJournal<E> implements Journal<E> {
         .withIndex(index)
         .withMaxSegmentSize(maxSegmentSize)
         .withMaxEntries(maxEntriesPerSegment)
+        .withChecksumType(checksumType)
+        .withCompressionType(compressionType)
         .build();
     currentSegment = createSegment(descriptor);
     segments.put(index, currentSegment);
@@ -299,6 +406,8 @@ public class SegmentedJournal<E> implements Journal<E> {
         .withIndex(currentSegment.lastIndex() + 1)
         .withMaxSegmentSize(maxSegmentSize)
         .withMaxEntries(maxEntriesPerSegment)
+        .withChecksumType(checksumType)
+        .withCompressionType(compressionType)
         .build();
 
     currentSegment = createSegment(descriptor);
@@ -367,6 +476,54 @@ public class SegmentedJournal<E> implements Journal<E> {
     }
   }
 
+  /**
+   * Pre-allocates the file for the next segment in the background if segment pre-allocation is enabled.
+   */
+  private void preallocateSegment() {
+    if (allocator == null || preallocatedSegment != null) {
+      return;
+    }
+
+    File file = JournalSegmentFile.createPreallocatedFile(name, directory);
+    preallocatedSegment = allocator.submit(() -> {
+      Files.deleteIfExists(file.toPath());
+      try (RandomAccessFile randomAccessFile = new RandomAccessFile(file, "rw")) {
+        randomAccessFile.setLength(maxSegmentSize);
+      }
+      return file;
+    });
+  }
+
+  /**
+   * Moves the pre-allocated segment file to the given segment file if a pre-allocated file is available.
+   * <p>
+   * If the pre-allocation is still in progress, the writer does not wait for it. The segment is created inline
+   * instead, and the pre-allocated file is left for a later segment.
+   *
+   * @param segmentFile the segment file to which to move the pre-allocated file
+   * @return indicates whether the pre-allocated file was moved to the segment file
+   */
+  private boolean claimPreallocatedSegment(File segmentFile) {
+    Future<File> future = preallocatedSegment;
+    if (future == null || !future.isDone()) {
+      return false;
+    }
+
+    preallocatedSegment = null;
+    try {
+      Files.move(future.get().toPath(), segmentFile.toPath(), StandardCopyOption.REPLACE_EXISTING);
+      return true;
+    } catch (IOException | ExecutionException e) {
+      log.warn("Failed to pre-allocate segment {}", segmentFile.getName(), e);
+      return false;
+    } catch (InterruptedException e) {
+      Thread.currentThread().interrupt();
+      return false;
+    } finally {
+      preallocateSegment();
+    }
+  }
+
   /**
    * Creates a new segment instance.
    *
@@ -375,7 +532,12 @@ public class SegmentedJournal<E> implements Journal<E> {
    * @return The segment instance.
    */
   protected JournalSegment<E> newSegment(JournalSegmentFile segmentFile, JournalSegmentDescriptor descriptor) {
-    return new JournalSegment<>(segmentFile, descriptor, indexDensity, cacheSize, serializer);
+    // If fast recovery is disabled, remove any index left by a previous instance since it will not be updated.
+    if (!fastRecovery) {
+      segmentFile.indexFile().delete();
+    }
+    return new JournalSegment<>(segmentFile, descriptor, indexDensity, cacheSize, maxCacheBytes, serializer,
+        fastRecovery && storageLevel != StorageLevel.MEMORY, compressionThreshold);
   }
 
   /**
@@ -383,7 +545,10 @@ public class SegmentedJournal<E> implements Journal<E> {
    */
   private JournalSegment<E> createDiskSegment(JournalSegmentDescriptor descriptor) {
     File segmentFile = JournalSegmentFile.createSegmentFile(name, directory, descriptor.id());
-    Buffer buffer = FileBuffer.allocate(segmentFile, Math.min(DEFAULT_BUFFER_SIZE, descriptor.maxSegmentSize()), Integer.MAX_VALUE);
+    int initialCapacity = claimPreallocatedSegment(segmentFile)
+        ? descriptor.maxSegmentSize()
+        : Math.min(DEFAULT_BUFFER_SIZE, descriptor.maxSegmentSize());
+    Buffer buffer = FileBuffer.allocate(segmentFile, initialCapacity, Integer.MAX_VALUE);
     descriptor.copyTo(buffer);
     JournalSegment<E> segment = newSegment(new JournalSegmentFile(segmentFile), descriptor);
     log.debug("Created disk segment: {}", segment);
@@ -395,7 +560,10 @@ public class SegmentedJournal<E> implements Journal<E> {
    */
   private JournalSegment<E> createMappedSegment(JournalSegmentDescriptor descriptor) {
     File segmentFile = JournalSegmentFile.createSegmentFile(name, directory, descriptor.id());
-    Buffer buffer = MappedBuffer.allocate(segmentFile, Math.min(DEFAULT_BUFFER_SIZE, descriptor.maxSegmentSize()), Integer.MAX_VALUE);
+    int initialCapacity = claimPreallocatedSegment(segmentFile)
+        ? descriptor.maxSegmentSize()
+        : Math.min(DEFAULT_BUFFER_SIZE, descriptor.maxSegmentSize());
+    Buffer buffer = MappedBuffer.allocate(segmentFile, initialCapacity, Integer.MAX_VALUE);
     descriptor.copyTo(buffer);
     JournalSegment<E> segment = newSegment(new JournalSegmentFile(segmentFile), descriptor);
     log.debug("Created memory mapped segment: {}", segment);
@@ -656,6 +824,17 @@ public class SegmentedJournal<E> implements Journal<E> {
     });
     currentSegment = null;
     open = false;
+
+    if (allocator != null) {
+      allocator.shutdownNow();
+      try {
+        allocator.awaitTermination(1, TimeUnit.SECONDS);
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+      preallocatedSegment = null;
+      JournalSegmentFile.createPreallocatedFile(name, directory).delete();
+    }
   }
 
   /**
@@ -668,6 +847,7 @@ public class SegmentedJournal<E> implements Journal<E> {
     private static final int DEFAULT_MAX_ENTRIES_PER_SEGMENT = 1024 * 1024;
     private static final double DEFAULT_INDEX_DENSITY = .005;
     private static final int DEFAULT_CACHE_SIZE = 1024;
+    private static final int DEFAULT_MAX_CACHE_BYTES = 1024 * 1024 * 4;
 
     protected String name = DEFAULT_NAME;
     protected StorageLevel storageLevel = StorageLevel.DISK;
@@ -677,6 +857,12 @@ public class SegmentedJournal<E> implements Journal<E> {
     protected int maxEntriesPerSegment = DEFAULT_MAX_ENTRIES_PER_SEGMENT;
     protected double indexDensity = DEFAULT_INDEX_DENSITY;
     protected int cacheSize = DEFAULT_CACHE_SIZE;
+    protected int maxCacheBytes = DEFAULT_MAX_CACHE_BYTES;
+    protected boolean fastRecovery;
+    protected boolean preallocateSegments;
+    protected ChecksumType checksumType = ChecksumType.CRC32;
+    protected CompressionType compressionType = CompressionType.NONE;
+    protected int compressionThreshold = JournalSegmentCompressor.DEFAULT_THRESHOLD;
 
     protected Builder() {
     }
@@ -813,6 +999,120 @@ public class SegmentedJournal<E> implements Journal<E> {
       return this;
     }
 
+    /**
+     * Sets the maximum number of bytes cached per segment, returning the builder for method chaining.
+     * <p>
+     * Each segment caches its most recently written entries for readers. The cache is bounded by both the
+     * {@link #withCacheSize(int) cache size} and the total serialized size of the cached entries. By default,
+     * each segment caches up to {@code 1024 * 1024 * 4} bytes of entries.
+     *
+     * @param maxCacheBytes the maximum number of bytes to cache per segment
+     * @return the journal builder
+     * @throws IllegalArgumentException if the maximum cache bytes is negative
+     */
+    public Builder<E> withMaxCacheBytes(int maxCacheBytes) {
+      checkArgument(maxCacheBytes >= 0, "maxCacheBytes must be positive");
+      this.maxCacheBytes = maxCacheBytes;
+      return this;
+    }
+
+    /**
+     * Enables fast recovery, returning the builder for method chaining.
+     *
+     * @return The journal builder.
+     */
+    public Builder<E> withFastRecovery() {
+      return withFastRecovery(true);
+    }
+
+    /**
+     * Sets whether to enable fast recovery, returning the builder for method chaining.
+     * <p>
+     * When fast recovery is enabled, the index of each segment and the position of its last entry are written
+     * to an index file alongside the segment once the writer rolls over to the next segment. On startup, sealed
+     * segments with a valid index file are recovered by verifying only their last entry, and only the tail
+     * segment is scanned. Fast recovery has no effect for {@link StorageLevel#MEMORY} journals.
+     *
+     * @param fastRecovery Whether to enable fast recovery.
+     * @return The journal builder.
+     */
+    public Builder<E> withFastRecovery(boolean fastRecovery) {
+      this.fastRecovery = fastRecovery;
+      return this;
+    }
+
+    /**
+     * Enables segment pre-allocation, returning the builder for method chaining.
+     *
+     * @return The journal builder.
+     */
+    public Builder<E> withPreallocateSegments() {
+      return withPreallocateSegments(true);
+    }
+
+    /**
+     * Sets whether to pre-allocate segments, returning the builder for method chaining.
+     * <p>
+     * When segment pre-allocation is enabled, a background thread keeps the file for the next segment created and
+     * sized to the {@link #withMaxSegmentSize(int) maximum segment size}, so rolling over to a new segment does not
+     * create or grow files on the writing thread. Pre-allocation has no effect for {@link StorageLevel#MEMORY}
+     * journals.
+     *
+     * @param preallocateSegments Whether to pre-allocate segments.
+     * @return The journal builder.
+     */
+    public Builder<E> withPreallocateSegments(boolean preallocateSegments) {
+      this.preallocateSegments = preallocateSegments;
+      return this;
+    }
+
+    /**
+     * Sets the type of checksum used for entries in new segments, returning the builder for method chaining.
+     * <p>
+     * The checksum type is recorded in each segment's descriptor, so segments written with a different checksum
+     * type remain readable after the checksum type is changed. By default, entries are checksummed with
+     * {@link ChecksumType#CRC32}.
+     *
+     * @param checksumType The checksum type.
+     * @return The journal builder.
+     * @throws NullPointerException If the {@code checksumType} is {@code null}
+     */
+    public Builder<E> withChecksumType(ChecksumType checksumType) {
+      this.checksumType = checkNotNull(checksumType, "checksumType cannot be null");
+      return this;
+    }
+
+    /**
+     * Sets the type of compression used for entries in new segments, returning the builder for method chaining.
+     * <p>
+     * The compression type is recorded in each segment's descriptor, so segments written with a different compression
+     * type remain readable after the compression type is changed. By default, entries are not compressed.
+     *
+     * @param compressionType The compression type.
+     * @return The journal builder.
+     * @throws NullPointerException If the {@code compressionType} is {@code null}
+     */
+    public Builder<E> withCompressionType(CompressionType compressionType) {
+      this.compressionType = checkNotNull(compressionType, "compressionType cannot be null");
+      return this;
+    }
+
+    /**
+     * Sets the minimum serialized size of entries to compress, returning the builder for method chaining.
+     * <p>
+     * Entries smaller than the threshold are stored uncompressed in compressed segments. Entries that don't shrink
+     * when compressed are always stored uncompressed. The default threshold is {@code 256} bytes.
+     *
+     * @param compressionThreshold The minimum serialized size of entries to compress.
+     * @return The journal builder.
+     * @throws IllegalArgumentException If the {@code compressionThreshold} is negative
+     */
+    public Builder<E> withCompressionThreshold(int compressionThreshold) {
+      checkArgument(compressionThreshold >= 0, "compressionThreshold must be positive");
+      this.compressionThreshold = compressionThreshold;
+      return this;
+    }
+
     /**
      * Builds the journal.
      *
@@ -820,7 +1120,7 @@ public class SegmentedJournal<E> implements Journal<E> {
      */
     @Override
     public SegmentedJournal<E> build() {
-      return new SegmentedJournal<>(name, storageLevel, directory, serializer, maxSegmentSize, maxEntriesPerSegment, indexDensity, cacheSize);
+      return new SegmentedJournal<>(name, storageLevel, directory, serializer, maxSegmentSize, maxEntriesPerSegment, indexDensity, cacheSize, maxCacheBytes, fastRecovery, preallocateSegments, checksumType, compressionType, compressionThreshold);
     }
   }
 }
\ No newline at end of file
@@ -15,6 +15,8 @@
  */
 package io.atomix.storage.journal;
 
+import io.atomix.storage.buffer.Bytes;
+
 import java.nio.BufferOverflowException;
 
 /**
@@ -26,6 +28,7 @@ public class SegmentedJournalWriter<E> implements JournalWriter<E> {
   private final SegmentedJournal<E> journal;
   private JournalSegment<E> currentSegment;
   private JournalSegmentWriter<E> currentWriter;
+  private long unflushedBytes;
 
   public SegmentedJournalWriter(SegmentedJournal<E> journal) {
     this.journal = journal;
@@ -60,44 +63,62 @@ public class SegmentedJournalWriter<E> implements JournalWriter<E> {
     journal.resetHead(index);
   }
 
+  /**
+   * Returns the number of bytes appended to the journal since the last flush.
+   * <p>
+   * The count is reset each time the journal is flushed to disk, either explicitly or when the writer rolls
+   * over to a new segment. Callers can use this to coalesce flushes from many appends into a single sync.
+   *
+   * @return the number of bytes appended to the journal since the last flush
+   */
+  public long getUnflushedBytes() {
+    return unflushedBytes;
+  }
+
   @Override
   public <T extends E> Indexed<T> append(T entry) {
+    Indexed<T> indexed;
     try {
       if (currentWriter.isFull()) {
-        currentWriter.flush();
-        currentSegment = journal.getNextSegment();
-        currentWriter = currentSegment.writer();
+        nextSegment();
       }
-      return currentWriter.append(entry);
+      indexed = currentWriter.append(entry);
     } catch (BufferOverflowException e) {
       if (currentWriter.firstIndex() == currentWriter.getNextIndex()) {
         throw e;
       }
-      currentWriter.flush();
-      currentSegment = journal.getNextSegment();
-      currentWriter = currentSegment.writer();
-      return currentWriter.append(entry);
+      nextSegment();
+      indexed = currentWriter.append(entry);
     }
+    unflushedBytes += indexed.size() + Bytes.INTEGER + Bytes.INTEGER;
+    return indexed;
   }
 
   @Override
   public void append(Indexed<E> entry) {
     try {
       if (currentWriter.isFull()) {
-        currentWriter.flush();
-        currentSegment = journal.getNextSegment();
-        currentWriter = currentSegment.writer();
+        nextSegment();
       }
       currentWriter.append(entry);
     } catch (BufferOverflowException e) {
       if (currentWriter.firstIndex() == currentWriter.getNextIndex()) {
         throw e;
       }
-      currentWriter.flush();
-      currentSegment = journal.getNextSegment();
-      currentWriter = currentSegment.writer();
+      nextSegment();
       currentWriter.append(entry);
     }
+    unflushedBytes += currentWriter.getLastEntry().size() + Bytes.INTEGER + Bytes.INTEGER;
+  }
+
+  /**
+   * Flushes the current segment and rolls over to the next segment.
+   */
+  private void nextSegment() {
+    flush();
+    currentWriter.persistIndex();
+    currentSegment = journal.getNextSegment();
+    currentWriter = currentSegment.writer();
   }
 
   @Override
@@ -120,6 +141,7 @@ public class SegmentedJournalWriter<E> implements JournalWriter<E> {
   @Override
   public void flush() {
     currentWriter.flush();
+    unflushedBytes = 0;
   }
 
   @Override
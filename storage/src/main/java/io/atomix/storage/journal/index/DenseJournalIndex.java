@@ -0,0 +1,136 @@
+/*
+ * Copyright 2018-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal.index;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Array based journal index.
+ * <p>
+ * Segment indexes are sequential, so rather than storing index/position pairs the dense index stores only
+ * the positions of indexed entries in a primitive array and computes the array offset of an index arithmetically.
+ * Entries are sampled with the same density as the {@link SparseJournalIndex}. The index can be written to and
+ * read from a {@link ByteBuffer} to allow it to be persisted alongside a segment.
+ */
+public class DenseJournalIndex implements JournalIndex {
+  private static final int MIN_DENSITY = 1000;
+  private static final int DEFAULT_CAPACITY = 32;
+  private final int density;
+  private long firstIndex;
+  private int[] positions = new int[DEFAULT_CAPACITY];
+  private int size;
+
+  public DenseJournalIndex(double density) {
+    this.density = (int) Math.ceil(MIN_DENSITY / (density * MIN_DENSITY));
+  }
+
+  @Override
+  public void index(long index, int position) {
+    if (index % density != 0) {
+      return;
+    }
+
+    if (size == 0) {
+      firstIndex = index;
+    }
+
+    long offset = (index - firstIndex) / density;
+    if (offset < 0 || offset > size) {
+      // The index is not contiguous with the indexed entries, so restart the index at the given index.
+      firstIndex = index;
+      size = 0;
+      offset = 0;
+    }
+
+    if (offset == positions.length) {
+      positions = Arrays.copyOf(positions, positions.length * 2);
+    }
+    positions[(int) offset] = position;
+    size = (int) offset + 1;
+  }
+
+  @Override
+  public Position lookup(long index) {
+    if (size == 0 || index < firstIndex) {
+      return null;
+    }
+    int offset = (int) Math.min((index - firstIndex) / density, size - 1);
+    return new Position(firstIndex + (long) offset * density, positions[offset]);
+  }
+
+  @Override
+  public void truncate(long index) {
+    if (size == 0) {
+      return;
+    }
+    if (index < firstIndex) {
+      size = 0;
+    } else {
+      size = (int) Math.min(size, (index - firstIndex) / density + 1);
+    }
+  }
+
+  /**
+   * Returns the number of bytes required to write the index.
+   *
+   * @return the number of bytes required to write the index
+   */
+  public int serializedSize() {
+    return Math.toIntExact(Integer.BYTES + Long.BYTES + Integer.BYTES + (long) size * Integer.BYTES);
+  }
+
+  /**
+   * Writes the index to the given buffer.
+   *
+   * @param buffer the buffer to which to write the index
+   */
+  public void writeTo(ByteBuffer buffer) {
+    buffer.putInt(density);
+    buffer.putLong(firstIndex);
+    buffer.putInt(size);
+    for (int i = 0; i < size; i++) {
+      buffer.putInt(positions[i]);
+    }
+  }
+
+  /**
+   * Reads the index from the given buffer, replacing any indexed entries.
+   * <p>
+   * If the index in the buffer was written with a different density or is incomplete, the index is not modified.
+   *
+   * @param buffer the buffer from which to read the index
+   * @return indicates whether the index was read
+   */
+  public boolean readFrom(ByteBuffer buffer) {
+    if (buffer.remaining() < Integer.BYTES + Long.BYTES + Integer.BYTES || buffer.getInt() != density) {
+      return false;
+    }
+    long firstIndex = buffer.getLong();
+    int size = buffer.getInt();
+    if (size < 0 || buffer.remaining() < (long) size * Integer.BYTES) {
+      return false;
+    }
+    int[] positions = new int[Math.max(size, DEFAULT_CAPACITY)];
+    for (int i = 0; i < size; i++) {
+      positions[i] = buffer.getInt();
+    }
+    this.firstIndex = firstIndex;
+    this.positions = positions;
+    this.size = size;
+    return true;
+  }
+}
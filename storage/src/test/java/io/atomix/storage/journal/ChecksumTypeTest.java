@@ -0,0 +1,66 @@
+/*
+ * Copyright 2018-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import org.junit.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.zip.Checksum;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ * Checksum type test.
+ */
+public class ChecksumTypeTest {
+  private static final byte[] BYTES = "123456789".getBytes(StandardCharsets.US_ASCII);
+
+  @Test
+  public void testCrc32() throws Exception {
+    Checksum checksum = ChecksumType.CRC32.newChecksum();
+    checksum.update(BYTES, 0, BYTES.length);
+    assertEquals(0xCBF43926L, checksum.getValue());
+
+    checksum.reset();
+    ByteBuffer buffer = ByteBuffer.allocateDirect(BYTES.length);
+    buffer.put(BYTES).flip();
+    ChecksumType.CRC32.update(checksum, buffer);
+    assertEquals(0xCBF43926L, checksum.getValue());
+    assertEquals(0, buffer.remaining());
+  }
+
+  @Test
+  public void testCrc32c() throws Exception {
+    Checksum checksum = ChecksumType.CRC32C.newChecksum();
+    checksum.update(BYTES, 0, BYTES.length);
+    assertEquals(0xE3069283L, checksum.getValue());
+
+    checksum.reset();
+    ByteBuffer buffer = ByteBuffer.allocateDirect(BYTES.length);
+    buffer.put(BYTES).flip();
+    ChecksumType.CRC32C.update(checksum, buffer);
+    assertEquals(0xE3069283L, checksum.getValue());
+    assertEquals(0, buffer.remaining());
+  }
+
+  @Test
+  public void testChecksumTypeIds() throws Exception {
+    for (ChecksumType type : ChecksumType.values()) {
+      assertEquals(type, ChecksumType.forId(type.id()));
+    }
+  }
+}
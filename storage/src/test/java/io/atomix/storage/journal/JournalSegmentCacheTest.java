@@ -0,0 +1,93 @@
+/*
+ * Copyright 2018-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.storage.journal;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+
+/**
+ * Journal segment cache test.
+ */
+public class JournalSegmentCacheTest {
+  @Test
+  public void testCacheEntries() throws Exception {
+    JournalSegmentCache cache = new JournalSegmentCache(1, 3, Integer.MAX_VALUE);
+    for (int i = 1; i <= 5; i++) {
+      cache.put(new Indexed<>(i, new TestEntry(8), 8));
+    }
+    assertNull(cache.get(1));
+    assertNull(cache.get(2));
+    assertEquals(3, cache.get(3).index());
+    assertEquals(5, cache.get(5).index());
+    assertNull(cache.get(6));
+    assertEquals(2, cache.hitCount());
+    assertEquals(3, cache.missCount());
+
+    cache.truncate(3);
+    assertNotNull(cache.get(3));
+    assertNull(cache.get(4));
+    cache.put(new Indexed<>(4, new TestEntry(8), 8));
+    assertEquals(4, cache.get(4).index());
+
+    cache.truncate(1);
+    assertNull(cache.get(3));
+    cache.put(new Indexed<>(2, new TestEntry(8), 8));
+    assertEquals(2, cache.get(2).index());
+
+    // A non-sequential entry resets the cache.
+    cache.put(new Indexed<>(10, new TestEntry(8), 8));
+    assertNull(cache.get(2));
+    assertEquals(10, cache.get(10).index());
+  }
+
+  @Test
+  public void testCacheCapacity() throws Exception {
+    assertEquals(0, JournalSegmentCache.capacity(0));
+    assertEquals(1, JournalSegmentCache.capacity(1));
+    assertEquals(4, JournalSegmentCache.capacity(3));
+    assertEquals(1024, JournalSegmentCache.capacity(1024));
+    assertEquals(1 << 30, JournalSegmentCache.capacity((1 << 30) + 1));
+    assertEquals(1 << 30, JournalSegmentCache.capacity(Integer.MAX_VALUE));
+  }
+
+  @Test
+  public void testCacheBytes() throws Exception {
+    JournalSegmentCache cache = new JournalSegmentCache(1, 1024, 100);
+    for (int i = 1; i <= 10; i++) {
+      cache.put(new Indexed<>(i, new TestEntry(8), 30));
+    }
+    assertNull(cache.get(7));
+    assertNotNull(cache.get(8));
+    assertNotNull(cache.get(10));
+
+    // An entry larger than the cache is not retained.
+    cache.put(new Indexed<>(11, new TestEntry(8), 200));
+    assertNull(cache.get(10));
+    assertNull(cache.get(11));
+    cache.put(new Indexed<>(12, new TestEntry(8), 30));
+    assertNotNull(cache.get(12));
+  }
+
+  @Test
+  public void testDisabledCache() throws Exception {
+    JournalSegmentCache cache = new JournalSegmentCache(1, 0, Integer.MAX_VALUE);
+    cache.put(new Indexed<>(1, new TestEntry(8), 8));
+    assertNull(cache.get(1));
+  }
+}
@@ -17,6 +17,7 @@ package io.atomix.storage.journal;
 
 import io.atomix.storage.buffer.Buffer;
 import io.atomix.storage.buffer.FileBuffer;
+import io.atomix.storage.buffer.HeapBuffer;
 import org.junit.After;
 import org.junit.Test;
 
@@ -96,6 +97,74 @@ public class JournalSegmentDescriptorTest {
     assertEquals(descriptor.maxSegmentSize(), 1024 * 1024);
   }
 
+  /**
+   * Tests persisting the segment checksum type.
+   */
+  @Test
+  public void testDescriptorChecksumType() {
+    Buffer buffer = FileBuffer.allocate(file, JournalSegmentDescriptor.BYTES);
+    JournalSegmentDescriptor descriptor = JournalSegmentDescriptor.builder(buffer)
+      .withId(2)
+      .withIndex(1025)
+      .withMaxSegmentSize(1024 * 1024)
+      .withMaxEntries(2048)
+      .withChecksumType(ChecksumType.CRC32C)
+      .build();
+    assertEquals(ChecksumType.CRC32C, descriptor.checksumType());
+    buffer.close();
+
+    descriptor = new JournalSegmentDescriptor(FileBuffer.allocate(file, JournalSegmentDescriptor.BYTES));
+    assertEquals(ChecksumType.CRC32C, descriptor.checksumType());
+    descriptor = descriptor.copyTo(HeapBuffer.allocate(JournalSegmentDescriptor.BYTES));
+    assertEquals(ChecksumType.CRC32C, new JournalSegmentDescriptor(descriptor.buffer().rewind()).checksumType());
+  }
+
+  /**
+   * Tests persisting the segment compression type.
+   */
+  @Test
+  public void testDescriptorCompressionType() {
+    Buffer buffer = FileBuffer.allocate(file, JournalSegmentDescriptor.BYTES);
+    JournalSegmentDescriptor descriptor = JournalSegmentDescriptor.builder(buffer)
+      .withId(2)
+      .withIndex(1025)
+      .withMaxSegmentSize(1024 * 1024)
+      .withMaxEntries(2048)
+      .withChecksumType(ChecksumType.CRC32C)
+      .withCompressionType(CompressionType.DEFLATE)
+      .build();
+    assertEquals(CompressionType.DEFLATE, descriptor.compressionType());
+    assertEquals(ChecksumType.CRC32C, descriptor.checksumType());
+    buffer.close();
+
+    descriptor = new JournalSegmentDescriptor(FileBuffer.allocate(file, JournalSegmentDescriptor.BYTES));
+    assertEquals(CompressionType.DEFLATE, descriptor.compressionType());
+    descriptor = descriptor.copyTo(HeapBuffer.allocate(JournalSegmentDescriptor.BYTES));
+    assertEquals(CompressionType.DEFLATE, new JournalSegmentDescriptor(descriptor.buffer().rewind()).compressionType());
+  }
+
+  /**
+   * Tests reading a version 1 descriptor, which predates the checksum type.
+   */
+  @Test
+  public void testVersion1Descriptor() {
+    Buffer buffer = HeapBuffer.allocate(JournalSegmentDescriptor.BYTES)
+      .writeInt(1)
+      .writeLong(2)
+      .writeLong(1025)
+      .writeInt(1024 * 1024)
+      .writeInt(2048)
+      .writeLong(0)
+      .writeBoolean(false)
+      .writeByte(ChecksumType.CRC32C.id())
+      .rewind();
+    JournalSegmentDescriptor descriptor = new JournalSegmentDescriptor(buffer);
+    assertEquals(1, descriptor.version());
+    assertEquals(1025, descriptor.index());
+    assertEquals(ChecksumType.CRC32, descriptor.checksumType());
+    assertEquals(CompressionType.NONE, descriptor.compressionType());
+  }
+
   /**
    * Tests copying the segment descriptor.
    */
@@ -22,16 +22,23 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.File;
 import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.nio.file.FileVisitResult;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -178,6 +185,466 @@ public class JournalTest {
     assertFalse(reader.hasNext());
   }
 
+  @Test
+  public void testWriteReadMemory() throws Exception {
+    testWriteRead(StorageLevel.MEMORY);
+  }
+
+  @Test
+  public void testWriteReadMapped() throws Exception {
+    testWriteRead(StorageLevel.MAPPED);
+  }
+
+  @Test
+  public void testWriteReadDisk() throws Exception {
+    testWriteRead(StorageLevel.DISK);
+  }
+
+  /**
+   * Writes enough entries to grow the segment buffers and verifies they can be read back and recovered.
+   */
+  private void testWriteRead(StorageLevel storageLevel) throws Exception {
+    SegmentedJournal<TestEntry> journal = createJournal(storageLevel);
+    JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 1; i <= 1000; i++) {
+      assertEquals(i, writer.append(new TestEntry(i)).index());
+    }
+
+    JournalReader<TestEntry> reader = journal.openReader(1);
+    for (int i = 1; i <= 1000; i++) {
+      assertTrue(reader.hasNext());
+      Indexed<TestEntry> indexed = reader.next();
+      assertEquals(i, indexed.index());
+      assertEquals(i, indexed.entry().bytes().length);
+    }
+    assertFalse(reader.hasNext());
+    writer.flush();
+    journal.close();
+
+    if (storageLevel != StorageLevel.MEMORY) {
+      journal = createJournal(storageLevel);
+      assertEquals(1000, journal.writer().getLastIndex());
+      reader = journal.openReader(1);
+      for (int i = 1; i <= 1000; i++) {
+        assertTrue(reader.hasNext());
+        assertEquals(i, reader.next().entry().bytes().length);
+      }
+      assertFalse(reader.hasNext());
+      journal.close();
+    }
+  }
+
+  @Test
+  public void testFastRecoveryMapped() throws Exception {
+    testFastRecovery(StorageLevel.MAPPED);
+  }
+
+  @Test
+  public void testFastRecoveryDisk() throws Exception {
+    testFastRecovery(StorageLevel.DISK);
+  }
+
+  /**
+   * Verifies that sealed segments are recovered from their index files and that modified segments are rescanned.
+   */
+  private void testFastRecovery(StorageLevel storageLevel) throws Exception {
+    SegmentedJournal<TestEntry> journal = createFastRecoveryJournal(storageLevel);
+    JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 1; i <= 100; i++) {
+      writer.append(new TestEntry(i));
+    }
+    writer.flush();
+    journal.close();
+
+    // All but the last segment should have been sealed.
+    File[] indexFiles = PATH.toFile().listFiles(f -> JournalSegmentFile.isIndexFile("test", f));
+    assertEquals(9, indexFiles.length);
+
+    journal = createFastRecoveryJournal(storageLevel);
+    assertEquals(100, journal.writer().getLastIndex());
+    assertEquals(50, journal.getSegment(50).lastIndex());
+    assertEquals(50, journal.getSegment(50).writer().getLastEntry().entry().bytes().length);
+    assertReadable(journal, 100);
+
+    // Truncating a sealed segment should invalidate its index.
+    journal.writer().truncate(55);
+    assertFalse(journal.getSegment(55).file().indexFile().exists());
+    journal.writer().append(new TestEntry(32));
+    journal.writer().flush();
+    journal.close();
+
+    journal = createFastRecoveryJournal(storageLevel);
+    assertEquals(56, journal.writer().getLastIndex());
+    assertEquals(32, journal.writer().getLastEntry().entry().bytes().length);
+    assertReadable(journal, 56);
+    File indexFile = journal.getSegment(5).file().indexFile();
+    assertTrue(indexFile.exists());
+    journal.close();
+
+    // A corrupt index file should fall back to scanning the segment.
+    Files.write(indexFile.toPath(), new byte[]{1, 2, 3, 4});
+    journal = createFastRecoveryJournal(storageLevel);
+    assertEquals(56, journal.writer().getLastIndex());
+    assertEquals(10, journal.getSegment(5).lastIndex());
+    assertFalse(indexFile.exists());
+    assertReadable(journal, 56);
+    journal.close();
+  }
+
+  @Test
+  public void testFastRecoveryFullSegmentMapped() throws Exception {
+    testFastRecoveryFullSegment(StorageLevel.MAPPED);
+  }
+
+  @Test
+  public void testFastRecoveryFullSegmentDisk() throws Exception {
+    testFastRecoveryFullSegment(StorageLevel.DISK);
+  }
+
+  /**
+   * Verifies that segments filled exactly to the maximum segment size are recovered from their index files.
+   */
+  private void testFastRecoveryFullSegment(StorageLevel storageLevel) throws Exception {
+    int entrySize = serializer.encode(new TestEntry(32)).length + Integer.BYTES + Integer.BYTES;
+    SegmentedJournal<TestEntry> journal = createFullSegmentJournal(storageLevel, entrySize);
+    JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 1; i <= 25; i++) {
+      writer.append(new TestEntry(32));
+    }
+    writer.flush();
+    assertEquals(10, journal.getSegment(1).lastIndex());
+    File segmentFile = journal.getSegment(1).file().file();
+    long segmentLength = segmentFile.length();
+    journal.close();
+
+    journal = createFullSegmentJournal(storageLevel, entrySize);
+    assertEquals(25, journal.writer().getLastIndex());
+    assertTrue(journal.getSegment(1).file().indexFile().exists());
+    assertTrue(journal.getSegment(11).file().indexFile().exists());
+    assertEquals(segmentLength, segmentFile.length());
+    assertReadable(journal, 25);
+    journal.close();
+  }
+
+  private SegmentedJournal<TestEntry> createFullSegmentJournal(StorageLevel storageLevel, int entrySize) {
+    return SegmentedJournal.<TestEntry>builder()
+        .withName("test")
+        .withDirectory(PATH.toFile())
+        .withSerializer(serializer)
+        .withStorageLevel(storageLevel)
+        .withMaxSegmentSize(JournalSegmentDescriptor.BYTES + entrySize * 10)
+        .withFastRecovery()
+        .build();
+  }
+
+  private SegmentedJournal<TestEntry> createFastRecoveryJournal(StorageLevel storageLevel) {
+    return SegmentedJournal.<TestEntry>builder()
+        .withName("test")
+        .withDirectory(PATH.toFile())
+        .withSerializer(serializer)
+        .withStorageLevel(storageLevel)
+        .withMaxEntriesPerSegment(10)
+        .withIndexDensity(.2)
+        .withFastRecovery()
+        .build();
+  }
+
+  private void assertReadable(Journal<TestEntry> journal, long lastIndex) {
+    JournalReader<TestEntry> reader = journal.openReader(1);
+    for (long i = 1; i <= lastIndex; i++) {
+      assertTrue(reader.hasNext());
+      Indexed<TestEntry> indexed = reader.next();
+      assertEquals(i, indexed.index());
+      assertTrue(indexed.entry().bytes().length > 0);
+    }
+    assertFalse(reader.hasNext());
+    reader.close();
+  }
+
+  @Test
+  public void testPreallocateSegmentsMapped() throws Exception {
+    testPreallocateSegments(StorageLevel.MAPPED);
+  }
+
+  @Test
+  public void testPreallocateSegmentsDisk() throws Exception {
+    testPreallocateSegments(StorageLevel.DISK);
+  }
+
+  /**
+   * Verifies that entries can be written to and recovered from pre-allocated segments.
+   */
+  private void testPreallocateSegments(StorageLevel storageLevel) throws Exception {
+    SegmentedJournal<TestEntry> journal = createPreallocatedJournal(storageLevel);
+    JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 1; i <= 100; i++) {
+      writer.append(new TestEntry(i));
+    }
+    writer.flush();
+    assertTrue(journal.getLastSegment().descriptor().id() > 1);
+    assertReadable(journal, 100);
+    journal.close();
+    assertFalse(JournalSegmentFile.createPreallocatedFile("test", PATH.toFile()).exists());
+
+    journal = createPreallocatedJournal(storageLevel);
+    assertEquals(100, journal.writer().getLastIndex());
+    assertReadable(journal, 100);
+    journal.close();
+  }
+
+  private SegmentedJournal<TestEntry> createPreallocatedJournal(StorageLevel storageLevel) {
+    return SegmentedJournal.<TestEntry>builder()
+        .withName("test")
+        .withDirectory(PATH.toFile())
+        .withSerializer(serializer)
+        .withStorageLevel(storageLevel)
+        .withMaxSegmentSize(1024 * 2)
+        .withPreallocateSegments()
+        .build();
+  }
+
+  @Test
+  public void testChecksumTypeMigration() throws Exception {
+    SegmentedJournal<TestEntry> journal = createChecksumJournal(ChecksumType.CRC32);
+    for (int i = 1; i <= 15; i++) {
+      journal.writer().append(new TestEntry(i));
+    }
+    journal.writer().flush();
+    journal.close();
+
+    // Segments written with the previous checksum type should remain readable.
+    journal = createChecksumJournal(ChecksumType.CRC32C);
+    assertEquals(15, journal.writer().getLastIndex());
+    for (int i = 16; i <= 30; i++) {
+      journal.writer().append(new TestEntry(i));
+    }
+    assertEquals(ChecksumType.CRC32, journal.getSegment(15).descriptor().checksumType());
+    assertEquals(ChecksumType.CRC32C, journal.getLastSegment().descriptor().checksumType());
+    journal.writer().flush();
+    journal.close();
+
+    journal = createChecksumJournal(ChecksumType.CRC32C);
+    assertEquals(30, journal.writer().getLastIndex());
+    assertReadable(journal, 30);
+    journal.close();
+  }
+
+  private SegmentedJournal<TestEntry> createChecksumJournal(ChecksumType checksumType) {
+    return SegmentedJournal.<TestEntry>builder()
+        .withName("test")
+        .withDirectory(PATH.toFile())
+        .withSerializer(serializer)
+        .withStorageLevel(StorageLevel.DISK)
+        .withMaxEntriesPerSegment(10)
+        .withChecksumType(checksumType)
+        .build();
+  }
+
+  @Test
+  public void testCompressedJournal() throws Exception {
+    byte[] random = new byte[1024];
+    new Random().nextBytes(random);
+
+    SegmentedJournal<TestEntry> journal = createCompressedJournal();
+    JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 1; i <= 30; i++) {
+      TestEntry entry = i % 3 == 0 ? new TestEntry(random) : new TestEntry(i * 64);
+      Indexed<TestEntry> indexed = writer.append(entry);
+      int length = serializer.encode(entry).length;
+      if (i % 3 == 0 || length < 256) {
+        assertEquals(length + 1, indexed.size());
+      } else {
+        assertTrue(indexed.size() < length);
+      }
+    }
+    assertEquals(CompressionType.DEFLATE, journal.getLastSegment().descriptor().compressionType());
+    writer.flush();
+    journal.close();
+
+    journal = createCompressedJournal();
+    assertEquals(30, journal.writer().getLastIndex());
+    assertArrayEquals(random, journal.writer().getLastEntry().entry().bytes());
+    JournalReader<TestEntry> reader = journal.openReader(1);
+    for (int i = 1; i <= 30; i++) {
+      assertTrue(reader.hasNext());
+      Indexed<TestEntry> indexed = reader.next();
+      assertEquals(i, indexed.index());
+      if (i % 3 == 0) {
+        assertArrayEquals(random, indexed.entry().bytes());
+      } else {
+        assertEquals(i * 64, indexed.entry().bytes().length);
+      }
+    }
+    assertFalse(reader.hasNext());
+
+    // Entries written after a truncation should be readable.
+    journal.writer().truncate(20);
+    journal.writer().append(new TestEntry(2048));
+    reader.reset(21);
+    assertEquals(2048, reader.next().entry().bytes().length);
+    reader.close();
+    journal.close();
+  }
+
+  @Test
+  public void testCompressionThresholdSmallEntries() throws Exception {
+    SegmentedJournal<TestEntry> journal = createCompressedJournal(0);
+    JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 1; i <= 30; i++) {
+      TestEntry entry = new TestEntry(i % 4);
+      Indexed<TestEntry> indexed = writer.append(entry);
+      assertEquals(serializer.encode(entry).length + 1, indexed.size());
+    }
+    writer.flush();
+    journal.close();
+
+    journal = createCompressedJournal(0);
+    JournalReader<TestEntry> reader = journal.openReader(1);
+    for (int i = 1; i <= 30; i++) {
+      assertTrue(reader.hasNext());
+      Indexed<TestEntry> indexed = reader.next();
+      assertEquals(i, indexed.index());
+      assertEquals(i % 4, indexed.entry().bytes().length);
+    }
+    assertFalse(reader.hasNext());
+    reader.close();
+    journal.close();
+  }
+
+  private SegmentedJournal<TestEntry> createCompressedJournal() {
+    return createCompressedJournal(JournalSegmentCompressor.DEFAULT_THRESHOLD);
+  }
+
+  private SegmentedJournal<TestEntry> createCompressedJournal(int compressionThreshold) {
+    return SegmentedJournal.<TestEntry>builder()
+        .withName("test")
+        .withDirectory(PATH.toFile())
+        .withSerializer(serializer)
+        .withStorageLevel(StorageLevel.DISK)
+        .withMaxEntriesPerSegment(10)
+        .withCompressionType(CompressionType.DEFLATE)
+        .withCompressionThreshold(compressionThreshold)
+        .build();
+  }
+
+  @Test
+  public void testLazyEntry() throws Exception {
+    byte[] bytes = serializer.encode(new TestEntry(32));
+    Indexed<TestEntry> indexed = new Indexed<>(1, bytes, serializer);
+    assertEquals(1, indexed.index());
+    assertEquals(bytes.length, indexed.size());
+    assertEquals(32, indexed.entry().bytes().length);
+    assertTrue(indexed.entry() == indexed.entry());
+  }
+
+  @Test
+  public void testReadEntryBytesMapped() throws Exception {
+    testReadEntryBytes(StorageLevel.MAPPED);
+  }
+
+  @Test
+  public void testReadEntryBytesDisk() throws Exception {
+    testReadEntryBytes(StorageLevel.DISK);
+  }
+
+  /**
+   * Verifies that entries read from segments expose their serialized bytes.
+   */
+  private void testReadEntryBytes(StorageLevel storageLevel) throws Exception {
+    SegmentedJournal<TestEntry> journal = createJournal(storageLevel);
+    JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 1; i <= 10; i++) {
+      assertNull(writer.append(new TestEntry(i)).bytes());
+    }
+    writer.flush();
+    journal.close();
+
+    // Reopen the journal to ensure entries are read from the segment rather than the cache.
+    journal = createJournal(storageLevel);
+    JournalReader<TestEntry> reader = journal.openReader(1);
+    for (int i = 1; i <= 10; i++) {
+      Indexed<TestEntry> indexed = reader.next();
+      ByteBuffer bytes = indexed.bytes();
+      assertEquals(indexed.size(), bytes.remaining());
+      byte[] array = new byte[bytes.remaining()];
+      bytes.get(array);
+      assertArrayEquals(serializer.encode(new TestEntry(i)), array);
+      assertEquals(i, indexed.entry().bytes().length);
+    }
+    journal.close();
+  }
+
+  @Test
+  public void testReadEntryAfterTruncateMapped() throws Exception {
+    testReadEntryAfterTruncate(StorageLevel.MAPPED);
+  }
+
+  @Test
+  public void testReadEntryAfterTruncateDisk() throws Exception {
+    testReadEntryAfterTruncate(StorageLevel.DISK);
+  }
+
+  /**
+   * Verifies that entries read from segments are unaffected by the segment being overwritten and closed.
+   */
+  private void testReadEntryAfterTruncate(StorageLevel storageLevel) throws Exception {
+    SegmentedJournal<TestEntry> journal = createJournal(storageLevel);
+    JournalWriter<TestEntry> writer = journal.writer();
+    for (int i = 1; i <= 10; i++) {
+      writer.append(new TestEntry(i));
+    }
+    writer.flush();
+    journal.close();
+
+    // Reopen the journal to ensure entries are read from the segment rather than the cache.
+    journal = createJournal(storageLevel);
+    JournalReader<TestEntry> reader = journal.openReader(1);
+    List<Indexed<TestEntry>> entries = new ArrayList<>();
+    for (int i = 1; i <= 10; i++) {
+      entries.add(reader.next());
+    }
+
+    // Overwrite the entries with entries of different sizes and close the segments.
+    writer = journal.writer();
+    writer.truncate(0);
+    for (int i = 1; i <= 10; i++) {
+      writer.append(new TestEntry(64 + i));
+    }
+    writer.flush();
+    journal.close();
+
+    for (int i = 1; i <= 10; i++) {
+      Indexed<TestEntry> indexed = entries.get(i - 1);
+      ByteBuffer bytes = indexed.bytes();
+      byte[] array = new byte[bytes.remaining()];
+      bytes.get(array);
+      assertArrayEquals(serializer.encode(new TestEntry(i)), array);
+      assertEquals(i, indexed.entry().bytes().length);
+    }
+  }
+
+  @Test
+  public void testUnflushedBytes() throws Exception {
+    SegmentedJournal<TestEntry> journal = createJournal(StorageLevel.DISK);
+    SegmentedJournalWriter<TestEntry> writer = journal.writer();
+    assertEquals(0, writer.getUnflushedBytes());
+
+    Indexed<TestEntry> indexed = writer.append(new TestEntry(32));
+    assertEquals(indexed.size() + 8, writer.getUnflushedBytes());
+    writer.append(new TestEntry(32));
+    assertEquals((indexed.size() + 8) * 2, writer.getUnflushedBytes());
+
+    writer.flush();
+    assertEquals(0, writer.getUnflushedBytes());
+    assertFalse(journal.getLastSegment().writer().isDirty());
+
+    writer.truncate(1);
+    assertTrue(journal.getLastSegment().writer().isDirty());
+    writer.flush();
+    assertFalse(journal.getLastSegment().writer().isDirty());
+    journal.close();
+  }
+
   @Before
   @After
   public void cleanupStorage() throws IOException {
@@ -70,6 +70,8 @@ import io.atomix.protocols.raft.protocol.QueryResponse;
 import io.atomix.protocols.raft.protocol.RaftClientProtocol;
 import io.atomix.protocols.raft.protocol.RaftResponse;
 import io.atomix.protocols.raft.protocol.RaftServerProtocol;
+import io.atomix.protocols.raft.protocol.ReadIndexRequest;
+import io.atomix.protocols.raft.protocol.ReadIndexResponse;
 import io.atomix.protocols.raft.protocol.ReconfigureRequest;
 import io.atomix.protocols.raft.protocol.ReconfigureResponse;
 import io.atomix.protocols.raft.protocol.ResetRequest;
@@ -205,6 +207,8 @@ public class RaftFuzzTest implements Runnable {
       .register(RaftMember.Type.class)
       .register(Instant.class)
       .register(Configuration.class)
+      .register(ReadIndexRequest.class)
+      .register(ReadIndexResponse.class)
       .build());
 
   private static final Serializer storageSerializer = Serializer.using(KryoNamespace.builder()
@@ -400,6 +404,7 @@ public class RaftFuzzTest implements Runnable {
                           index.set(result);
                         }
                       case SEQUENTIAL:
+                      case BOUNDED_STALENESS:
                         Long lastSequentialIndex = indexes.get(clientId);
                         if (lastSequentialIndex == null) {
                           indexes.put(clientId, result);
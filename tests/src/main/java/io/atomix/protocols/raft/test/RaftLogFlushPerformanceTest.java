@@ -0,0 +1,64 @@
+/*
+ * Copyright 2018-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.protocols.raft.test;
+
+import io.atomix.storage.StorageLevel;
+
+import java.time.Duration;
+
+/**
+ * Raft log flush performance test.
+ * <p>
+ * Compares the write throughput of a Raft cluster whose leader flushes its log each time the commit index advances
+ * to a cluster whose leader groups commits into a single flush within the configured
+ * {@link io.atomix.protocols.raft.storage.RaftStorage.Builder#withMaxFlushDelay(Duration) flush delay} and
+ * {@link io.atomix.protocols.raft.storage.RaftStorage.Builder#withMaxFlushBytes(int) flush size}.
+ */
+public class RaftLogFlushPerformanceTest implements Runnable {
+
+  private static final int TOTAL_OPERATIONS = 100000;
+  private static final StorageLevel STORAGE_LEVEL = StorageLevel.DISK;
+  private static final Duration MAX_FLUSH_DELAY = Duration.ofMillis(2);
+  private static final int MAX_FLUSH_BYTES = 1024 * 1024;
+
+  /**
+   * Runs the test.
+   */
+  public static void main(String[] args) {
+    new RaftLogFlushPerformanceTest().run();
+  }
+
+  @Override
+  public void run() {
+    try {
+      long perCommit = runIteration(Duration.ZERO);
+      long grouped = runIteration(MAX_FLUSH_DELAY);
+      System.out.println(String.format("per-commit flush: %d writes/sec", perCommit));
+      System.out.println(String.format("group commit flush: %d writes/sec", grouped));
+    } catch (Exception e) {
+      e.printStackTrace();
+    }
+  }
+
+  /**
+   * Runs a single iteration with the given maximum flush delay, returning the number of writes per second.
+   */
+  private long runIteration(Duration maxFlushDelay) throws Exception {
+    long runTime = new RaftPerformanceTest(TOTAL_OPERATIONS, STORAGE_LEVEL, maxFlushDelay, MAX_FLUSH_BYTES)
+        .runIterations();
+    return TOTAL_OPERATIONS * 1000L / Math.max(runTime, 1);
+  }
+}
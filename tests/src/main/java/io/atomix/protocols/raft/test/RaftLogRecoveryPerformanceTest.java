@@ -0,0 +1,153 @@
+/*
+ * Copyright 2018-present Open Networking Foundation
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package io.atomix.protocols.raft.test;
+
+import io.atomix.primitive.operation.OperationId;
+import io.atomix.primitive.operation.OperationType;
+import io.atomix.primitive.operation.PrimitiveOperation;
+import io.atomix.primitive.operation.impl.DefaultOperationId;
+import io.atomix.protocols.raft.storage.log.RaftLog;
+import io.atomix.protocols.raft.storage.log.RaftLogWriter;
+import io.atomix.protocols.raft.storage.log.entry.CommandEntry;
+import io.atomix.storage.StorageLevel;
+import io.atomix.utils.serializer.KryoNamespace;
+import io.atomix.utils.serializer.Serializer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Raft log recovery performance test.
+ * <p>
+ * Writes a log spanning a number of segments and compares the time taken to reopen the log by scanning every
+ * segment to the time taken to reopen the log from persisted segment indexes.
+ */
+public class RaftLogRecoveryPerformanceTest implements Runnable {
+
+  private static final int TOTAL_SEGMENTS = 64;
+  private static final int MAX_SEGMENT_SIZE = 1024 * 1024 * 4;
+  private static final int ENTRY_SIZE = 256;
+  private static final int ITERATIONS = 5;
+
+  private static final Serializer storageSerializer = Serializer.using(KryoNamespace.builder()
+      .register(CommandEntry.class)
+      .register(PrimitiveOperation.class)
+      .register(DefaultOperationId.class)
+      .register(OperationType.class)
+      .register(byte[].class)
+      .build());
+
+  /**
+   * Runs the test.
+   */
+  public static void main(String[] args) {
+    new RaftLogRecoveryPerformanceTest().run();
+  }
+
+  private final File directory = new File("target/perf-logs/recovery");
+
+  @Override
+  public void run() {
+    try {
+      deleteDirectory(directory.toPath());
+      long lastIndex = writeLog();
+      System.out.println(String.format("wrote %d entries", lastIndex));
+
+      // Opening the log without fast recovery discards the segment indexes, so measure index recovery first.
+      for (int i = 0; i < ITERATIONS; i++) {
+        System.out.println(String.format("index recovery: %dms", openLog(true, lastIndex)));
+      }
+      for (int i = 0; i < ITERATIONS; i++) {
+        System.out.println(String.format("scan recovery: %dms", openLog(false, lastIndex)));
+      }
+      deleteDirectory(directory.toPath());
+    } catch (Exception e) {
+      e.printStackTrace();
+    }
+  }
+
+  /**
+   * Creates a new log.
+   */
+  private RaftLog createLog(boolean fastRecovery) {
+    return RaftLog.builder()
+        .withName("recovery")
+        .withDirectory(directory)
+        .withStorageLevel(StorageLevel.DISK)
+        .withSerializer(storageSerializer)
+        .withMaxSegmentSize(MAX_SEGMENT_SIZE)
+        .withFastRecovery(fastRecovery)
+        .build();
+  }
+
+  /**
+   * Writes the log, returning the last index written.
+   */
+  private long writeLog() {
+    RaftLog log = createLog(true);
+    RaftLogWriter writer = log.writer();
+    PrimitiveOperation operation = new PrimitiveOperation(OperationId.command("write"), new byte[ENTRY_SIZE]);
+    long entriesPerSegment = MAX_SEGMENT_SIZE / (ENTRY_SIZE + 64);
+    long index = 0;
+    for (long i = 0; i < entriesPerSegment * TOTAL_SEGMENTS; i++) {
+      index = writer.append(new CommandEntry(1, System.currentTimeMillis(), 1, i, operation)).index();
+    }
+    writer.flush();
+    log.close();
+    return index;
+  }
+
+  /**
+   * Opens the log, returning the time taken to open the log in milliseconds.
+   */
+  private long openLog(boolean fastRecovery, long lastIndex) {
+    long startTime = System.nanoTime();
+    RaftLog log = createLog(fastRecovery);
+    long runTime = System.nanoTime() - startTime;
+    if (log.writer().getLastIndex() != lastIndex) {
+      throw new AssertionError("Expected last index " + lastIndex + " but was " + log.writer().getLastIndex());
+    }
+    log.close();
+    return TimeUnit.NANOSECONDS.toMillis(runTime);
+  }
+
+  /**
+   * Recursively deletes the given directory.
+   */
+  private void deleteDirectory(Path directory) throws IOException {
+    if (Files.exists(directory)) {
+      Files.walkFileTree(directory, new SimpleFileVisitor<Path>() {
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) throws IOException {
+          Files.delete(file);
+          return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult postVisitDirectory(Path dir, IOException exc) throws IOException {
+          Files.delete(dir);
+          return FileVisitResult.CONTINUE;
+        }
+      });
+    }
+  }
+}
@@ -22,7 +22,6 @@ import io.atomix.cluster.MemberId;
 import io.atomix.cluster.impl.DefaultClusterMembershipService;
 import io.atomix.messaging.BroadcastService;
 import io.atomix.messaging.ManagedMessagingService;
-import io.atomix.messaging.MessagingService;
 import io.atomix.messaging.impl.NettyMessagingService;
 import io.atomix.primitive.DistributedPrimitiveBuilder;
 import io.atomix.primitive.PrimitiveConfig;
@@ -77,6 +76,8 @@ import io.atomix.protocols.raft.protocol.QueryResponse;
 import io.atomix.protocols.raft.protocol.RaftClientProtocol;
 import io.atomix.protocols.raft.protocol.RaftResponse;
 import io.atomix.protocols.raft.protocol.RaftServerProtocol;
+import io.atomix.protocols.raft.protocol.ReadIndexRequest;
+import io.atomix.protocols.raft.protocol.ReadIndexResponse;
 import io.atomix.protocols.raft.protocol.ReconfigureRequest;
 import io.atomix.protocols.raft.protocol.ReconfigureResponse;
 import io.atomix.protocols.raft.protocol.ResetRequest;
@@ -111,6 +112,7 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.SimpleFileVisitor;
 import java.nio.file.attribute.BasicFileAttributes;
+import java.time.Duration;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Collections;
@@ -148,6 +150,10 @@ public class RaftPerformanceTest implements Runnable {
   private static final ReadConsistency READ_CONSISTENCY = ReadConsistency.LINEARIZABLE;
   private static final CommunicationStrategy COMMUNICATION_STRATEGY = CommunicationStrategy.ANY;
 
+  private static final StorageLevel STORAGE_LEVEL = StorageLevel.MAPPED;
+  private static final Duration MAX_FLUSH_DELAY = Duration.ZERO;
+  private static final int MAX_FLUSH_BYTES = 1024 * 1024;
+
   /**
    * Runs the test.
    */
@@ -217,6 +223,8 @@ public class RaftPerformanceTest implements Runnable {
       .register(RaftMember.Type.class)
       .register(Instant.class)
       .register(Configuration.class)
+      .register(ReadIndexRequest.class)
+      .register(ReadIndexResponse.class)
       .build());
 
   private static final Serializer storageSerializer = Serializer.using(KryoNamespace.builder()
@@ -263,6 +271,10 @@ public class RaftPerformanceTest implements Runnable {
   private final AtomicInteger totalOperations = new AtomicInteger();
   private final AtomicInteger writeCount = new AtomicInteger();
   private final AtomicInteger readCount = new AtomicInteger();
+  private final int operations;
+  private final StorageLevel storageLevel;
+  private final Duration maxFlushDelay;
+  private final int maxFlushBytes;
 
   static {
     for (int i = 0; i < 1024; i++) {
@@ -270,25 +282,47 @@ public class RaftPerformanceTest implements Runnable {
     }
   }
 
+  public RaftPerformanceTest() {
+    this(TOTAL_OPERATIONS, STORAGE_LEVEL, MAX_FLUSH_DELAY, MAX_FLUSH_BYTES);
+  }
+
+  /**
+   * Creates a performance test with the given storage configuration.
+   *
+   * @param operations the total number of operations to submit per iteration
+   * @param storageLevel the servers' storage level
+   * @param maxFlushDelay the servers' maximum log flush delay
+   * @param maxFlushBytes the servers' maximum number of bytes to write between log flushes
+   */
+  RaftPerformanceTest(int operations, StorageLevel storageLevel, Duration maxFlushDelay, int maxFlushBytes) {
+    this.operations = operations;
+    this.storageLevel = storageLevel;
+    this.maxFlushDelay = maxFlushDelay;
+    this.maxFlushBytes = maxFlushBytes;
+  }
+
   @Override
   public void run() {
-    for (int i = 0; i < ITERATIONS; i++) {
-      try {
-        iterations.add(runIteration());
-      } catch (Exception e) {
-        e.printStackTrace();
-        return;
-      }
+    try {
+      long averageRunTime = runIterations();
+      System.out.println("Completed " + ITERATIONS + " iterations");
+      System.out.println(String.format("averageRunTime: %dms", averageRunTime));
+    } catch (Exception e) {
+      e.printStackTrace();
     }
+  }
 
-    System.out.println("Completed " + ITERATIONS + " iterations");
-    long averageRunTime = (long) iterations.stream().mapToLong(v -> v).average().getAsDouble();
-    System.out.println(String.format("averageRunTime: %dms", averageRunTime));
-
+  /**
+   * Runs all test iterations, returning the average iteration run time.
+   */
+  long runIterations() throws Exception {
     try {
+      for (int i = 0; i < ITERATIONS; i++) {
+        iterations.add(runIteration());
+      }
+      return (long) iterations.stream().mapToLong(v -> v).average().getAsDouble();
+    } finally {
       shutdown();
-    } catch (Exception e) {
-      e.printStackTrace();
     }
   }
 
@@ -320,9 +354,9 @@ public class RaftPerformanceTest implements Runnable {
     long runTime = endTime - startTime;
     System.out.println(String.format("readCount: %d/%d, writeCount: %d/%d, runTime: %dms",
         readCount.get(),
-        TOTAL_OPERATIONS,
+        operations,
         writeCount.get(),
-        TOTAL_OPERATIONS,
+        operations,
         runTime));
     return runTime;
   }
@@ -332,7 +366,7 @@ public class RaftPerformanceTest implements Runnable {
    */
   private void runProxy(PartitionProxy proxy, CompletableFuture<Void> future) {
     int count = totalOperations.incrementAndGet();
-    if (count > TOTAL_OPERATIONS) {
+    if (count > operations) {
       future.complete(null);
     } else if (count % 10 < WRITE_RATIO) {
       proxy.execute(operation(PUT, clientSerializer.encode(Maps.immutableEntry(randomKey(), UUID.randomUUID().toString()))))
@@ -392,7 +426,7 @@ public class RaftPerformanceTest implements Runnable {
 
     messagingServices.forEach(m -> {
       try {
-        m.stop();
+        m.stop().get(10, TimeUnit.SECONDS);
       } catch (Exception e) {
       }
     });
@@ -493,11 +527,13 @@ public class RaftPerformanceTest implements Runnable {
             new BroadcastServiceAdapter(),
             new GroupMembershipConfig()))
         .withStorage(RaftStorage.builder()
-            .withStorageLevel(StorageLevel.MAPPED)
+            .withStorageLevel(storageLevel)
             .withDirectory(new File(String.format("target/perf-logs/%s", member.id())))
             .withSerializer(storageSerializer)
             .withMaxEntriesPerSegment(32768)
             .withMaxSegmentSize(1024 * 1024)
+            .withMaxFlushDelay(maxFlushDelay)
+            .withMaxFlushBytes(maxFlushBytes)
             .build())
         .addPrimitiveType(TestPrimitiveType.INSTANCE);
 
@@ -514,7 +550,12 @@ public class RaftPerformanceTest implements Runnable {
 
     RaftClientProtocol protocol;
     if (USE_NETTY) {
-      MessagingService messagingService = NettyMessagingService.builder().withAddress(member.address()).build().start().join();
+      ManagedMessagingService messagingService = (ManagedMessagingService) NettyMessagingService.builder()
+          .withAddress(member.address())
+          .build()
+          .start()
+          .join();
+      messagingServices.add(messagingService);
       protocol = new RaftClientMessagingProtocol(messagingService, protocolSerializer, addressMap::get);
     } else {
       protocol = protocolFactory.newClientProtocol(member.id());
@@ -47,6 +47,8 @@ import io.atomix.protocols.raft.protocol.RaftServerProtocol;
 import io.atomix.protocols.raft.protocol.ReconfigureRequest;
 import io.atomix.protocols.raft.protocol.ReconfigureResponse;
 import io.atomix.protocols.raft.protocol.ResetRequest;
+import io.atomix.protocols.raft.protocol.ReadIndexRequest;
+import io.atomix.protocols.raft.protocol.ReadIndexResponse;
 import io.atomix.protocols.raft.protocol.TransferRequest;
 import io.atomix.protocols.raft.protocol.TransferResponse;
 import io.atomix.protocols.raft.protocol.VoteRequest;
@@ -129,6 +131,11 @@ public class RaftServerMessagingProtocol extends RaftMessagingProtocol implement
     return sendAndReceive(memberId, "transfer", request);
   }
 
+  @Override
+  public CompletableFuture<ReadIndexResponse> readIndex(MemberId memberId, ReadIndexRequest request) {
+    return sendAndReceive(memberId, "read-index", request);
+  }
+
   @Override
   public CompletableFuture<PollResponse> poll(MemberId memberId, PollRequest request) {
     return sendAndReceive(memberId, "poll", request);
@@ -274,6 +281,16 @@ public class RaftServerMessagingProtocol extends RaftMessagingProtocol implement
     unregisterHandler("transfer");
   }
 
+  @Override
+  public void registerReadIndexHandler(Function<ReadIndexRequest, CompletableFuture<ReadIndexResponse>> handler) {
+    registerHandler("read-index", handler);
+  }
+
+  @Override
+  public void unregisterReadIndexHandler() {
+    unregisterHandler("read-index");
+  }
+
   @Override
   public void registerPollHandler(Function<PollRequest, CompletableFuture<PollResponse>> handler) {
     registerHandler("poll", handler);
@@ -34,6 +34,7 @@ import org.slf4j.Logger;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.BufferOverflowException;
 import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -335,13 +336,20 @@ public final class KryoNamespace implements Namespace, KryoFactory, KryoPool {
    *
    * @param obj    Object to serialize
    * @param buffer to write to
+   * @throws BufferOverflowException if the serialized object does not fit in the buffer
    */
   public void serialize(final Object obj, final ByteBuffer buffer) {
-    ByteBufferOutput out = new ByteBufferOutput(buffer);
+    BoundedByteBufferOutput out = new BoundedByteBufferOutput(buffer);
     Kryo kryo = borrow();
     try {
       kryo.writeClassAndObject(out, obj);
       out.flush();
+    } catch (RuntimeException e) {
+      // Serializers may wrap the overflow in a KryoException, so check the output rather than the exception.
+      if (out.overflowed) {
+        throw new BufferOverflowException();
+      }
+      throw e;
     } finally {
       release(kryo);
     }
@@ -566,6 +574,26 @@ public final class KryoNamespace implements Namespace, KryoFactory, KryoPool {
         .toString();
   }
 
+  /**
+   * Byte buffer output that records whether a write exceeded the capacity of the underlying buffer.
+   */
+  private static final class BoundedByteBufferOutput extends ByteBufferOutput {
+    private boolean overflowed;
+
+    BoundedByteBufferOutput(ByteBuffer buffer) {
+      super(buffer);
+    }
+
+    @Override
+    protected boolean require(int required) {
+      if (required > maxCapacity - position) {
+        overflowed = true;
+        throw new BufferOverflowException();
+      }
+      return super.require(required);
+    }
+  }
+
   static final class RegistrationBlock {
     private final int begin;
     private final ImmutableList<Pair<Class<?>[], Serializer<?>>> types;
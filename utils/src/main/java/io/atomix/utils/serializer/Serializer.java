@@ -16,6 +16,8 @@
 
 package io.atomix.utils.serializer;
 
+import java.nio.ByteBuffer;
+
 /**
  * Interface for serialization of store artifacts.
  */
@@ -39,6 +41,34 @@ public interface Serializer {
    */
   <T> T decode(byte[] bytes);
 
+  /**
+   * Serialize the specified object into the given buffer.
+   * <p>
+   * The object is written starting at the buffer's current position, and the position is advanced by the number
+   * of bytes written.
+   *
+   * @param object object to serialize.
+   * @param buffer buffer to which to write the serialized bytes.
+   * @param <T>    encoded type
+   * @throws java.nio.BufferOverflowException if the serialized object does not fit in the buffer's remaining bytes
+   */
+  default <T> void encode(T object, ByteBuffer buffer) {
+    buffer.put(encode(object));
+  }
+
+  /**
+   * Deserialize the remaining bytes of the specified buffer.
+   *
+   * @param buffer buffer to deserialize.
+   * @param <T>    decoded type
+   * @return deserialized object.
+   */
+  default <T> T decode(ByteBuffer buffer) {
+    byte[] bytes = new byte[buffer.remaining()];
+    buffer.get(bytes);
+    return decode(bytes);
+  }
+
   /**
    * Creates a new Serializer instance from a Namespace.
    *
@@ -56,6 +86,16 @@ public interface Serializer {
       public <T> T decode(byte[] bytes) {
         return namespace.deserialize(bytes);
       }
+
+      @Override
+      public <T> void encode(T object, ByteBuffer buffer) {
+        namespace.serialize(object, buffer);
+      }
+
+      @Override
+      public <T> T decode(ByteBuffer buffer) {
+        return namespace.deserialize(buffer);
+      }
     };
   }
 